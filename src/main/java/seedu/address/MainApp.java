@@ -22,6 +22,7 @@ import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindStorage;
 import seedu.address.storage.elderly.ElderlyStorage;
 import seedu.address.storage.elderly.JsonElderlyStorage;
 import seedu.address.storage.pair.JsonPairStorage;
@@ -69,7 +70,8 @@ public class MainApp extends Application {
     private void initializeAppManagers(
             UserPrefsStorage userPrefsStorage, UserPrefs userPrefs, PairStorage pairStorage,
             ElderlyStorage elderlyStorage, VolunteerStorage volunteerStorage) {
-        storage = new StorageManager(pairStorage, elderlyStorage, volunteerStorage, userPrefsStorage);
+        storage = new WriteBehindStorage(
+                new StorageManager(pairStorage, elderlyStorage, volunteerStorage, userPrefsStorage));
         model = new ModelManager(storage, userPrefs);
         logic = new LogicManager(model, storage);
         ui = new UiManager(logic);
@@ -161,5 +163,10 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
     }
 }
@@ -1,6 +1,19 @@
 package seedu.address.commons.util;
 
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
@@ -11,6 +24,8 @@ import java.nio.file.Paths;
  */
 public class FileUtil {
 
+    static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
     private static final String CHARSET = "UTF-8";
 
     /**
@@ -95,13 +110,70 @@ public class FileUtil {
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The file is replaced atomically, see {@link #writeAtomically(Path, ContentWriter)}.
      *
      * @param file Location of the file.
      * @param content Content to write.
      * @throws IOException If writing fails.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        writeAtomically(file, out -> out.write(content.getBytes(CHARSET)));
+    }
+
+    /**
+     * Writes to a file through {@code writer} without ever leaving the file partially written.
+     * The content is written to a temporary file next to {@code file} and forced to the disk, before the
+     * temporary file is moved over {@code file}. If the move cannot be done atomically, the file is replaced
+     * with a regular move instead.
+     * Will create the file if it does not exist yet.
+     *
+     * @param file Location of the file.
+     * @param writer Writes the content of the file. The stream it is given must not be closed by it.
+     * @throws IOException If writing fails, in which case {@code file} is left unchanged.
+     */
+    public static void writeAtomically(Path file, ContentWriter writer) throws IOException {
+        Path temporaryFile = file.resolveSibling(file.getFileName() + TEMPORARY_FILE_SUFFIX);
+        try (FileChannel channel = FileChannel.open(temporaryFile, CREATE, WRITE, TRUNCATE_EXISTING)) {
+            OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel));
+            writer.write(out);
+            out.flush();
+            channel.force(true);
+        } catch (IOException e) {
+            Files.deleteIfExists(temporaryFile);
+            throw e;
+        }
+
+        try {
+            Files.move(temporaryFile, file, ATOMIC_MOVE, REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temporaryFile, file, REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Appends given string to a file and forces it to the disk before returning.
+     * Will create the file if it does not exist yet.
+     *
+     * @param file Location of the file.
+     * @param content Content to append.
+     * @throws IOException If appending fails.
+     */
+    public static void appendToFile(Path file, String content) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(content.getBytes(CHARSET));
+        try (FileChannel channel = FileChannel.open(file, CREATE, WRITE, APPEND)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Writes the content of a file.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void write(OutputStream out) throws IOException;
     }
 
 }
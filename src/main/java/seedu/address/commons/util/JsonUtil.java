@@ -1,20 +1,34 @@
 package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
@@ -22,12 +36,16 @@ import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
  */
 public class JsonUtil {
 
+    public static final String JSON_LINE_SEPARATOR = "\n";
+    public static final String JSON_LINES_COMMIT_KEY = "commit";
+
     private static final Logger logger = LogsCenter.getLogger(JsonUtil.class);
 
     private static final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
@@ -39,6 +57,10 @@ public class JsonUtil {
                     .addSerializer(Level.class, new ToStringSerializer())
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
+    // records are written into a buffered stream, so flushing after each one would defeat the buffering
+    private static final ObjectWriter recordWriter =
+            objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
         FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
     }
@@ -93,6 +115,197 @@ public class JsonUtil {
         serializeObjectToJsonFile(filePath, jsonFile);
     }
 
+    /**
+     * Reads the records of the array field {@code arrayName} of the Json object in the given file one at a time,
+     * passing each record to {@code consumer} as soon as it has been read.
+     * Other fields of the Json object are skipped, and a missing array field is treated as an empty array.
+     *
+     * @param filePath Location of the file.
+     * @param arrayName Name of the field holding the records.
+     * @param recordClass Each record has to correspond to the structure in the class given here.
+     * @param consumer Consumer of the records read.
+     * @return False if the file is not found, and true otherwise.
+     * @throws DataConversionException If the file format is not as expected.
+     * @throws IllegalValueException If {@code consumer} rejects a record.
+     */
+    public static <E> boolean readJsonArrayFile(Path filePath, String arrayName, Class<E> recordClass,
+            RecordConsumer<E> consumer) throws DataConversionException, IllegalValueException {
+        requireAllNonNull(filePath, arrayName, recordClass, consumer);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
+            return false;
+        }
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(
+                new BufferedInputStream(Files.newInputStream(filePath)))) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a Json object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if (!fieldName.equals(arrayName) || value == JsonToken.VALUE_NULL) {
+                    parser.skipChildren();
+                    continue;
+                }
+                if (value != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Expected an array of " + arrayName);
+                }
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    consumer.accept(objectMapper.readValue(parser, recordClass));
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+        return true;
+    }
+
+    /**
+     * Saves {@code records} as the array field {@code arrayName} of a Json object in the specified file,
+     * converting and writing the records one at a time.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     * The file is replaced atomically, so a failed save leaves the existing file intact.
+     *
+     * @param filePath Location of the file.
+     * @param arrayName Name of the field holding the records.
+     * @param records Records to save.
+     * @param toJsonRecord Converts a record into its Jackson-friendly form.
+     * @throws IOException If there was an error during writing to the file.
+     */
+    public static <T> void saveJsonArrayFile(Path filePath, String arrayName, Iterable<T> records,
+            Function<? super T, ?> toJsonRecord) throws IOException {
+        requireAllNonNull(filePath, arrayName, records, toJsonRecord);
+
+        FileUtil.writeAtomically(filePath, out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+                generator.useDefaultPrettyPrinter();
+                generator.writeStartObject();
+                generator.writeArrayFieldStart(arrayName);
+                for (T record : records) {
+                    recordWriter.writeValue(generator, toJsonRecord.apply(record));
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        });
+    }
+
+    /**
+     * Reads a file of Json lines, each holding a Json object with a single field, one line at a time.
+     * The lines are written in batches, each ended by a commit line from {@link #toJsonCommitLine(int)}.
+     * The name of each field of a committed batch is passed to {@code consumer} together with its value, once the
+     * commit line of the batch has been read. Every line must be terminated by {@link #JSON_LINE_SEPARATOR}.
+     * A last batch that is not committed, such as one left by an interrupted append, is ignored.
+     *
+     * @param filePath Location of the file.
+     * @param recordClass The value of each field has to correspond to the structure in the class given here.
+     * @param consumer Consumer of the field names and values read.
+     * @return False if the file is not found, and true otherwise.
+     * @throws DataConversionException If the file format is not as expected.
+     * @throws IllegalValueException If {@code consumer} rejects a record.
+     */
+    public static <E> boolean readJsonLinesFile(Path filePath, Class<E> recordClass,
+            KeyedRecordConsumer<E> consumer) throws DataConversionException, IllegalValueException {
+        requireAllNonNull(filePath, recordClass, consumer);
+
+        if (!Files.exists(filePath)) {
+            return false;
+        }
+
+        List<String> batchKeys = new ArrayList<>();
+        List<E> batchRecords = new ArrayList<>();
+        try (Reader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            StringBuilder line = new StringBuilder();
+            for (int c = reader.read(); c != -1; c = reader.read()) {
+                if (c != JSON_LINE_SEPARATOR.charAt(0)) {
+                    line.append((char) c);
+                    continue;
+                }
+                if (!line.toString().isBlank()) {
+                    readJsonLine(line.toString(), recordClass, batchKeys, batchRecords, consumer);
+                }
+                line.setLength(0);
+            }
+            if (line.length() > 0) {
+                logger.warning("Ignoring incomplete last line of " + filePath);
+            }
+            if (!batchKeys.isEmpty()) {
+                logger.warning("Ignoring " + batchKeys.size() + " uncommitted lines at the end of " + filePath);
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+        return true;
+    }
+
+    /**
+     * Reads a Json line into the current batch, or passes the batch to {@code consumer} if the line commits it.
+     */
+    private static <E> void readJsonLine(String line, Class<E> recordClass, List<String> batchKeys,
+            List<E> batchRecords, KeyedRecordConsumer<E> consumer) throws IOException, IllegalValueException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(line)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT || parser.nextToken() != JsonToken.FIELD_NAME) {
+                throw new JsonParseException(parser, "Expected a Json object with a single field");
+            }
+            String key = parser.getCurrentName();
+            parser.nextToken();
+            if (!key.equals(JSON_LINES_COMMIT_KEY)) {
+                batchKeys.add(key);
+                batchRecords.add(objectMapper.readValue(parser, recordClass));
+                requireEndOfObject(parser);
+                return;
+            }
+
+            int lineCount = objectMapper.readValue(parser, Integer.class);
+            requireEndOfObject(parser);
+            if (lineCount != batchKeys.size()) {
+                throw new JsonParseException(parser,
+                        "Commit of " + lineCount + " lines follows " + batchKeys.size() + " lines");
+            }
+            for (int i = 0; i < lineCount; i++) {
+                consumer.accept(batchKeys.get(i), batchRecords.get(i));
+            }
+            batchKeys.clear();
+            batchRecords.clear();
+        }
+    }
+
+    private static void requireEndOfObject(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.END_OBJECT) {
+            throw new JsonParseException(parser, "Expected a Json object with a single field");
+        }
+    }
+
+    /**
+     * Converts {@code record} into a single line Json object with {@code key} as its only field.
+     *
+     * @param key Name of the field.
+     * @param record Value of the field.
+     * @return Json line, terminated by {@link #JSON_LINE_SEPARATOR}.
+     * @throws JsonProcessingException If processing problems occur.
+     */
+    public static String toJsonLine(String key, Object record) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(Collections.singletonMap(key, record)) + JSON_LINE_SEPARATOR;
+    }
+
+    /**
+     * Returns the line that commits the {@code lineCount} Json lines written before it since the last commit line.
+     * Lines of a batch are only read back once the batch is committed, so a batch should be appended together with
+     * its commit line in a single write.
+     *
+     * @param lineCount Number of Json lines in the batch.
+     * @return Commit line, terminated by {@link #JSON_LINE_SEPARATOR}.
+     * @throws JsonProcessingException If processing problems occur.
+     */
+    public static String toJsonCommitLine(int lineCount) throws JsonProcessingException {
+        return toJsonLine(JSON_LINES_COMMIT_KEY, lineCount);
+    }
+
     /**
      * Converts a given string representation of a JSON data to instance of a class.
      *
@@ -115,6 +328,26 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Consumes records read from a Json file.
+     *
+     * @param <E> Type of the records.
+     */
+    @FunctionalInterface
+    public interface RecordConsumer<E> {
+        void accept(E record) throws IllegalValueException;
+    }
+
+    /**
+     * Consumes records read from a Json lines file, together with the names of the fields holding them.
+     *
+     * @param <E> Type of the records.
+     */
+    @FunctionalInterface
+    public interface KeyedRecordConsumer<E> {
+        void accept(String key, E record) throws IllegalValueException;
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -1,6 +1,7 @@
 package seedu.address.logic;
 
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -88,4 +89,13 @@ public interface Logic {
      * @param guiSettings GUI settings.
      */
     void setGuiSettings(GuiSettings guiSettings);
+
+    /**
+     * Sets {@code handler} to be given a message as soon as saved data fails to be written to storage in the
+     * background, rather than after a later command.
+     * {@code handler} may be called on a thread other than the one executing commands.
+     *
+     * @param handler Handler of save failure messages.
+     */
+    void setSaveFailureHandler(Consumer<String> handler);
 }
@@ -1,9 +1,11 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -53,9 +55,7 @@ public class LogicManager implements Logic {
         commandResult = command.execute(model);
 
         try {
-            storage.savePair(model.getFriendlyLink());
-            storage.saveElderly(model.getFriendlyLink());
-            storage.saveVolunteer(model.getFriendlyLink());
+            saveModifiedData(model.getFriendlyLink());
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
@@ -63,6 +63,35 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    /**
+     * Saves only the parts of {@code friendlyLink} that have changed since they were last saved.
+     * A part is marked as saved, as of the version saved, only once the storage has written it. A part whose write
+     * fails stays marked as modified, so that it is saved again after the next command.
+     *
+     * @param friendlyLink FriendlyLink data to save.
+     * @throws IOException If there was any problem writing to the files.
+     */
+    private void saveModifiedData(FriendlyLink friendlyLink) throws IOException {
+        if (friendlyLink.isPairModified()) {
+            long version = friendlyLink.getPairVersion();
+            storage.savePair(friendlyLink, () -> friendlyLink.markPairSaved(version));
+        }
+        if (friendlyLink.isElderlyModified()) {
+            long version = friendlyLink.getElderlyVersion();
+            storage.saveElderly(friendlyLink, () -> friendlyLink.markElderlySaved(version));
+        }
+        if (friendlyLink.isVolunteerModified()) {
+            long version = friendlyLink.getVolunteerVersion();
+            storage.saveVolunteer(friendlyLink, () -> friendlyLink.markVolunteerSaved(version));
+        }
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> handler) {
+        requireNonNull(handler);
+        storage.setWriteFailureHandler(failure -> handler.accept(FILE_OPS_ERROR_MESSAGE + failure));
+    }
+
     @Override
     public FriendlyLink getFriendlyLink() {
         return model.getFriendlyLink();
@@ -0,0 +1,27 @@
+package seedu.address.logic.autopair;
+
+import java.util.List;
+
+import seedu.address.model.FriendlyLink;
+import seedu.address.model.pair.Pair;
+
+/**
+ * A way of choosing which pairs auto pairing adds to FriendlyLink.
+ */
+public interface AutoPairing {
+
+    /**
+     * Returns the pairs to add to {@code friendlyLink}. None of the pairs returned is already in it.
+     *
+     * @param friendlyLink FriendlyLink to pair elderly and volunteers in.
+     * @return Pairs to add.
+     */
+    List<Pair> getPairs(FriendlyLink friendlyLink);
+
+    /**
+     * Returns true if auto pairing should report how many more pairs were formed than by greedy pairing.
+     */
+    default boolean isComparedToGreedy() {
+        return false;
+    }
+}
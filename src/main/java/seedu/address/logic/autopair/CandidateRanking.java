@@ -0,0 +1,143 @@
+package seedu.address.logic.autopair;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+import seedu.address.model.FriendlyLink;
+import seedu.address.model.pair.Pair;
+import seedu.address.model.person.Elderly;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Volunteer;
+import seedu.address.model.person.information.Nric;
+import seedu.address.model.person.information.Region.Place;
+
+/**
+ * Ranks the unpaired persons that could be paired with one person, best first, without pairing anyone.
+ * <p>
+ * The persons sharing an available day with the person are found through the availability index of
+ * {@link FriendlyLink} and intersected with the region partitions that can match the person's region, going
+ * through whichever of the two is smaller and checking the other, and then with the unpaired persons. Candidates
+ * are scored by {@link PairScorer}, keeping only the best few. Candidates with the same score are ranked by nric.
+ */
+public class CandidateRanking {
+
+    /**
+     * Returns up to {@code count} pairs of {@code elderly} with the best compatible unpaired volunteers in
+     * {@code friendlyLink}, best first.
+     *
+     * @param friendlyLink FriendlyLink to find volunteers in.
+     * @param elderly Elderly to find volunteers for.
+     * @param count Maximum number of pairs to return.
+     * @return Best pairs with {@code elderly}.
+     */
+    public static List<Pair> getBestPairs(FriendlyLink friendlyLink, Elderly elderly, int count) {
+        requireAllNonNull(friendlyLink, elderly);
+        List<Volunteer> best = getBest(friendlyLink.getVolunteersIntersecting(elderly.getAvailability()),
+                friendlyLink::getVolunteer, getSearchedPlaces(elderly), friendlyLink::getVolunteersInRegion,
+                friendlyLink::hasUnpairedVolunteer, elderly, volunteer -> PairScorer.getScore(volunteer, elderly),
+                count);
+        List<Pair> pairs = new ArrayList<>();
+        best.forEach(volunteer -> pairs.add(new Pair(elderly, volunteer)));
+        return pairs;
+    }
+
+    /**
+     * Returns up to {@code count} pairs of {@code volunteer} with the best compatible unpaired elderly in
+     * {@code friendlyLink}, best first.
+     *
+     * @param friendlyLink FriendlyLink to find elderly in.
+     * @param volunteer Volunteer to find elderly for.
+     * @param count Maximum number of pairs to return.
+     * @return Best pairs with {@code volunteer}.
+     */
+    public static List<Pair> getBestPairs(FriendlyLink friendlyLink, Volunteer volunteer, int count) {
+        requireAllNonNull(friendlyLink, volunteer);
+        List<Elderly> best = getBest(friendlyLink.getElderlyIntersecting(volunteer.getAvailability()),
+                friendlyLink::getElderly, getSearchedPlaces(volunteer), friendlyLink::getElderlyInRegion,
+                friendlyLink::hasUnpairedElderly, volunteer, elderly -> PairScorer.getScore(volunteer, elderly),
+                count);
+        List<Pair> pairs = new ArrayList<>();
+        best.forEach(elderly -> pairs.add(new Pair(elderly, volunteer)));
+        return pairs;
+    }
+
+    /**
+     * Returns the regions whose persons can match the region of {@code person}.
+     */
+    private static List<Place> getSearchedPlaces(Person person) {
+        Place place = person.getRegion().region;
+        return place == Place.NOT_SPECIFIED
+                ? Arrays.asList(Place.values())
+                : Arrays.asList(place, Place.NOT_SPECIFIED);
+    }
+
+    private static <T extends Person> List<T> getBest(Set<Nric> intersecting, Function<Nric, T> lookupByNric,
+            List<Place> places, Function<Place, List<T>> lookupByPlace, Predicate<Nric> isUnpaired, Person person,
+            ToIntFunction<T> scorer, int count) {
+        if (count <= 0) {
+            return Collections.emptyList();
+        }
+        // worst candidate at the head, so that it is the one dropped once there are too many
+        PriorityQueue<Candidate<T>> best = new PriorityQueue<>(Comparator.<Candidate<T>>comparingInt(
+                candidate -> candidate.score).thenComparing(candidate -> candidate.person.getNric().value,
+                Comparator.reverseOrder()));
+        Consumer<T> offer = candidate -> {
+            if (!isUnpaired.test(candidate.getNric())) {
+                return;
+            }
+            best.add(new Candidate<>(candidate, scorer.applyAsInt(candidate)));
+            if (best.size() > count) {
+                best.poll();
+            }
+        };
+
+        int regionSize = 0;
+        for (Place place : places) {
+            regionSize += lookupByPlace.apply(place).size();
+        }
+        if (intersecting.size() <= regionSize) {
+            for (Nric nric : intersecting) {
+                T candidate = lookupByNric.apply(nric);
+                if (person.isSuitableRegion(candidate)) {
+                    offer.accept(candidate);
+                }
+            }
+        } else {
+            for (Place place : places) {
+                for (T candidate : lookupByPlace.apply(place)) {
+                    if (intersecting.contains(candidate.getNric())) {
+                        offer.accept(candidate);
+                    }
+                }
+            }
+        }
+
+        List<T> ranked = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            ranked.add(best.poll().person);
+        }
+        Collections.reverse(ranked);
+        return ranked;
+    }
+
+    private static class Candidate<T extends Person> {
+        private final T person;
+        private final int score;
+
+        Candidate(T person, int score) {
+            this.person = person;
+            this.score = score;
+        }
+    }
+}
@@ -0,0 +1,406 @@
+package seedu.address.logic.autopair;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+import seedu.address.model.FriendlyLink;
+import seedu.address.model.pair.Pair;
+import seedu.address.model.person.Elderly;
+import seedu.address.model.person.Volunteer;
+import seedu.address.model.person.information.Nric;
+import seedu.address.model.person.information.RiskLevel.Risk;
+
+/**
+ * Pairs each volunteer with up to a maximum number of elderly, and each elderly with as many volunteers as their
+ * risk level requires, forming as many pairs as possible. Pairs that already exist count towards both.
+ * <p>
+ * This is a maximum flow problem: a unit of flow goes from a volunteer with spare capacity to a compatible
+ * elderly that still needs volunteers. It is solved with Dinic's algorithm on the {@link CompatibilityGraph},
+ * where each phase finds every shortest augmenting path at once. Only volunteers and elderly with spare
+ * capacity take part, as no flow can pass through the others. If there are too many compatible pairs to keep
+ * in memory, rounds of {@link GreedyPairing} are used instead.
+ * <p>
+ * As an {@link AutoPairing}, it pairs all volunteers and elderly of FriendlyLink, including those already paired.
+ */
+public class CapacityPairing implements AutoPairing {
+
+    public static final int DEFAULT_MAX_LOAD = 2;
+
+    private static final long MAX_COMPATIBLE_PAIRS = 4_000_000;
+    private static final int UNREACHED = -1;
+    // flow on an edge from a volunteer to an elderly
+    private static final byte NO_FLOW = 0;
+    private static final byte FLOW = 1;
+    private static final byte ALREADY_PAIRED = 2;
+
+    private final int maxLoad;
+
+    /**
+     * Constructs a {@code CapacityPairing} in which each volunteer is paired with at most {@code maxLoad} elderly.
+     *
+     * @param maxLoad Largest number of elderly a volunteer can be paired with.
+     */
+    public CapacityPairing(int maxLoad) {
+        assert maxLoad > 0;
+        this.maxLoad = maxLoad;
+    }
+
+    /**
+     * Returns the number of volunteers an elderly should be paired with.
+     * High risk elderly need two volunteers, and all other elderly need one.
+     *
+     * @param elderly Elderly to be paired.
+     * @return Number of volunteers needed.
+     */
+    public static int getRequiredVolunteerCount(Elderly elderly) {
+        return elderly.getRiskLevel().riskStatus == Risk.HIGH ? 2 : 1;
+    }
+
+    @Override
+    public List<Pair> getPairs(FriendlyLink friendlyLink) {
+        return getPairs(friendlyLink.getVolunteerList(), friendlyLink.getElderlyList(), friendlyLink.getPairList());
+    }
+
+    /**
+     * Pairs volunteers in {@code volunteers} with elderly in {@code elderly}, given the pairs in
+     * {@code existingPairs}. No pair is formed twice.
+     *
+     * @param volunteers All volunteers.
+     * @param elderly All elderly.
+     * @param existingPairs Pairs that already exist.
+     * @return New pairs formed, in the order of their volunteers in {@code volunteers}.
+     */
+    public List<Pair> getPairs(List<Volunteer> volunteers, List<Elderly> elderly, List<Pair> existingPairs) {
+        requireAllNonNull(volunteers, elderly, existingPairs);
+        Map<Nric, Integer> volunteerLoads = new HashMap<>();
+        Map<Nric, Integer> elderlyLoads = new HashMap<>();
+        Set<List<Nric>> pairedNrics = new HashSet<>();
+        for (Pair pair : existingPairs) {
+            volunteerLoads.merge(pair.getVolunteer().getNric(), 1, Integer::sum);
+            elderlyLoads.merge(pair.getElderly().getNric(), 1, Integer::sum);
+            pairedNrics.add(Arrays.asList(pair.getVolunteer().getNric(), pair.getElderly().getNric()));
+        }
+
+        List<Volunteer> availableVolunteers = new ArrayList<>();
+        List<Integer> volunteerSpares = new ArrayList<>();
+        for (Volunteer volunteer : volunteers) {
+            int spare = maxLoad - volunteerLoads.getOrDefault(volunteer.getNric(), 0);
+            if (spare > 0) {
+                availableVolunteers.add(volunteer);
+                volunteerSpares.add(spare);
+            }
+        }
+        List<Elderly> availableElderly = new ArrayList<>();
+        List<Integer> elderlySpares = new ArrayList<>();
+        for (Elderly e : elderly) {
+            int spare = getRequiredVolunteerCount(e) - elderlyLoads.getOrDefault(e.getNric(), 0);
+            if (spare > 0) {
+                availableElderly.add(e);
+                elderlySpares.add(spare);
+            }
+        }
+
+        Optional<CompatibilityGraph> graph = CompatibilityGraph.build(availableVolunteers, availableElderly,
+                MAX_COMPATIBLE_PAIRS, ForkJoinPool.commonPool());
+        if (graph.isEmpty()) {
+            return getPairsGreedily(availableVolunteers, volunteerSpares, availableElderly, elderlySpares,
+                    pairedNrics);
+        }
+        return new Flow(availableVolunteers, volunteerSpares, availableElderly, elderlySpares, graph.get(),
+                pairedNrics).getMaximumPairs();
+    }
+
+    /**
+     * Pairs volunteers and elderly with spare capacity in rounds of {@link GreedyPairing}, until a round forms no
+     * new pairs.
+     */
+    private static List<Pair> getPairsGreedily(List<Volunteer> volunteers, List<Integer> volunteerSpares,
+            List<Elderly> elderly, List<Integer> elderlySpares, Set<List<Nric>> pairedNrics) {
+        Map<Nric, Integer> spares = new HashMap<>();
+        for (int i = 0; i < volunteers.size(); i++) {
+            spares.put(volunteers.get(i).getNric(), volunteerSpares.get(i));
+        }
+        for (int i = 0; i < elderly.size(); i++) {
+            spares.put(elderly.get(i).getNric(), elderlySpares.get(i));
+        }
+
+        List<Pair> pairs = new ArrayList<>();
+        boolean isPairFormed = true;
+        while (isPairFormed) {
+            isPairFormed = false;
+            List<Volunteer> roundVolunteers = new ArrayList<>();
+            volunteers.stream().filter(v -> spares.get(v.getNric()) > 0).forEach(roundVolunteers::add);
+            List<Elderly> roundElderly = new ArrayList<>();
+            elderly.stream().filter(e -> spares.get(e.getNric()) > 0).forEach(roundElderly::add);
+            for (Pair pair : new GreedyPairing().getPairs(roundVolunteers, roundElderly)) {
+                Nric volunteerNric = pair.getVolunteer().getNric();
+                Nric elderlyNric = pair.getElderly().getNric();
+                if (pairedNrics.add(Arrays.asList(volunteerNric, elderlyNric))) {
+                    pairs.add(pair);
+                    spares.merge(volunteerNric, -1, Integer::sum);
+                    spares.merge(elderlyNric, -1, Integer::sum);
+                    isPairFormed = true;
+                }
+            }
+        }
+        return pairs;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof CapacityPairing
+                && maxLoad == ((CapacityPairing) other).maxLoad);
+    }
+
+    @Override
+    public int hashCode() {
+        return Integer.hashCode(maxLoad);
+    }
+
+    /**
+     * A flow from volunteers to elderly along compatible pairs, with volunteers and elderly referred to by their
+     * positions in their lists, and edges by their positions in a flat array grouped by volunteer.
+     */
+    private static class Flow {
+        private final List<Volunteer> volunteers;
+        private final List<Elderly> elderly;
+        private final int[] volunteerSpares;
+        private final int[] elderlySpares;
+
+        // volunteer -> its edges are from volunteerEdgeStarts[volunteer] to volunteerEdgeStarts[volunteer + 1]
+        private final int[] volunteerEdgeStarts;
+        private final int[] edgeElderly;
+        private final int[] edgeVolunteers;
+        private final byte[] edgeFlows;
+        // elderly -> its edges are elderlyEdges[elderlyEdgeStarts[elderly]] to before elderlyEdgeStarts[elderly + 1]
+        private final int[] elderlyEdgeStarts;
+        private final int[] elderlyEdges;
+
+        // per phase: distance from the source, and the next edge to try from each volunteer and elderly
+        private final int[] volunteerLevels;
+        private final int[] elderlyLevels;
+        private final int[] volunteerNextEdges;
+        private final int[] elderlyNextEdges;
+        private int sinkLevel;
+
+        Flow(List<Volunteer> volunteers, List<Integer> volunteerSpares, List<Elderly> elderly,
+                List<Integer> elderlySpares, CompatibilityGraph graph, Set<List<Nric>> pairedNrics) {
+            this.volunteers = volunteers;
+            this.elderly = elderly;
+            this.volunteerSpares = volunteerSpares.stream().mapToInt(Integer::intValue).toArray();
+            this.elderlySpares = elderlySpares.stream().mapToInt(Integer::intValue).toArray();
+
+            volunteerEdgeStarts = new int[volunteers.size() + 1];
+            for (int volunteer = 0; volunteer < volunteers.size(); volunteer++) {
+                volunteerEdgeStarts[volunteer + 1] = volunteerEdgeStarts[volunteer]
+                        + graph.getCompatibleElderly(volunteer).length;
+            }
+            int edgeCount = volunteerEdgeStarts[volunteers.size()];
+            edgeElderly = new int[edgeCount];
+            edgeVolunteers = new int[edgeCount];
+            edgeFlows = new byte[edgeCount];
+            elderlyEdgeStarts = new int[elderly.size() + 1];
+            for (int volunteer = 0; volunteer < volunteers.size(); volunteer++) {
+                int[] compatible = graph.getCompatibleElderly(volunteer);
+                Nric volunteerNric = volunteers.get(volunteer).getNric();
+                for (int i = 0; i < compatible.length; i++) {
+                    int edge = volunteerEdgeStarts[volunteer] + i;
+                    edgeElderly[edge] = compatible[i];
+                    edgeVolunteers[edge] = volunteer;
+                    if (pairedNrics.contains(Arrays.asList(volunteerNric, elderly.get(compatible[i]).getNric()))) {
+                        edgeFlows[edge] = ALREADY_PAIRED;
+                    }
+                    elderlyEdgeStarts[compatible[i] + 1]++;
+                }
+            }
+            for (int e = 0; e < elderly.size(); e++) {
+                elderlyEdgeStarts[e + 1] += elderlyEdgeStarts[e];
+            }
+            elderlyEdges = new int[edgeCount];
+            int[] filled = Arrays.copyOf(elderlyEdgeStarts, elderly.size());
+            for (int edge = 0; edge < edgeCount; edge++) {
+                elderlyEdges[filled[edgeElderly[edge]]++] = edge;
+            }
+
+            volunteerLevels = new int[volunteers.size()];
+            elderlyLevels = new int[elderly.size()];
+            volunteerNextEdges = new int[volunteers.size()];
+            elderlyNextEdges = new int[elderly.size()];
+        }
+
+        List<Pair> getMaximumPairs() {
+            while (findShortestAugmentingPaths()) {
+                for (int volunteer = 0; volunteer < volunteers.size(); volunteer++) {
+                    while (volunteerLevels[volunteer] == 0 && volunteerSpares[volunteer] > 0
+                            && augmentFrom(volunteer)) {
+                        volunteerSpares[volunteer]--;
+                    }
+                }
+            }
+
+            List<Pair> pairs = new ArrayList<>();
+            for (int edge = 0; edge < edgeFlows.length; edge++) {
+                if (edgeFlows[edge] == FLOW) {
+                    pairs.add(new Pair(elderly.get(edgeElderly[edge]), volunteers.get(edgeVolunteers[edge])));
+                }
+            }
+            return pairs;
+        }
+
+        /**
+         * Layers the volunteers and elderly by breadth-first search from all volunteers with spare capacity, along
+         * edges without flow from volunteers to elderly and edges with flow from elderly back to volunteers,
+         * until an elderly that still needs volunteers is reached.
+         *
+         * @return True if such an elderly can be reached, that is, if the flow can be augmented.
+         */
+        private boolean findShortestAugmentingPaths() {
+            Arrays.fill(volunteerLevels, UNREACHED);
+            Arrays.fill(elderlyLevels, UNREACHED);
+            sinkLevel = UNREACHED;
+            List<Integer> frontier = new ArrayList<>();
+            for (int volunteer = 0; volunteer < volunteers.size(); volunteer++) {
+                volunteerNextEdges[volunteer] = volunteerEdgeStarts[volunteer];
+                if (volunteerSpares[volunteer] > 0) {
+                    volunteerLevels[volunteer] = 0;
+                    frontier.add(volunteer);
+                }
+            }
+            for (int e = 0; e < elderly.size(); e++) {
+                elderlyNextEdges[e] = elderlyEdgeStarts[e];
+            }
+
+            int level = 0;
+            while (!frontier.isEmpty() && sinkLevel == UNREACHED) {
+                List<Integer> nextFrontier = new ArrayList<>();
+                for (int volunteer : frontier) {
+                    for (int edge = volunteerEdgeStarts[volunteer]; edge < volunteerEdgeStarts[volunteer + 1];
+                            edge++) {
+                        int e = edgeElderly[edge];
+                        if (edgeFlows[edge] != NO_FLOW || elderlyLevels[e] != UNREACHED) {
+                            continue;
+                        }
+                        elderlyLevels[e] = level + 1;
+                        if (elderlySpares[e] > 0) {
+                            sinkLevel = level + 1;
+                        }
+                        nextFrontier.add(e);
+                    }
+                }
+                if (sinkLevel != UNREACHED) {
+                    return true;
+                }
+
+                frontier = new ArrayList<>();
+                for (int e : nextFrontier) {
+                    for (int i = elderlyEdgeStarts[e]; i < elderlyEdgeStarts[e + 1]; i++) {
+                        int edge = elderlyEdges[i];
+                        int partner = edgeVolunteers[edge];
+                        if (edgeFlows[edge] == FLOW && volunteerLevels[partner] == UNREACHED) {
+                            volunteerLevels[partner] = level + 2;
+                            frontier.add(partner);
+                        }
+                    }
+                }
+                level += 2;
+            }
+            return false;
+        }
+
+        /**
+         * Searches depth-first for a shortest augmenting path from {@code start}, and pushes a unit of flow along
+         * it if one is found. Volunteers and elderly that lead nowhere are taken out of their layer, and every
+         * edge is tried at most once in a phase, so the paths found in a phase take linear time in total.
+         *
+         * @return True if the flow was augmented.
+         */
+        private boolean augmentFrom(int start) {
+            // alternates between edges from volunteers to elderly and edges back from elderly to volunteers
+            List<Integer> pathEdges = new ArrayList<>();
+            int volunteer = start;
+            while (true) {
+                int forwardEdge = findNextForwardEdge(volunteer);
+                if (forwardEdge == UNREACHED) {
+                    volunteerLevels[volunteer] = UNREACHED;
+                    if (pathEdges.isEmpty()) {
+                        return false;
+                    }
+                    // back up to the elderly that led to the volunteer
+                    pathEdges.remove(pathEdges.size() - 1);
+                } else {
+                    pathEdges.add(forwardEdge);
+                    if (elderlyLevels[edgeElderly[forwardEdge]] == sinkLevel) {
+                        pushAlong(pathEdges, edgeElderly[forwardEdge]);
+                        return true;
+                    }
+                }
+
+                int lastForwardEdge = pathEdges.get(pathEdges.size() - 1);
+                int e = edgeElderly[lastForwardEdge];
+                int backwardEdge = findNextBackwardEdge(e);
+                if (backwardEdge == UNREACHED) {
+                    // back up to the volunteer that led to the elderly
+                    elderlyLevels[e] = UNREACHED;
+                    pathEdges.remove(pathEdges.size() - 1);
+                    volunteer = edgeVolunteers[lastForwardEdge];
+                } else {
+                    pathEdges.add(backwardEdge);
+                    volunteer = edgeVolunteers[backwardEdge];
+                }
+            }
+        }
+
+        /**
+         * Returns the next edge without flow from {@code volunteer} to an elderly in the next layer, or
+         * {@code UNREACHED} if there is none.
+         */
+        private int findNextForwardEdge(int volunteer) {
+            int end = volunteerEdgeStarts[volunteer + 1];
+            while (volunteerNextEdges[volunteer] < end) {
+                int edge = volunteerNextEdges[volunteer]++;
+                int e = edgeElderly[edge];
+                if (edgeFlows[edge] == NO_FLOW && elderlyLevels[e] == volunteerLevels[volunteer] + 1
+                        && (elderlyLevels[e] != sinkLevel || elderlySpares[e] > 0)) {
+                    return edge;
+                }
+            }
+            return UNREACHED;
+        }
+
+        /**
+         * Returns the next edge with flow from a volunteer in the next layer to {@code e}, or {@code UNREACHED}
+         * if there is none.
+         */
+        private int findNextBackwardEdge(int e) {
+            int end = elderlyEdgeStarts[e + 1];
+            while (elderlyNextEdges[e] < end) {
+                int edge = elderlyEdges[elderlyNextEdges[e]++];
+                if (edgeFlows[edge] == FLOW && volunteerLevels[edgeVolunteers[edge]] == elderlyLevels[e] + 1) {
+                    return edge;
+                }
+            }
+            return UNREACHED;
+        }
+
+        /**
+         * Pushes a unit of flow along {@code pathEdges}, which alternate between edges from volunteers to elderly
+         * and edges back from elderly to volunteers, and end at {@code end}.
+         */
+        private void pushAlong(List<Integer> pathEdges, int end) {
+            for (int i = 0; i < pathEdges.size(); i++) {
+                edgeFlows[pathEdges.get(i)] = i % 2 == 0 ? FLOW : NO_FLOW;
+            }
+            elderlySpares[end]--;
+        }
+    }
+}
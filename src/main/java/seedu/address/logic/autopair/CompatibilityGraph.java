@@ -0,0 +1,213 @@
+package seedu.address.logic.autopair;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+
+import seedu.address.model.person.Elderly;
+import seedu.address.model.person.Volunteer;
+import seedu.address.model.person.information.Region.Place;
+
+/**
+ * The compatible pairs of volunteers and elderly, together with their {@link PairScorer} scores.
+ * Volunteers and elderly are referred to by their positions in the lists the graph was built from.
+ * <p>
+ * The graph is built in parallel on a {@link ForkJoinPool}: elderly are partitioned by region, and the pairs in
+ * each partition are found and scored by separate tasks over ranges of volunteers. Each task writes only its own
+ * part of the result, and the parts are merged in list order, so the graph is the same whatever the number of
+ * threads.
+ */
+public class CompatibilityGraph {
+
+    // volunteers scored by a single task, below which splitting the work costs more than it saves
+    private static final int VOLUNTEERS_PER_TASK = 256;
+
+    // volunteer -> compatible elderly in list order, and the scores of pairing with them
+    private final int[][] compatibleElderly;
+    private final int[][] scores;
+
+    private CompatibilityGraph(int[][] compatibleElderly, int[][] scores) {
+        this.compatibleElderly = compatibleElderly;
+        this.scores = scores;
+    }
+
+    /**
+     * Builds the graph of compatible pairs of {@code volunteers} and {@code elderly} on {@code pool}.
+     *
+     * @param volunteers Volunteers to be paired.
+     * @param elderly Elderly to be paired.
+     * @param maxPairCount Largest number of compatible pairs to keep in memory.
+     * @param pool Pool to score the pairs on.
+     * @return Graph of compatible pairs, or {@code Optional.empty()} if there are more than {@code maxPairCount}.
+     */
+    public static Optional<CompatibilityGraph> build(List<Volunteer> volunteers, List<Elderly> elderly,
+            long maxPairCount, ForkJoinPool pool) {
+        requireAllNonNull(volunteers, elderly, pool);
+        Map<Place, List<Elderly>> partitions = new EnumMap<>(Place.class);
+        for (Place place : Place.values()) {
+            partitions.put(place, new ArrayList<>());
+        }
+        Map<Place, List<Integer>> partitionPositions = new EnumMap<>(Place.class);
+        for (Place place : Place.values()) {
+            partitionPositions.put(place, new ArrayList<>());
+        }
+        for (int i = 0; i < elderly.size(); i++) {
+            Place place = elderly.get(i).getRegion().region;
+            partitions.get(place).add(elderly.get(i));
+            partitionPositions.get(place).add(i);
+        }
+
+        AtomicLong pairCount = new AtomicLong();
+        List<ScoringTask> partitionTasks = new ArrayList<>();
+        for (Place place : Place.values()) {
+            partitionTasks.add(new ScoringTask(new Partition(volunteers, partitions.get(place),
+                    partitionPositions.get(place), pairCount, maxPairCount), 0, volunteers.size()));
+        }
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                invokeAll(partitionTasks);
+            }
+        });
+        if (pairCount.get() > maxPairCount) {
+            return Optional.empty();
+        }
+
+        int[][] compatibleElderly = new int[volunteers.size()][];
+        int[][] scores = new int[volunteers.size()][];
+        for (int volunteer = 0; volunteer < volunteers.size(); volunteer++) {
+            long[] merged = new long[0];
+            for (ScoringTask task : partitionTasks) {
+                long[] partitionPairs = task.partition.pairs[volunteer];
+                if (partitionPairs != null) {
+                    merged = concat(merged, partitionPairs);
+                }
+            }
+            Arrays.sort(merged);
+            compatibleElderly[volunteer] = new int[merged.length];
+            scores[volunteer] = new int[merged.length];
+            for (int i = 0; i < merged.length; i++) {
+                compatibleElderly[volunteer][i] = Partition.getPosition(merged[i]);
+                scores[volunteer][i] = Partition.getScore(merged[i]);
+            }
+        }
+        return Optional.of(new CompatibilityGraph(compatibleElderly, scores));
+    }
+
+    /**
+     * Returns the positions of the elderly compatible with the volunteer at {@code volunteer}, in list order.
+     */
+    public int[] getCompatibleElderly(int volunteer) {
+        return compatibleElderly[volunteer];
+    }
+
+    /**
+     * Returns the scores of pairing the volunteer at {@code volunteer} with each of its compatible elderly.
+     */
+    public int[] getScores(int volunteer) {
+        return scores[volunteer];
+    }
+
+    private static long[] concat(long[] first, long[] second) {
+        long[] result = Arrays.copyOf(first, first.length + second.length);
+        System.arraycopy(second, 0, result, first.length, second.length);
+        return result;
+    }
+
+    /**
+     * The elderly in one region, and the compatible pairs found in it so far.
+     * Each pair is packed into a {@code long} with the position of the elderly in the high bits and the score in
+     * the low bits, so that sorting the pairs sorts them in list order.
+     */
+    private static class Partition {
+        private final List<Volunteer> volunteers;
+        private final ElderlyCandidateIndex candidates;
+        // position in the partition -> position in the list of all elderly
+        private final int[] elderlyPositions;
+        private final PairScorer.Profile[] elderlyProfiles;
+        private final AtomicLong pairCount;
+        private final long maxPairCount;
+        // volunteer -> packed pairs with the elderly in this partition, written only by the task for the volunteer
+        private final long[][] pairs;
+
+        Partition(List<Volunteer> volunteers, List<Elderly> elderly, List<Integer> elderlyPositions,
+                AtomicLong pairCount, long maxPairCount) {
+            this.volunteers = volunteers;
+            this.candidates = new ElderlyCandidateIndex(elderly);
+            this.pairCount = pairCount;
+            this.maxPairCount = maxPairCount;
+            this.elderlyPositions = new int[elderly.size()];
+            elderlyProfiles = new PairScorer.Profile[elderly.size()];
+            for (int i = 0; i < elderly.size(); i++) {
+                this.elderlyPositions[i] = elderlyPositions.get(i);
+                elderlyProfiles[i] = new PairScorer.Profile(elderly.get(i));
+            }
+            pairs = new long[volunteers.size()][];
+        }
+
+        /**
+         * Finds and scores the pairs of the volunteers from {@code from} up to but excluding {@code to}.
+         */
+        void score(int from, int to) {
+            for (int volunteer = from; volunteer < to; volunteer++) {
+                if (pairCount.get() > maxPairCount) {
+                    // the graph will not be used, so there is no point in finishing it
+                    return;
+                }
+                Volunteer bidder = volunteers.get(volunteer);
+                PairScorer.Profile volunteerProfile = new PairScorer.Profile(bidder);
+                List<Integer> compatible = candidates.findAllCompatiblePositions(bidder);
+                long[] volunteerPairs = new long[compatible.size()];
+                for (int i = 0; i < volunteerPairs.length; i++) {
+                    int position = compatible.get(i);
+                    int score = PairScorer.getScore(volunteerProfile, elderlyProfiles[position]);
+                    volunteerPairs[i] = (long) elderlyPositions[position] << Integer.SIZE | score;
+                }
+                pairs[volunteer] = volunteerPairs;
+                pairCount.addAndGet(volunteerPairs.length);
+            }
+        }
+
+        static int getPosition(long pair) {
+            return (int) (pair >>> Integer.SIZE);
+        }
+
+        static int getScore(long pair) {
+            return (int) pair;
+        }
+    }
+
+    /**
+     * Scores the pairs of a range of volunteers in a partition, splitting the range between subtasks if it is
+     * large.
+     */
+    private static class ScoringTask extends RecursiveAction {
+        private final Partition partition;
+        private final int from;
+        private final int to;
+
+        ScoringTask(Partition partition, int from, int to) {
+            this.partition = partition;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= VOLUNTEERS_PER_TASK) {
+                partition.score(from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new ScoringTask(partition, from, middle), new ScoringTask(partition, middle, to));
+        }
+    }
+}
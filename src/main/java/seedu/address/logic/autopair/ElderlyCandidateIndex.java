@@ -0,0 +1,304 @@
+package seedu.address.logic.autopair;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import seedu.address.model.person.Elderly;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Volunteer;
+import seedu.address.model.person.information.Availability;
+import seedu.address.model.person.information.Nric;
+import seedu.address.model.person.information.Region.Place;
+
+/**
+ * An index of elderly that are candidates for pairing, bucketed by region.
+ * Elderly without a specified region are kept in a wildcard bucket that matches every region.
+ * Within a bucket, candidates are searched by the span of their available dates, so that candidates
+ * that cannot be available together with a volunteer are skipped without being checked one by one.
+ * Candidates are always returned in the order of the list the index was built from.
+ */
+public class ElderlyCandidateIndex {
+
+    private static final int NONE = -1;
+
+    // region -> candidates in that region in list order, to find the first compatible candidate
+    private final Map<Place, CandidateTree> buckets = new EnumMap<>(Place.class);
+    // region -> candidates in that region by start of availability, to find all compatible candidates
+    private final Map<Place, CandidateTree> bucketsByStart = new EnumMap<>(Place.class);
+    private final Map<Nric, Integer> positions = new HashMap<>();
+    private final List<Elderly> elderlyList;
+
+    /**
+     * Creates an {@code ElderlyCandidateIndex} of all elderly in {@code elderlyList}.
+     *
+     * @param elderlyList Elderly to be paired.
+     */
+    public ElderlyCandidateIndex(List<Elderly> elderlyList) {
+        requireNonNull(elderlyList);
+        this.elderlyList = new ArrayList<>(elderlyList);
+        Map<Place, List<Integer>> positionsByPlace = new EnumMap<>(Place.class);
+        for (Place place : Place.values()) {
+            positionsByPlace.put(place, new ArrayList<>());
+        }
+        DateSpan[] spans = new DateSpan[elderlyList.size()];
+        for (int i = 0; i < elderlyList.size(); i++) {
+            Elderly elderly = elderlyList.get(i);
+            spans[i] = new DateSpan(elderly);
+            positionsByPlace.get(elderly.getRegion().region).add(i);
+            positions.put(elderly.getNric(), i);
+        }
+        for (Place place : Place.values()) {
+            List<Integer> inListOrder = positionsByPlace.get(place);
+            List<Integer> inStartOrder = new ArrayList<>(inListOrder);
+            inStartOrder.sort(Comparator.comparingLong(position -> spans[position].start));
+            buckets.put(place, new CandidateTree(elderlyList, spans, inListOrder));
+            bucketsByStart.put(place, new CandidateTree(elderlyList, spans, inStartOrder));
+        }
+    }
+
+    /**
+     * Returns the first candidate in a region and with available dates that are compatible with {@code volunteer}.
+     *
+     * @param volunteer Volunteer to find a candidate for.
+     * @return First compatible candidate, or {@code Optional.empty()} if there is none.
+     */
+    public Optional<Elderly> findFirstCompatible(Volunteer volunteer) {
+        requireNonNull(volunteer);
+        DateSpan span = new DateSpan(volunteer);
+        CandidateTree firstTree = null;
+        int firstLeaf = NONE;
+        for (CandidateTree tree : getSearchedBuckets(buckets, volunteer)) {
+            int leaf = tree.findFirst(CandidateTree.ROOT, volunteer, span);
+            if (leaf != NONE && (firstTree == null || tree.getPosition(leaf) < firstTree.getPosition(firstLeaf))) {
+                firstTree = tree;
+                firstLeaf = leaf;
+            }
+        }
+        return firstTree == null ? Optional.empty() : Optional.of(firstTree.getCandidate(firstLeaf));
+    }
+
+    /**
+     * Returns all candidates that are compatible with {@code volunteer}.
+     *
+     * @param volunteer Volunteer to find candidates for.
+     * @return Compatible candidates, in list order.
+     */
+    public List<Elderly> findAllCompatible(Volunteer volunteer) {
+        requireNonNull(volunteer);
+        List<Elderly> found = new ArrayList<>();
+        for (int position : findAllCompatiblePositions(volunteer)) {
+            found.add(elderlyList.get(position));
+        }
+        return found;
+    }
+
+    /**
+     * Returns the positions in the list the index was built from of all candidates that are compatible with
+     * {@code volunteer}, in ascending order.
+     */
+    List<Integer> findAllCompatiblePositions(Volunteer volunteer) {
+        requireNonNull(volunteer);
+        DateSpan span = new DateSpan(volunteer);
+        List<Integer> compatiblePositions = new ArrayList<>();
+        for (CandidateTree tree : getSearchedBuckets(bucketsByStart, volunteer)) {
+            tree.findAll(CandidateTree.ROOT, volunteer, span, compatiblePositions);
+        }
+        Collections.sort(compatiblePositions);
+        return compatiblePositions;
+    }
+
+    /**
+     * Removes all candidates that are compatible with {@code volunteer} and returns them.
+     *
+     * @param volunteer Volunteer to find candidates for.
+     * @return Compatible candidates, in list order.
+     */
+    public List<Elderly> removeAllCompatible(Volunteer volunteer) {
+        List<Elderly> compatible = findAllCompatible(volunteer);
+        compatible.forEach(this::remove);
+        return compatible;
+    }
+
+    /**
+     * Removes {@code elderly} from the candidates, if it is one.
+     *
+     * @param elderly Elderly that is no longer a candidate.
+     */
+    public void remove(Elderly elderly) {
+        requireNonNull(elderly);
+        Integer position = positions.remove(elderly.getNric());
+        if (position == null) {
+            return;
+        }
+        Place place = elderly.getRegion().region;
+        buckets.get(place).remove(position);
+        bucketsByStart.get(place).remove(position);
+    }
+
+    public boolean isEmpty() {
+        return positions.isEmpty();
+    }
+
+    private static List<CandidateTree> getSearchedBuckets(Map<Place, CandidateTree> trees, Volunteer volunteer) {
+        Place place = volunteer.getRegion().region;
+        if (place == Place.NOT_SPECIFIED) {
+            return new ArrayList<>(trees.values());
+        }
+        List<CandidateTree> searched = new ArrayList<>();
+        searched.add(trees.get(place));
+        searched.add(trees.get(Place.NOT_SPECIFIED));
+        return searched;
+    }
+
+    /**
+     * The earliest and latest days, as epoch days, that a person is available on.
+     * A person without available dates is available on every day.
+     */
+    private static class DateSpan {
+        private static final long EMPTY_START = Long.MAX_VALUE;
+        private static final long EMPTY_END = Long.MIN_VALUE;
+
+        private final long start;
+        private final long end;
+        // true if the person is available on every day of the span
+        private final boolean isExact;
+
+        DateSpan(Person person) {
+            Availability availability = person.getAvailability();
+            isExact = availability.getRangeCount() <= 1;
+            if (availability.isAlwaysAvailable()) {
+                start = LocalDate.MIN.toEpochDay();
+                end = LocalDate.MAX.toEpochDay();
+                return;
+            }
+            start = availability.getRangeStart(0);
+            end = availability.getRangeEnd(availability.getRangeCount() - 1);
+        }
+    }
+
+    /**
+     * A segment tree over the candidates of one bucket, in which each node holds the earliest start and the
+     * latest end of the date spans of the candidates below it.
+     * A volunteer can only be compatible with candidates below a node if the node's span overlaps the
+     * volunteer's, so the subtrees of nodes that do not are skipped. When the candidates are ordered by the
+     * start of their spans, this only visits nodes on the paths to overlapping candidates.
+     */
+    private static class CandidateTree {
+        static final int ROOT = 1;
+
+        private final Elderly[] candidates;
+        private final int[] positions;
+        private final boolean[] hasExactSpans;
+        private final Map<Integer, Integer> leaves = new HashMap<>();
+        private final int firstLeaf;
+        private final long[] earliestStarts;
+        private final long[] latestEnds;
+
+        CandidateTree(List<Elderly> elderlyList, DateSpan[] spans, List<Integer> bucketPositions) {
+            int size = bucketPositions.size();
+            int capacity = 1;
+            while (capacity < size) {
+                capacity *= 2;
+            }
+            candidates = new Elderly[size];
+            positions = new int[size];
+            hasExactSpans = new boolean[size];
+            firstLeaf = capacity;
+            earliestStarts = new long[2 * capacity];
+            latestEnds = new long[2 * capacity];
+            Arrays.fill(earliestStarts, DateSpan.EMPTY_START);
+            Arrays.fill(latestEnds, DateSpan.EMPTY_END);
+
+            for (int leaf = 0; leaf < size; leaf++) {
+                positions[leaf] = bucketPositions.get(leaf);
+                candidates[leaf] = elderlyList.get(positions[leaf]);
+                hasExactSpans[leaf] = spans[positions[leaf]].isExact;
+                leaves.put(positions[leaf], leaf);
+                earliestStarts[firstLeaf + leaf] = spans[positions[leaf]].start;
+                latestEnds[firstLeaf + leaf] = spans[positions[leaf]].end;
+            }
+            for (int node = firstLeaf - 1; node >= ROOT; node--) {
+                update(node);
+            }
+        }
+
+        Elderly getCandidate(int leaf) {
+            return candidates[leaf];
+        }
+
+        int getPosition(int leaf) {
+            return positions[leaf];
+        }
+
+        /**
+         * Returns the first leaf below {@code node} with a candidate compatible with {@code volunteer},
+         * or {@code NONE} if there is none.
+         */
+        int findFirst(int node, Volunteer volunteer, DateSpan span) {
+            if (!isOverlapping(node, span)) {
+                return NONE;
+            }
+            if (node >= firstLeaf) {
+                return isCompatible(node, volunteer, span) ? node - firstLeaf : NONE;
+            }
+            int leaf = findFirst(2 * node, volunteer, span);
+            return leaf != NONE ? leaf : findFirst(2 * node + 1, volunteer, span);
+        }
+
+        /**
+         * Adds the list positions of all candidates below {@code node} that are compatible with {@code volunteer}
+         * to {@code compatiblePositions}.
+         */
+        void findAll(int node, Volunteer volunteer, DateSpan span, List<Integer> compatiblePositions) {
+            if (!isOverlapping(node, span)) {
+                return;
+            }
+            if (node >= firstLeaf) {
+                if (isCompatible(node, volunteer, span)) {
+                    compatiblePositions.add(positions[node - firstLeaf]);
+                }
+                return;
+            }
+            findAll(2 * node, volunteer, span, compatiblePositions);
+            findAll(2 * node + 1, volunteer, span, compatiblePositions);
+        }
+
+        void remove(int position) {
+            int node = firstLeaf + leaves.get(position);
+            earliestStarts[node] = DateSpan.EMPTY_START;
+            latestEnds[node] = DateSpan.EMPTY_END;
+            for (node /= 2; node >= ROOT; node /= 2) {
+                update(node);
+            }
+        }
+
+        private boolean isOverlapping(int node, DateSpan span) {
+            return earliestStarts[node] <= span.end && latestEnds[node] >= span.start;
+        }
+
+        /**
+         * Returns true if the candidate at {@code leafNode}, whose span overlaps {@code span}, is compatible
+         * with {@code volunteer}.
+         */
+        private boolean isCompatible(int leafNode, Volunteer volunteer, DateSpan span) {
+            int leaf = leafNode - firstLeaf;
+            // overlapping spans that are both exact always share an available day
+            return span.isExact && hasExactSpans[leaf] || candidates[leaf].hasSuitableAvailableDates(volunteer);
+        }
+
+        private void update(int node) {
+            earliestStarts[node] = Math.min(earliestStarts[2 * node], earliestStarts[2 * node + 1]);
+            latestEnds[node] = Math.max(latestEnds[2 * node], latestEnds[2 * node + 1]);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package seedu.address.logic.autopair;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import seedu.address.model.pair.Pair;
+import seedu.address.model.person.Elderly;
+import seedu.address.model.person.Volunteer;
+
+/**
+ * Pairs each volunteer, in order, with the first unpaired elderly that is compatible with it.
+ */
+public class GreedyPairing implements PairingStrategy {
+
+    @Override
+    public List<Pair> getPairs(List<Volunteer> volunteers, List<Elderly> elderly) {
+        requireAllNonNull(volunteers, elderly);
+        ElderlyCandidateIndex candidates = new ElderlyCandidateIndex(elderly);
+        List<Pair> pairs = new ArrayList<>();
+        for (Volunteer volunteer : volunteers) {
+            if (candidates.isEmpty()) {
+                break;
+            }
+            Optional<Elderly> candidate = candidates.findFirstCompatible(volunteer);
+            if (candidate.isPresent()) {
+                pairs.add(new Pair(candidate.get(), volunteer));
+                candidates.remove(candidate.get());
+            }
+        }
+        return pairs;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || other instanceof GreedyPairing;
+    }
+
+    @Override
+    public int hashCode() {
+        return GreedyPairing.class.hashCode();
+    }
+}
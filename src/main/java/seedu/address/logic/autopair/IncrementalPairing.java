@@ -0,0 +1,76 @@
+package seedu.address.logic.autopair;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.model.FriendlyLink;
+import seedu.address.model.pair.Pair;
+import seedu.address.model.person.Elderly;
+import seedu.address.model.person.Volunteer;
+import seedu.address.model.person.information.Nric;
+
+/**
+ * Pairs only the unpaired elderly and volunteers that changed since the last incremental auto pairing, and marks
+ * the unpaired elderly and volunteers as matched.
+ * <p>
+ * No two unchanged unpaired persons can be paired, so each changed volunteer is first paired with the first
+ * compatible changed elderly, or else with a compatible unchanged elderly, and then each changed elderly left with
+ * a compatible unchanged volunteer. Afterwards no two unpaired persons can be paired again.
+ * <p>
+ * Unchanged persons are looked up in the indexes that FriendlyLink keeps of them, so the time taken depends on the
+ * number of changed persons, and only grows with the logarithm of the number of unchanged ones.
+ */
+public class IncrementalPairing implements AutoPairing {
+
+    @Override
+    public List<Pair> getPairs(FriendlyLink friendlyLink) {
+        requireNonNull(friendlyLink);
+        List<Elderly> changedElderly = friendlyLink.getChangedUnpairedElderly();
+        ElderlyCandidateIndex changedCandidates = new ElderlyCandidateIndex(changedElderly);
+        Set<Nric> pairedElderly = new HashSet<>();
+        Set<Nric> pairedVolunteers = new HashSet<>();
+        List<Pair> pairs = new ArrayList<>();
+
+        for (Volunteer volunteer : friendlyLink.getChangedUnpairedVolunteers()) {
+            Optional<Elderly> candidate = changedCandidates.findFirstCompatible(volunteer);
+            if (candidate.isPresent()) {
+                changedCandidates.remove(candidate.get());
+            } else {
+                candidate = friendlyLink.findUnchangedUnpairedElderly(volunteer, pairedElderly);
+            }
+            if (candidate.isPresent()) {
+                pairs.add(new Pair(candidate.get(), volunteer));
+                pairedElderly.add(candidate.get().getNric());
+            }
+        }
+
+        for (Elderly elderly : changedElderly) {
+            if (pairedElderly.contains(elderly.getNric())) {
+                continue;
+            }
+            Optional<Volunteer> candidate = friendlyLink.findUnchangedUnpairedVolunteer(elderly, pairedVolunteers);
+            if (candidate.isPresent()) {
+                pairs.add(new Pair(elderly, candidate.get()));
+                pairedVolunteers.add(candidate.get().getNric());
+            }
+        }
+        friendlyLink.markUnpairedMatched();
+        return pairs;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || other instanceof IncrementalPairing;
+    }
+
+    @Override
+    public int hashCode() {
+        return IncrementalPairing.class.hashCode();
+    }
+}
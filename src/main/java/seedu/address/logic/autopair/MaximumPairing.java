@@ -0,0 +1,225 @@
+package seedu.address.logic.autopair;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.address.model.pair.Pair;
+import seedu.address.model.person.Elderly;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Volunteer;
+import seedu.address.model.person.information.Availability;
+import seedu.address.model.person.information.Nric;
+
+/**
+ * Pairs as many volunteers and elderly as possible, using the Hopcroft-Karp maximum bipartite matching algorithm.
+ * <p>
+ * The compatibility graph is never built: the neighbours of a volunteer are looked up in
+ * {@link ElderlyCandidateIndex}es, and each elderly is removed from them once it has been visited in a phase,
+ * so each phase visits every elderly at most twice. Matching starts from the pairs formed by
+ * {@link GreedyPairing} when volunteers and elderly are taken in order of the last day they are available,
+ * which leaves few augmenting paths to find.
+ */
+public class MaximumPairing implements PairingStrategy {
+
+    private static final int UNMATCHED = -1;
+    private static final int UNREACHED = -1;
+
+    @Override
+    public List<Pair> getPairs(List<Volunteer> volunteers, List<Elderly> elderly) {
+        requireAllNonNull(volunteers, elderly);
+        return new Matching(volunteers, elderly).getMaximumPairs();
+    }
+
+    /**
+     * Returns true, as maximum pairing is used to form more pairs than greedy pairing does.
+     */
+    @Override
+    public boolean isComparedToGreedy() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || other instanceof MaximumPairing;
+    }
+
+    @Override
+    public int hashCode() {
+        return MaximumPairing.class.hashCode();
+    }
+
+    /**
+     * A matching between volunteers and elderly, referred to by their positions in their lists.
+     */
+    private static class Matching {
+        private final List<Volunteer> volunteers;
+        private final List<Elderly> elderly;
+        private final Map<Nric, Integer> elderlyPositions = new HashMap<>();
+        private final int[] volunteerMatches;
+        private final int[] elderlyMatches;
+
+        // per phase: volunteer -> length of the shortest alternating path from a free volunteer
+        private final int[] layers;
+        // per phase: layer -> elderly reached from volunteers in that layer and not yet tried in the phase
+        private final List<ElderlyCandidateIndex> layerCandidates = new ArrayList<>();
+
+        Matching(List<Volunteer> volunteers, List<Elderly> elderly) {
+            this.volunteers = volunteers;
+            this.elderly = elderly;
+            volunteerMatches = new int[volunteers.size()];
+            elderlyMatches = new int[elderly.size()];
+            layers = new int[volunteers.size()];
+            Arrays.fill(volunteerMatches, UNMATCHED);
+            Arrays.fill(elderlyMatches, UNMATCHED);
+
+            Map<Nric, Integer> volunteerPositions = new HashMap<>();
+            for (int i = 0; i < volunteers.size(); i++) {
+                volunteerPositions.put(volunteers.get(i).getNric(), i);
+            }
+            for (int i = 0; i < elderly.size(); i++) {
+                elderlyPositions.put(elderly.get(i).getNric(), i);
+            }
+            List<Pair> seedPairs = new GreedyPairing().getPairs(
+                    sortByLastAvailableDay(volunteers), sortByLastAvailableDay(elderly));
+            for (Pair pair : seedPairs) {
+                match(volunteerPositions.get(pair.getVolunteer().getNric()), getPosition(pair.getElderly()));
+            }
+        }
+
+        List<Pair> getMaximumPairs() {
+            while (findShortestAugmentingPaths()) {
+                for (int volunteer = 0; volunteer < volunteers.size(); volunteer++) {
+                    if (volunteerMatches[volunteer] == UNMATCHED) {
+                        augmentFrom(volunteer);
+                    }
+                }
+            }
+
+            List<Pair> pairs = new ArrayList<>();
+            for (int volunteer = 0; volunteer < volunteers.size(); volunteer++) {
+                if (volunteerMatches[volunteer] != UNMATCHED) {
+                    pairs.add(new Pair(elderly.get(volunteerMatches[volunteer]), volunteers.get(volunteer)));
+                }
+            }
+            return pairs;
+        }
+
+        /**
+         * Layers the volunteers by breadth-first search from all free volunteers, until a free elderly is reached.
+         *
+         * @return True if a free elderly can be reached, that is, if the matching can be augmented.
+         */
+        private boolean findShortestAugmentingPaths() {
+            Arrays.fill(layers, UNREACHED);
+            layerCandidates.clear();
+            List<Integer> frontier = new ArrayList<>();
+            for (int volunteer = 0; volunteer < volunteers.size(); volunteer++) {
+                if (volunteerMatches[volunteer] == UNMATCHED) {
+                    layers[volunteer] = 0;
+                    frontier.add(volunteer);
+                }
+            }
+
+            ElderlyCandidateIndex unvisited = new ElderlyCandidateIndex(elderly);
+            while (!frontier.isEmpty()) {
+                List<Elderly> reached = new ArrayList<>();
+                List<Elderly> reachedFree = new ArrayList<>();
+                List<Integer> nextFrontier = new ArrayList<>();
+                for (int volunteer : frontier) {
+                    for (Elderly candidate : unvisited.removeAllCompatible(volunteers.get(volunteer))) {
+                        int partner = elderlyMatches[getPosition(candidate)];
+                        if (partner == UNMATCHED) {
+                            reachedFree.add(candidate);
+                        } else {
+                            reached.add(candidate);
+                            layers[partner] = layerCandidates.size() + 1;
+                            nextFrontier.add(partner);
+                        }
+                    }
+                }
+                if (!reachedFree.isEmpty()) {
+                    // augmenting paths end at this layer, so only free elderly are of use from it
+                    layerCandidates.add(new ElderlyCandidateIndex(reachedFree));
+                    return true;
+                }
+                layerCandidates.add(new ElderlyCandidateIndex(reached));
+                frontier = nextFrontier;
+            }
+            return false;
+        }
+
+        /**
+         * Searches depth-first for a shortest augmenting path from the free {@code start} volunteer, and
+         * augments the matching along it if one is found.
+         * Elderly are removed from the layers once tried, so that paths found in a phase are disjoint.
+         */
+        private void augmentFrom(int start) {
+            int lastLayer = layerCandidates.size() - 1;
+            List<Integer> pathVolunteers = new ArrayList<>();
+            List<Integer> pathElderly = new ArrayList<>();
+            pathVolunteers.add(start);
+            while (!pathVolunteers.isEmpty()) {
+                int volunteer = pathVolunteers.get(pathVolunteers.size() - 1);
+                int layer = layers[volunteer];
+                ElderlyCandidateIndex candidates = layerCandidates.get(layer);
+                Optional<Elderly> candidate = candidates.findFirstCompatible(volunteers.get(volunteer));
+                if (!candidate.isPresent()) {
+                    // dead end, backtrack to the previous volunteer on the path
+                    pathVolunteers.remove(pathVolunteers.size() - 1);
+                    if (!pathElderly.isEmpty()) {
+                        pathElderly.remove(pathElderly.size() - 1);
+                    }
+                    continue;
+                }
+
+                candidates.remove(candidate.get());
+                int position = getPosition(candidate.get());
+                pathElderly.add(position);
+                if (layer == lastLayer) {
+                    for (int i = 0; i < pathVolunteers.size(); i++) {
+                        match(pathVolunteers.get(i), pathElderly.get(i));
+                    }
+                    return;
+                }
+                pathVolunteers.add(elderlyMatches[position]);
+            }
+        }
+
+        private void match(int volunteer, int elderly) {
+            volunteerMatches[volunteer] = elderly;
+            elderlyMatches[elderly] = volunteer;
+        }
+
+        private int getPosition(Elderly candidate) {
+            return elderlyPositions.get(candidate.getNric());
+        }
+
+        /**
+         * Returns a copy of {@code persons} sorted by the last day each person is available, keeping the order of
+         * persons available on the same last day. Persons without available dates are always available, so they
+         * are placed last.
+         */
+        private static <T extends Person> List<T> sortByLastAvailableDay(List<T> persons) {
+            long[] lastDays = new long[persons.size()];
+            List<Integer> order = new ArrayList<>();
+            for (int i = 0; i < persons.size(); i++) {
+                Availability availability = persons.get(i).getAvailability();
+                lastDays[i] = availability.isAlwaysAvailable()
+                        ? Long.MAX_VALUE
+                        : availability.getRangeEnd(availability.getRangeCount() - 1);
+                order.add(i);
+            }
+            order.sort(Comparator.comparingLong(i -> lastDays[i]));
+            return order.stream().map(persons::get).collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package seedu.address.logic.autopair;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Set;
+
+import seedu.address.model.person.Elderly;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Volunteer;
+import seedu.address.model.person.information.Availability;
+import seedu.address.model.person.information.Region.Place;
+import seedu.address.model.person.information.RiskLevel.Risk;
+import seedu.address.model.tag.MedicalQualificationTag;
+import seedu.address.model.tag.MedicalQualificationTag.SkillLevel;
+
+/**
+ * Scores how good a pair of a compatible volunteer and elderly is.
+ * <p>
+ * Every pair scores {@link #PAIR_SCORE}, so that a pair of compatible persons always scores more than leaving them
+ * unpaired. This does not outweigh the other parts of the score over many pairs, so {@link WeightedPairing} pairs
+ * as many volunteers and elderly as possible before comparing scores. On top of that, a pair scores
+ * {@link #QUALIFICATION_SCORE} for each unit of the product of the elderly's risk weight and the volunteer's
+ * highest medical skill weight, {@link #SAME_REGION_SCORE} if both are in the same specified region, and a point
+ * for each day both are available, up to {@link #MAX_OVERLAP_SCORE}.
+ */
+public class PairScorer {
+
+    public static final int PAIR_SCORE = 1000;
+    public static final int QUALIFICATION_SCORE = 100;
+    public static final int SAME_REGION_SCORE = 50;
+    public static final int MAX_OVERLAP_SCORE = 30;
+    public static final int MAX_SCORE = PAIR_SCORE + QUALIFICATION_SCORE * getRiskWeight(Risk.HIGH)
+            * getSkillWeight(SkillLevel.ADVANCED) + SAME_REGION_SCORE + MAX_OVERLAP_SCORE;
+
+    /**
+     * Returns the score of pairing {@code volunteer} with {@code elderly}, which are assumed to be compatible.
+     *
+     * @param volunteer Volunteer in the pair.
+     * @param elderly Elderly in the pair.
+     * @return Score of the pair, between {@link #PAIR_SCORE} and {@link #MAX_SCORE}.
+     */
+    public static int getScore(Volunteer volunteer, Elderly elderly) {
+        requireAllNonNull(volunteer, elderly);
+        return getScore(new Profile(volunteer), new Profile(elderly));
+    }
+
+    /**
+     * Returns the score of pairing the volunteer with {@code volunteerProfile} with the elderly with
+     * {@code elderlyProfile}, which are assumed to be compatible.
+     */
+    static int getScore(Profile volunteerProfile, Profile elderlyProfile) {
+        int qualificationScore = QUALIFICATION_SCORE * elderlyProfile.weight * volunteerProfile.weight;
+        boolean isSameRegion = volunteerProfile.place != Place.NOT_SPECIFIED
+                && volunteerProfile.place == elderlyProfile.place;
+        int regionScore = isSameRegion ? SAME_REGION_SCORE : 0;
+        int overlapScore = (int) Math.min(MAX_OVERLAP_SCORE,
+                volunteerProfile.availability.countCommonDays(elderlyProfile.availability));
+        return PAIR_SCORE + qualificationScore + regionScore + overlapScore;
+    }
+
+    /**
+     * Returns the weight of {@code risk}. Elderly with unspecified risk are weighted as low risk.
+     */
+    private static int getRiskWeight(Risk risk) {
+        switch (risk) {
+        case HIGH:
+            return 3;
+        case MEDIUM:
+            return 2;
+        default:
+            return 1;
+        }
+    }
+
+    private static int getSkillWeight(SkillLevel skillLevel) {
+        switch (skillLevel) {
+        case ADVANCED:
+            return 3;
+        case INTERMEDIATE:
+            return 2;
+        default:
+            return 1;
+        }
+    }
+
+    /**
+     * Returns the weight of the highest skill level in {@code medicalTags}, or 0 if there are no medical tags.
+     */
+    private static int getHighestSkillWeight(Set<MedicalQualificationTag> medicalTags) {
+        int highestWeight = 0;
+        for (MedicalQualificationTag medicalTag : medicalTags) {
+            SkillLevel skillLevel = SkillLevel.valueOf(medicalTag.getQualificationLevel());
+            highestWeight = Math.max(highestWeight, getSkillWeight(skillLevel));
+        }
+        return highestWeight;
+    }
+
+    /**
+     * The parts of a person that pairs are scored on, worked out once so that the person can be scored against
+     * many others quickly.
+     */
+    static class Profile {
+        // risk weight of an elderly, or highest skill weight of a volunteer
+        private final int weight;
+        private final Place place;
+        private final Availability availability;
+
+        Profile(Volunteer volunteer) {
+            this(getHighestSkillWeight(volunteer.getMedicalTags()), volunteer);
+        }
+
+        Profile(Elderly elderly) {
+            this(getRiskWeight(elderly.getRiskLevel().riskStatus), elderly);
+        }
+
+        private Profile(int weight, Person person) {
+            this.weight = weight;
+            this.place = person.getRegion().region;
+            this.availability = person.getAvailability();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.address.logic.autopair;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.model.FriendlyLink;
+import seedu.address.model.pair.Pair;
+import seedu.address.model.person.Elderly;
+import seedu.address.model.person.Volunteer;
+import seedu.address.model.person.information.Nric;
+
+/**
+ * A way of pairing unpaired volunteers and elderly with compatible regions and available dates.
+ * As an {@link AutoPairing}, it pairs the unpaired volunteers and elderly of FriendlyLink, in list order.
+ */
+public interface PairingStrategy extends AutoPairing {
+
+    /**
+     * Pairs volunteers in {@code volunteers} with elderly in {@code elderly}.
+     * Each volunteer and each elderly is in at most one of the pairs returned.
+     *
+     * @param volunteers Unpaired volunteers.
+     * @param elderly Unpaired elderly.
+     * @return Pairs formed, in the order of their volunteers in {@code volunteers}.
+     */
+    List<Pair> getPairs(List<Volunteer> volunteers, List<Elderly> elderly);
+
+    @Override
+    default List<Pair> getPairs(FriendlyLink friendlyLink) {
+        Set<Nric> pairedVolunteers = friendlyLink.getPairList().stream()
+                .map(pair -> pair.getVolunteer().getNric()).collect(Collectors.toSet());
+        Set<Nric> pairedElderly = friendlyLink.getPairList().stream()
+                .map(pair -> pair.getElderly().getNric()).collect(Collectors.toSet());
+        List<Volunteer> unpairedVolunteers = friendlyLink.getVolunteerList().stream()
+                .filter(v -> !pairedVolunteers.contains(v.getNric())).collect(Collectors.toList());
+        List<Elderly> unpairedElderly = friendlyLink.getElderlyList().stream()
+                .filter(e -> !pairedElderly.contains(e.getNric())).collect(Collectors.toList());
+        return getPairs(unpairedVolunteers, unpairedElderly);
+    }
+}
@@ -0,0 +1,319 @@
+package seedu.address.logic.autopair;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+
+import seedu.address.model.pair.Pair;
+import seedu.address.model.person.Elderly;
+import seedu.address.model.person.Volunteer;
+import seedu.address.model.person.information.Nric;
+
+/**
+ * Pairs as many volunteers and elderly as possible, and among those pairings, the one with the highest total
+ * {@link PairScorer} score, using the auction algorithm with epsilon scaling.
+ * <p>
+ * In the auction, each pair is worth its score above {@link PairScorer#PAIR_SCORE}, plus a bonus larger than the sum
+ * of those parts over any set of pairs. One more pair is then always worth more than better pairs, so the
+ * assignment worth the most has as many pairs as possible.
+ * <p>
+ * Volunteers bid for the compatible elderly that are worth the most to them at the current prices, raising the
+ * price of the elderly by how much more it is worth than their next best choice, which may be staying unpaired.
+ * Scores are scaled by one more than the number of volunteers and elderly, so the final round of bidding, with the
+ * smallest bid increment, ends with an optimal assignment.
+ * <p>
+ * The compatible pairs are found and scored up front by {@link CompatibilityGraph}, in parallel. Bidding then
+ * stops once the time budget runs out. The assignment from the last finished round of bidding is then used, and
+ * the volunteers left unpaired by it are paired greedily with the remaining elderly.
+ */
+public class WeightedPairing implements PairingStrategy {
+
+    public static final Duration DEFAULT_TIME_BUDGET = Duration.ofSeconds(2);
+
+    private static final int UNASSIGNED = -1;
+    private static final long EPSILON_REDUCTION_FACTOR = 5;
+    // bounds the memory used to keep the scores of compatible pairs between bids
+    private static final long MAX_REMEMBERED_SCORES = 4_000_000;
+
+    private final Duration timeBudget;
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructs a {@code WeightedPairing} with the default time budget.
+     */
+    public WeightedPairing() {
+        this(DEFAULT_TIME_BUDGET);
+    }
+
+    /**
+     * Constructs a {@code WeightedPairing} that stops bidding after {@code timeBudget}.
+     *
+     * @param timeBudget Time to spend bidding for each pairing.
+     */
+    public WeightedPairing(Duration timeBudget) {
+        this(timeBudget, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a {@code WeightedPairing} that stops bidding after {@code timeBudget}, and scores pairs on
+     * {@code pool}.
+     *
+     * @param timeBudget Time to spend bidding for each pairing.
+     * @param pool Pool to score pairs on.
+     */
+    public WeightedPairing(Duration timeBudget, ForkJoinPool pool) {
+        requireAllNonNull(timeBudget, pool);
+        this.timeBudget = timeBudget;
+        this.pool = pool;
+    }
+
+    @Override
+    public List<Pair> getPairs(List<Volunteer> volunteers, List<Elderly> elderly) {
+        requireAllNonNull(volunteers, elderly);
+        Optional<CompatibilityGraph> graph = CompatibilityGraph.build(volunteers, elderly, MAX_REMEMBERED_SCORES, pool);
+        long deadline = System.nanoTime() + timeBudget.toNanos();
+        return new Auction(volunteers, elderly, graph, deadline).getBestPairs();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this
+                || (other instanceof WeightedPairing
+                && timeBudget.equals(((WeightedPairing) other).timeBudget)
+                && pool.equals(((WeightedPairing) other).pool));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(timeBudget, pool);
+    }
+
+    /**
+     * An auction of elderly to volunteers, referred to by their positions in their lists.
+     * <p>
+     * To allow volunteers and elderly to stay unpaired, each volunteer has a placeholder object of its own that it
+     * can take to stay unpaired, and each elderly has a placeholder bidder that can take it to leave it unpaired.
+     * Placeholder bidders can also take the placeholder object of any volunteer, so that every bidder can always be
+     * assigned an object, which the auction algorithm relies on. All of these are worth 0.
+     */
+    private static class Auction {
+        private final List<Volunteer> volunteers;
+        private final List<Elderly> elderly;
+        private final long deadline;
+        private final ElderlyCandidateIndex candidates;
+        private final Map<Nric, Integer> elderlyPositions = new HashMap<>();
+        private final PairScorer.Profile[] elderlyProfiles;
+        // compatible pairs and their scores, unless there are too many to keep
+        private final Optional<CompatibilityGraph> graph;
+        private final long scale;
+        private final long pairBonus;
+
+        // bidders: volunteers, then placeholders of elderly; objects: elderly, then placeholders of volunteers
+        private final long[] prices;
+        private final int[] bidderAssignments;
+        private final int[] objectAssignments;
+        private final NavigableSet<Integer> placeholdersByPrice;
+
+        Auction(List<Volunteer> volunteers, List<Elderly> elderly, Optional<CompatibilityGraph> graph,
+                long deadline) {
+            this.volunteers = volunteers;
+            this.elderly = elderly;
+            this.graph = graph;
+            this.deadline = deadline;
+            candidates = new ElderlyCandidateIndex(elderly);
+            elderlyProfiles = new PairScorer.Profile[elderly.size()];
+            for (int i = 0; i < elderly.size(); i++) {
+                elderlyPositions.put(elderly.get(i).getNric(), i);
+                elderlyProfiles[i] = new PairScorer.Profile(elderly.get(i));
+            }
+            int size = volunteers.size() + elderly.size();
+            scale = size + 1;
+            long maxVariableScore = PairScorer.MAX_SCORE - PairScorer.PAIR_SCORE;
+            pairBonus = maxVariableScore * Math.min(volunteers.size(), elderly.size()) + 1;
+            prices = new long[size];
+            bidderAssignments = new int[size];
+            objectAssignments = new int[size];
+            placeholdersByPrice = new TreeSet<>(Comparator.<Integer>comparingLong(object -> prices[object])
+                    .thenComparingInt(object -> object));
+            for (int volunteer = 0; volunteer < volunteers.size(); volunteer++) {
+                placeholdersByPrice.add(getPlaceholderObject(volunteer));
+            }
+        }
+
+        List<Pair> getBestPairs() {
+            int[] bestAssignments = null;
+            long epsilon = getValue(PairScorer.MAX_SCORE);
+            do {
+                epsilon = Math.max(1, epsilon / EPSILON_REDUCTION_FACTOR);
+                if (!bid(epsilon)) {
+                    break;
+                }
+                bestAssignments = Arrays.copyOf(bidderAssignments, volunteers.size());
+            } while (epsilon > 1);
+
+            if (bestAssignments == null) {
+                // the first round of bidding did not finish, so its partial assignment is the best available
+                bestAssignments = Arrays.copyOf(bidderAssignments, volunteers.size());
+            }
+            return topUpGreedily(bestAssignments);
+        }
+
+        /**
+         * Runs a round of bidding, with bids raising prices by at least {@code epsilon}, until every bidder is
+         * assigned an object.
+         *
+         * @return True if bidding finished before the deadline.
+         */
+        private boolean bid(long epsilon) {
+            Arrays.fill(bidderAssignments, UNASSIGNED);
+            Arrays.fill(objectAssignments, UNASSIGNED);
+            Deque<Integer> bidders = new ArrayDeque<>();
+            for (int bidder = 0; bidder < bidderAssignments.length; bidder++) {
+                bidders.add(bidder);
+            }
+
+            while (!bidders.isEmpty()) {
+                if (System.nanoTime() - deadline >= 0) {
+                    return false;
+                }
+                int bidder = bidders.poll();
+                Bid bid = bidder < volunteers.size() ? getVolunteerBid(bidder) : getPlaceholderBid(bidder);
+                // with a single choice, any increment keeps the bidder happy with what it gets
+                long increment = bid.secondBestValue == Long.MIN_VALUE
+                        ? epsilon
+                        : bid.bestValue - bid.secondBestValue + epsilon;
+                raisePrice(bid.bestObject, increment);
+
+                int outbidBidder = objectAssignments[bid.bestObject];
+                if (outbidBidder != UNASSIGNED) {
+                    bidderAssignments[outbidBidder] = UNASSIGNED;
+                    bidders.add(outbidBidder);
+                }
+                bidderAssignments[bidder] = bid.bestObject;
+                objectAssignments[bid.bestObject] = bidder;
+            }
+            return true;
+        }
+
+        private Bid getVolunteerBid(int volunteer) {
+            Bid bid = new Bid();
+            bid.consider(getPlaceholderObject(volunteer), -prices[getPlaceholderObject(volunteer)]);
+            if (graph.isPresent()) {
+                int[] objects = graph.get().getCompatibleElderly(volunteer);
+                int[] scores = graph.get().getScores(volunteer);
+                for (int i = 0; i < objects.length; i++) {
+                    bid.consider(objects[i], getValue(scores[i]) - prices[objects[i]]);
+                }
+                return bid;
+            }
+
+            Volunteer bidder = volunteers.get(volunteer);
+            PairScorer.Profile bidderProfile = new PairScorer.Profile(bidder);
+            for (Elderly candidate : candidates.findAllCompatible(bidder)) {
+                int object = elderlyPositions.get(candidate.getNric());
+                bid.consider(object, getValue(PairScorer.getScore(bidderProfile, elderlyProfiles[object]))
+                        - prices[object]);
+            }
+            return bid;
+        }
+
+        private Bid getPlaceholderBid(int placeholder) {
+            Bid bid = new Bid();
+            int elderlyObject = placeholder - volunteers.size();
+            bid.consider(elderlyObject, -prices[elderlyObject]);
+            // placeholders of volunteers are all worth 0, so only the two cheapest can be the best choices
+            Iterator<Integer> cheapestPlaceholders = placeholdersByPrice.iterator();
+            for (int i = 0; i < 2 && cheapestPlaceholders.hasNext(); i++) {
+                int object = cheapestPlaceholders.next();
+                bid.consider(object, -prices[object]);
+            }
+            return bid;
+        }
+
+        private void raisePrice(int object, long increment) {
+            boolean isPlaceholder = object >= elderly.size();
+            if (isPlaceholder) {
+                placeholdersByPrice.remove(object);
+            }
+            prices[object] += increment;
+            if (isPlaceholder) {
+                placeholdersByPrice.add(object);
+            }
+        }
+
+        /**
+         * Returns how much a pair with {@code score} is worth in the auction, scaled.
+         */
+        private long getValue(int score) {
+            return (score - PairScorer.PAIR_SCORE + pairBonus) * scale;
+        }
+
+        private int getPlaceholderObject(int volunteer) {
+            return elderly.size() + volunteer;
+        }
+
+        /**
+         * Returns the pairs in {@code assignments}, together with pairs of the unassigned volunteers with the first
+         * compatible elderly that are still unassigned.
+         */
+        private List<Pair> topUpGreedily(int[] assignments) {
+            ElderlyCandidateIndex unassigned = new ElderlyCandidateIndex(elderly);
+            for (int assignment : assignments) {
+                if (isElderly(assignment)) {
+                    unassigned.remove(elderly.get(assignment));
+                }
+            }
+
+            List<Pair> pairs = new ArrayList<>();
+            for (int volunteer = 0; volunteer < volunteers.size(); volunteer++) {
+                if (isElderly(assignments[volunteer])) {
+                    pairs.add(new Pair(elderly.get(assignments[volunteer]), volunteers.get(volunteer)));
+                    continue;
+                }
+                Optional<Elderly> candidate = unassigned.findFirstCompatible(volunteers.get(volunteer));
+                if (candidate.isPresent()) {
+                    pairs.add(new Pair(candidate.get(), volunteers.get(volunteer)));
+                    unassigned.remove(candidate.get());
+                }
+            }
+            return pairs;
+        }
+
+        private boolean isElderly(int object) {
+            return object != UNASSIGNED && object < elderly.size();
+        }
+    }
+
+    /**
+     * The best and second best choices of a bidder.
+     */
+    private static class Bid {
+        private int bestObject = UNASSIGNED;
+        private long bestValue = Long.MIN_VALUE;
+        private long secondBestValue = Long.MIN_VALUE;
+
+        void consider(int object, long value) {
+            if (value > bestValue) {
+                secondBestValue = bestValue;
+                bestValue = value;
+                bestObject = object;
+            } else if (value > secondBestValue) {
+                secondBestValue = value;
+            }
+        }
+    }
+}
@@ -2,20 +2,20 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.stream.Collectors;
 
+import seedu.address.logic.autopair.AutoPairing;
+import seedu.address.logic.autopair.CapacityPairing;
+import seedu.address.logic.autopair.GreedyPairing;
+import seedu.address.logic.parser.AutoPairCommandParser;
 import seedu.address.logic.parser.Prefix;
 import seedu.address.model.FriendlyLink;
 import seedu.address.model.Model;
 import seedu.address.model.pair.Pair;
 import seedu.address.model.person.Elderly;
 import seedu.address.model.person.Volunteer;
-import seedu.address.model.person.information.AvailableDate;
 
 /**
  * Auto-pairs unpaired volunteers and elderly together.
@@ -27,42 +27,59 @@ public class AutoPairCommand extends Command {
     public static final String MESSAGE_SUCCESS_HEADER = "Paired the following elderly and volunteers together:\n";
     public static final String MESSAGE_SUCCESS_ITEM_FORMAT = "Elderly %s (%s) -- Volunteer %s (%s)\n";
     public static final String MESSAGE_SUCCESS_NO_PAIRS = "No pairs were formed.";
+    public static final String MESSAGE_COMPARED_TO_GREEDY = "%1$d more pairs were formed than by greedy pairing.";
     public static final String MESSAGE_USAGE = COMMAND_WORD
             + ": Automatically pairs unpaired elderly and volunteers together. "
-            + "The timings and the region of the the elderly and volunteers in each pair are guaranteed to match.";
+            + "The timings and the region of the the elderly and volunteers in each pair are guaranteed to match.\n"
+            + "\"" + AutoPairCommandParser.MODE_MAXIMUM + "\" pairs as many as possible, and \""
+            + AutoPairCommandParser.MODE_WEIGHTED + "\" pairs high risk elderly with qualified volunteers first, "
+            + "and \"" + AutoPairCommandParser.MODE_NEW + "\" only pairs those added, edited or unpaired since the "
+            + "last \"" + AutoPairCommandParser.MODE_NEW + "\".\n"
+            + "\"" + AutoPairCommandParser.MODE_CAPACITY + "\" also pairs volunteers with up to MAX_LOAD elderly "
+            + "(default " + CapacityPairing.DEFAULT_MAX_LOAD + "), and high risk elderly with two volunteers.\n"
+            + "Parameters: <[" + AutoPairCommandParser.MODE_MAXIMUM.toUpperCase() + " \\ "
+            + AutoPairCommandParser.MODE_WEIGHTED.toUpperCase() + " \\ "
+            + AutoPairCommandParser.MODE_NEW.toUpperCase() + " \\ "
+            + AutoPairCommandParser.MODE_CAPACITY.toUpperCase() + " [MAX_LOAD]]>\n"
+            + "Example: " + COMMAND_WORD + " " + AutoPairCommandParser.MODE_MAXIMUM;
+
+    private final AutoPairing autoPairing;
+
+    /**
+     * Constructs an {@code AutoPairCommand} that pairs greedily.
+     */
+    public AutoPairCommand() {
+        this(new GreedyPairing());
+    }
+
+    /**
+     * Constructs an {@code AutoPairCommand} that adds the pairs chosen by {@code autoPairing}.
+     *
+     * @param autoPairing Way of choosing the pairs to add.
+     */
+    public AutoPairCommand(AutoPairing autoPairing) {
+        requireNonNull(autoPairing);
+        this.autoPairing = autoPairing;
+    }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
         FriendlyLink friendlyLink = model.getFriendlyLink();
-        List<Volunteer> unpairedVolunteers = getUnpairedVolunteers(friendlyLink);
-        List<Elderly> unpairedElderly = getUnpairedElderly(friendlyLink);
-
-        List<Pair> pairsToAdd = getCompatiblePairs(unpairedVolunteers, unpairedElderly);
+        List<Pair> pairsToAdd = autoPairing.getPairs(friendlyLink);
         if (pairsToAdd.size() == 0) {
             return new CommandResult(MESSAGE_SUCCESS_NO_PAIRS);
         }
+
+        String feedback = getSuccessMessageFromPairList(pairsToAdd);
+        if (autoPairing.isComparedToGreedy()) {
+            int greedyPairCount = new GreedyPairing().getPairs(friendlyLink).size();
+            feedback += String.format(MESSAGE_COMPARED_TO_GREEDY, pairsToAdd.size() - greedyPairCount);
+        }
         for (Pair pair: pairsToAdd) {
             model.addPair(pair);
         }
-        String successMessage = getSuccessMessageFromPairList(pairsToAdd);
-        return new CommandResult(successMessage);
-    }
-
-    private List<Volunteer> getUnpairedVolunteers(FriendlyLink friendlyLink) {
-        List<Pair> pairList = friendlyLink.getPairList();
-        List<Volunteer> allVolunteers = friendlyLink.getVolunteerList();
-        List<Volunteer> pairedVolunteers = pairList.stream().map(Pair::getVolunteer).collect(Collectors.toList());
-        return allVolunteers.stream()
-                .filter(v -> !pairedVolunteers.contains(v)).collect(Collectors.toList());
-    }
-
-    private List<Elderly> getUnpairedElderly(FriendlyLink friendlyLink) {
-        List<Pair> pairList = friendlyLink.getPairList();
-        List<Elderly> allElderly = friendlyLink.getElderlyList();
-        List<Elderly> pairedElderly = pairList.stream().map(Pair::getElderly).collect(Collectors.toList());
-        return allElderly.stream().filter(e -> !pairedElderly.contains(e))
-                .collect(Collectors.toList());
+        return new CommandResult(feedback);
     }
 
     /**
@@ -85,30 +102,10 @@ public class AutoPairCommand extends Command {
         return successMessageBuilder.toString();
     }
 
-    /**
-     * Greedily pairs volunteers with elderly that have matching regions and availability. Pairs are
-     * one-to-one.
-     *
-     * @param volunteerList List of volunteers.
-     * @param elderlyList List of elderly.
-     * @return List of pairs formed greedily.
-     */
-    public static List<Pair> getCompatiblePairs(List<Volunteer> volunteerList, List<Elderly> elderlyList) {
-        HashSet<Elderly> pairedElderly = new HashSet<>();
-        ArrayList<Pair> compatiblePairs = new ArrayList<>();
-        for (Volunteer volunteer: volunteerList) {
-            for (Elderly elderly: elderlyList) {
-                if (pairedElderly.contains(elderly)
-                        || !volunteer.getRegion().isMatch(elderly.getRegion())
-                        || !AvailableDate.isAvailableDatesIntersecting(
-                                volunteer.getAvailableDates(), elderly.getAvailableDates())) {
-                    continue;
-                }
-                compatiblePairs.add(new Pair(elderly, volunteer));
-                pairedElderly.add(elderly);
-                break;
-            }
-        }
-        return compatiblePairs;
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AutoPairCommand // instanceof handles nulls
+                && autoPairing.equals(((AutoPairCommand) other).autoPairing));
     }
 }
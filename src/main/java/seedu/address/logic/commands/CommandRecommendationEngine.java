@@ -33,6 +33,7 @@ import seedu.address.logic.parser.ListCommandParser;
 import seedu.address.logic.parser.Parser;
 import seedu.address.logic.parser.Prefix;
 import seedu.address.logic.parser.StatsCommandParser;
+import seedu.address.logic.parser.SuggestCommandParser;
 
 /**
  * A class representing a recommendation engine that recommends a command based on the user input.
@@ -70,6 +71,7 @@ public class CommandRecommendationEngine {
         registerCommandParser(new HelpCommandParser());
         registerCommandParser(new StatsCommandParser());
         registerCommandParser(new AutoPairCommandParser());
+        registerCommandParser(new SuggestCommandParser());
     }
 
     private CommandRecommendationEngine() { }
@@ -15,18 +15,23 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_REGION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_RISK;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
 
+import seedu.address.logic.find.FindPlan;
 import seedu.address.logic.parser.Prefix;
+import seedu.address.model.FriendlyLink;
 import seedu.address.model.Model;
 import seedu.address.model.pair.Pair;
 import seedu.address.model.person.Elderly;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Volunteer;
+import seedu.address.model.person.information.Nric;
 
 /**
  * Finds and lists all volunteers and elderly in FriendlyLink whose attributes contains any of
@@ -93,20 +98,18 @@ public class FindCommand extends Command {
     public CommandResult execute(Model model) {
         requireNonNull(model);
 
-        Predicate<Person> combinedSharedPredicate = sharedFilterList.stream()
-                .reduce(x -> true, Predicate::and);
+        FriendlyLink friendlyLink = model.getFriendlyLink();
+        List<Predicate<? super Elderly>> elderlyPredicates = new ArrayList<>(sharedFilterList);
+        elderlyPredicates.addAll(elderlyOnlyFilterList);
+        List<Predicate<? super Volunteer>> volunteerPredicates = new ArrayList<>(sharedFilterList);
+        volunteerPredicates.addAll(volunteerOnlyFilterList);
 
-        Predicate<Elderly> combinedElderlyPredicate = elderlyOnlyFilterList.stream()
-                .reduce(x -> true, Predicate::and)
-                .and(combinedSharedPredicate);
-
-        Predicate<Volunteer> combinedVolunteerPredicate = volunteerOnlyFilterList.stream()
-                .reduce(x -> true, Predicate::and)
-                .and(combinedSharedPredicate);
-
-        model.updateFilteredElderlyList(combinedElderlyPredicate);
-        model.updateFilteredVolunteerList(combinedVolunteerPredicate);
-        model.updateFilteredPairList(getPairPredicate(model));
+        // safe to match by nric, because every change to the lists resets their filters
+        Set<Nric> elderlyFound = FindPlan.ofElderly(friendlyLink, elderlyPredicates).execute();
+        Set<Nric> volunteersFound = FindPlan.ofVolunteers(friendlyLink, volunteerPredicates).execute();
+        model.updateFilteredElderlyList(elderly -> elderlyFound.contains(elderly.getNric()));
+        model.updateFilteredVolunteerList(volunteer -> volunteersFound.contains(volunteer.getNric()));
+        model.updateFilteredPairList(getPairPredicate(elderlyFound, volunteersFound));
 
         return new CommandResult(
                 String.format(MESSAGE_LISTED_OVERVIEW, model.getFilteredVolunteerList().size(),
@@ -114,18 +117,16 @@ public class FindCommand extends Command {
     }
 
     /**
-     * Returns the pair predicate based on the filtered volunteers and elderly.
+     * Returns the pair predicate based on the found volunteers and elderly.
+     * Pairs are matched by the nrics of their elderly and volunteer, so each pair is checked in constant time.
      *
-     * @param model FriendlyLink model.
+     * @param elderlyFound Nrics of the elderly found.
+     * @param volunteersFound Nrics of the volunteers found.
      * @return Pair predicate.
      */
-    private Predicate<Pair> getPairPredicate(Model model) {
-        requireNonNull(model);
-        List<Elderly> listOfFilteredElderly = model.getFilteredElderlyList();
-        List<Volunteer> listOfFilteredVolunteers = model.getFilteredVolunteerList();
-
-        return pair -> (listOfFilteredElderly.contains(pair.getElderly())
-                || listOfFilteredVolunteers.contains(pair.getVolunteer()));
+    private Predicate<Pair> getPairPredicate(Set<Nric> elderlyFound, Set<Nric> volunteersFound) {
+        return pair -> (elderlyFound.contains(pair.getElderly().getNric())
+                || volunteersFound.contains(pair.getVolunteer().getNric()));
     }
 
     @Override
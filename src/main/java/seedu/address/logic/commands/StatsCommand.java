@@ -4,7 +4,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.HashMap;
 import java.util.LinkedHashMap;
-import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import seedu.address.logic.Summary;
@@ -13,8 +13,7 @@ import seedu.address.logic.aggregatefunction.MaxCount;
 import seedu.address.logic.parser.Prefix;
 import seedu.address.model.Model;
 import seedu.address.model.pair.Pair;
-import seedu.address.model.person.Elderly;
-import seedu.address.model.person.Volunteer;
+import seedu.address.model.person.information.Nric;
 
 /**
  * Summarises the information of all elderly, volunteers and pairs in FriendlyLink.
@@ -46,19 +45,19 @@ public class StatsCommand extends Command {
     private void summariseElderlyStatistics(Model model) {
         summary.describe(new Count<>(model.getFilteredElderlyList(), ELDERLY_COUNT));
 
-        List<Elderly> pairElderly = model.getFilteredPairList().stream()
-                .map(Pair::getElderly).collect(Collectors.toList());
+        Set<Nric> pairElderly = model.getFilteredPairList().stream()
+                .map(pair -> pair.getElderly().getNric()).collect(Collectors.toSet());
         summary.describe(new Count<>(model.getFilteredElderlyList(), UNPAIRED_ELDERLY_COUNT)
-                .with(elderly -> !pairElderly.contains(elderly)));
+                .with(elderly -> !pairElderly.contains(elderly.getNric())));
     }
 
     private void summariseVolunteerStatistics(Model model) {
         summary.describe(new Count<>(model.getFilteredVolunteerList(), VOLUNTEER_COUNT));
 
-        List<Volunteer> pairVolunteers = model.getFilteredPairList().stream()
-                .map(Pair::getVolunteer).collect(Collectors.toList());
+        Set<Nric> pairVolunteers = model.getFilteredPairList().stream()
+                .map(pair -> pair.getVolunteer().getNric()).collect(Collectors.toSet());
         summary.describe(new Count<>(model.getFilteredVolunteerList(), UNPAIRED_VOLUNTEER_COUNT)
-                .with(volunteer -> !pairVolunteers.contains(volunteer)));
+                .with(volunteer -> !pairVolunteers.contains(volunteer.getNric())));
 
     }
 
@@ -0,0 +1,97 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_NRIC_NOT_EXIST;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.logic.autopair.CandidateRanking;
+import seedu.address.logic.autopair.PairScorer;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.model.FriendlyLink;
+import seedu.address.model.Model;
+import seedu.address.model.pair.Pair;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.information.Nric;
+
+/**
+ * Lists the unpaired volunteers or elderly that are best suited to be paired with an elderly or volunteer,
+ * without pairing them.
+ */
+public class SuggestCommand extends Command {
+
+    public static final String COMMAND_WORD = "suggest";
+    public static final HashMap<Prefix, String> COMMAND_PROMPTS = new LinkedHashMap<>();
+    public static final int DEFAULT_COUNT = 5;
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Lists the unpaired volunteers or elderly best suited to be paired with the person identified "
+            + "by the NRIC, best first, without pairing them. Up to " + DEFAULT_COUNT + " are listed by default.\n"
+            + "Parameters: <NRIC> [COUNT]\n"
+            + "Example: " + COMMAND_WORD + " S1234567I 3";
+    public static final String MESSAGE_SUCCESS_HEADER = "Best candidates to pair with %1$s (%2$s):\n";
+    public static final String MESSAGE_SUCCESS_ITEM_FORMAT = "%1$d. %2$s (%3$s) -- score %4$d\n";
+    public static final String MESSAGE_NO_CANDIDATES = "There are no compatible unpaired candidates for %1$s (%2$s).";
+
+    private final Nric nric;
+    private final int count;
+
+    /**
+     * Creates a {@code SuggestCommand} to list the best candidates for the person with {@code nric}.
+     *
+     * @param nric Nric of the elderly or volunteer.
+     * @param count Maximum number of candidates to list.
+     */
+    public SuggestCommand(Nric nric, int count) {
+        requireNonNull(nric);
+        assert count > 0;
+        this.nric = nric;
+        this.count = count;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        FriendlyLink friendlyLink = model.getFriendlyLink();
+        if (friendlyLink.hasElderly(nric)) {
+            return getResult(friendlyLink.getElderly(nric),
+                    CandidateRanking.getBestPairs(friendlyLink, friendlyLink.getElderly(nric), count), false);
+        } else if (friendlyLink.hasVolunteer(nric)) {
+            return getResult(friendlyLink.getVolunteer(nric),
+                    CandidateRanking.getBestPairs(friendlyLink, friendlyLink.getVolunteer(nric), count), true);
+        } else {
+            throw new CommandException(MESSAGE_NRIC_NOT_EXIST);
+        }
+    }
+
+    private static CommandResult getResult(Person person, List<Pair> bestPairs, boolean isCandidateElderly) {
+        if (bestPairs.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_CANDIDATES, person.getName(), person.getNric()));
+        }
+        StringBuilder message = new StringBuilder(
+                String.format(MESSAGE_SUCCESS_HEADER, person.getName(), person.getNric()));
+        for (int i = 0; i < bestPairs.size(); i++) {
+            Pair pair = bestPairs.get(i);
+            Person candidate = isCandidateElderly ? pair.getElderly() : pair.getVolunteer();
+            message.append(String.format(MESSAGE_SUCCESS_ITEM_FORMAT, i + 1, candidate.getName(),
+                    candidate.getNric(), PairScorer.getScore(pair.getVolunteer(), pair.getElderly())));
+        }
+        return new CommandResult(message.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SuggestCommand // instanceof handles nulls
+                && nric.equals(((SuggestCommand) other).nric)
+                && count == ((SuggestCommand) other).count);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(nric, count);
+    }
+}
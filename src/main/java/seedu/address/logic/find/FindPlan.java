@@ -0,0 +1,283 @@
+package seedu.address.logic.find;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import seedu.address.model.FriendlyLink;
+import seedu.address.model.person.AttributeIndex;
+import seedu.address.model.person.AttributeIndex.Attribute;
+import seedu.address.model.person.Elderly;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.SuffixIndex;
+import seedu.address.model.person.TextIndex;
+import seedu.address.model.person.Volunteer;
+import seedu.address.model.person.information.Nric;
+import seedu.address.model.person.predicates.AddressContainsKeywordPredicate;
+import seedu.address.model.person.predicates.AvailableDatesWithinRangePredicate;
+import seedu.address.model.person.predicates.BirthDateEqualPredicate;
+import seedu.address.model.person.predicates.EmailContainsKeywordPredicate;
+import seedu.address.model.person.predicates.NameContainsKeywordPredicate;
+import seedu.address.model.person.predicates.NricContainsKeywordPredicate;
+import seedu.address.model.person.predicates.PhoneContainsDigitsPredicate;
+import seedu.address.model.person.predicates.RegionIsEqualPredicate;
+import seedu.address.model.person.predicates.RiskLevelIsEqualPredicate;
+import seedu.address.model.person.predicates.SkillLevelIsEqualPredicate;
+
+/**
+ * A plan for finding the persons in FriendlyLink that satisfy all of a list of predicates, using the indexes of
+ * FriendlyLink instead of testing every person against every predicate in the order they were given.
+ * <p>
+ * Predicates that an index of FriendlyLink can answer are access paths, whose number of matches is estimated
+ * without looking them up. The plan starts from the access path with the fewest estimated matches, or from every
+ * person if there is none. Each other access path, from the fewest estimated matches, is looked up and intersected
+ * with the candidates if it is estimated to match no more persons than there are candidates, and is otherwise
+ * tested on the candidates. The remaining predicates are then tested on the candidates, cheapest first.
+ * <p>
+ * Predicates on region, risk level, skill level and birth date are answered together as one access path, by
+ * intersecting the bitsets of an {@link AttributeIndex}. Birth dates are indexed by year only, so predicates on them
+ * narrow the candidates through the access path but are still tested on the candidates.
+ *
+ * @param <T> Type of persons found.
+ */
+public class FindPlan<T extends Person> {
+
+    private static final int COST_FIELD_EQUALITY = 0;
+    private static final int COST_AVAILABILITY = 1;
+    private static final int COST_OTHER = 2;
+
+    private final List<T> persons;
+    private final Function<Nric, T> getPerson;
+    private final BiFunction<LocalDate, LocalDate, Set<Nric>> findAvailable;
+    private final BiFunction<TextIndex.Field, String, Set<Nric>> findContaining;
+    private final BiFunction<TextIndex.Field, String, Integer> estimateContaining;
+    private final BiFunction<SuffixIndex.Field, String, Set<Nric>> findSuffixed;
+    private final BiFunction<SuffixIndex.Field, String, Integer> estimateSuffixed;
+    private final Function<Map<Attribute, ?>, Set<Nric>> findWithAll;
+    private final Function<Map<Attribute, ?>, Integer> countWithAll;
+    private final Map<Attribute, Object> attributeValues = new EnumMap<>(Attribute.class);
+    private final List<Predicate<? super T>> attributePredicates = new ArrayList<>();
+    private final List<AccessPath<T>> accessPaths = new ArrayList<>();
+    private final List<Predicate<? super T>> residualPredicates = new ArrayList<>();
+
+    private FindPlan(List<T> persons, Function<Nric, T> getPerson,
+            BiFunction<LocalDate, LocalDate, Set<Nric>> findAvailable,
+            BiFunction<TextIndex.Field, String, Set<Nric>> findContaining,
+            BiFunction<TextIndex.Field, String, Integer> estimateContaining,
+            BiFunction<SuffixIndex.Field, String, Set<Nric>> findSuffixed,
+            BiFunction<SuffixIndex.Field, String, Integer> estimateSuffixed,
+            Function<Map<Attribute, ?>, Set<Nric>> findWithAll, Function<Map<Attribute, ?>, Integer> countWithAll) {
+        this.persons = persons;
+        this.getPerson = getPerson;
+        this.findAvailable = findAvailable;
+        this.findContaining = findContaining;
+        this.estimateContaining = estimateContaining;
+        this.findSuffixed = findSuffixed;
+        this.estimateSuffixed = estimateSuffixed;
+        this.findWithAll = findWithAll;
+        this.countWithAll = countWithAll;
+    }
+
+    /**
+     * Plans how to find the elderly in {@code friendlyLink} that satisfy all of {@code predicates}.
+     *
+     * @param friendlyLink FriendlyLink to find elderly in.
+     * @param predicates Predicates the elderly found satisfy.
+     * @return Plan for finding the elderly.
+     */
+    public static FindPlan<Elderly> ofElderly(FriendlyLink friendlyLink,
+            List<? extends Predicate<? super Elderly>> predicates) {
+        requireAllNonNull(friendlyLink, predicates);
+        FindPlan<Elderly> plan = new FindPlan<>(friendlyLink.getElderlyList(), friendlyLink::getElderly,
+                friendlyLink::getElderlyAvailableThroughout,
+                friendlyLink::getElderlyContaining, friendlyLink::estimateElderlyContaining,
+                friendlyLink::getElderlyContaining, friendlyLink::estimateElderlyContaining,
+                friendlyLink::getElderlyWithAll, friendlyLink::countElderlyWithAll);
+        predicates.forEach(plan::add);
+        plan.order();
+        return plan;
+    }
+
+    /**
+     * Plans how to find the volunteers in {@code friendlyLink} that satisfy all of {@code predicates}.
+     *
+     * @param friendlyLink FriendlyLink to find volunteers in.
+     * @param predicates Predicates the volunteers found satisfy.
+     * @return Plan for finding the volunteers.
+     */
+    public static FindPlan<Volunteer> ofVolunteers(FriendlyLink friendlyLink,
+            List<? extends Predicate<? super Volunteer>> predicates) {
+        requireAllNonNull(friendlyLink, predicates);
+        FindPlan<Volunteer> plan = new FindPlan<>(friendlyLink.getVolunteerList(), friendlyLink::getVolunteer,
+                friendlyLink::getVolunteersAvailableThroughout,
+                friendlyLink::getVolunteersContaining, friendlyLink::estimateVolunteersContaining,
+                friendlyLink::getVolunteersContaining, friendlyLink::estimateVolunteersContaining,
+                friendlyLink::getVolunteersWithAll, friendlyLink::countVolunteersWithAll);
+        predicates.forEach(plan::add);
+        plan.order();
+        return plan;
+    }
+
+    /**
+     * Returns the nrics of the persons that satisfy all the predicates of the plan.
+     */
+    public Set<Nric> execute() {
+        List<T> candidates = persons;
+        List<Predicate<? super T>> filters = new ArrayList<>(residualPredicates);
+        for (int i = 0; i < accessPaths.size(); i++) {
+            AccessPath<T> accessPath = accessPaths.get(i);
+            if (i == 0) {
+                candidates = accessPath.findPersons.get();
+            } else if (accessPath.estimatedSize <= candidates.size()) {
+                Set<Nric> matches = accessPath.findNrics.get();
+                candidates = candidates.stream()
+                        .filter(person -> matches.contains(person.getNric()))
+                        .collect(Collectors.toList());
+            } else {
+                filters.addAll(accessPath.predicates);
+            }
+        }
+        filters.sort(Comparator.comparingInt(FindPlan::getCost));
+
+        Set<Nric> found = new HashSet<>();
+        for (T candidate : candidates) {
+            if (filters.stream().allMatch(filter -> filter.test(candidate))) {
+                found.add(candidate.getNric());
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Returns the predicates that are answered from an index, in the order they are looked up.
+     */
+    List<Predicate<? super T>> getIndexedPredicates() {
+        return accessPaths.stream()
+                .flatMap(accessPath -> accessPath.predicates.stream())
+                .collect(Collectors.toList());
+    }
+
+    private void add(Predicate<? super T> predicate) {
+        requireNonNull(predicate);
+        if (predicate instanceof RegionIsEqualPredicate) {
+            addAttribute(predicate, Attribute.REGION, ((RegionIsEqualPredicate<?>) predicate).getPlace());
+        } else if (predicate instanceof RiskLevelIsEqualPredicate) {
+            addAttribute(predicate, Attribute.RISK_LEVEL, ((RiskLevelIsEqualPredicate<?>) predicate).getRisk());
+        } else if (predicate instanceof SkillLevelIsEqualPredicate) {
+            addAttribute(predicate, Attribute.SKILL_LEVEL, ((SkillLevelIsEqualPredicate<?>) predicate).getLevel());
+        } else if (predicate instanceof BirthDateEqualPredicate) {
+            int birthYear = ((BirthDateEqualPredicate<?>) predicate).getBirthDate().getYear();
+            attributeValues.putIfAbsent(Attribute.BIRTH_YEAR, birthYear);
+            residualPredicates.add(predicate);
+        } else if (predicate instanceof AvailableDatesWithinRangePredicate) {
+            // the availability index cannot estimate its matches, so it is only used when nothing narrower is given
+            AvailableDatesWithinRangePredicate<?> rangePredicate = (AvailableDatesWithinRangePredicate<?>) predicate;
+            addNricAccessPath(predicate, persons.size(), () ->
+                    findAvailable.apply(rangePredicate.getStartDate(), rangePredicate.getEndDate()));
+        } else if (predicate instanceof NameContainsKeywordPredicate) {
+            addTextAccessPath(predicate, TextIndex.Field.NAME,
+                    ((NameContainsKeywordPredicate<?>) predicate).getKeyword());
+        } else if (predicate instanceof AddressContainsKeywordPredicate) {
+            addTextAccessPath(predicate, TextIndex.Field.ADDRESS,
+                    ((AddressContainsKeywordPredicate<?>) predicate).getKeyword());
+        } else if (predicate instanceof EmailContainsKeywordPredicate) {
+            addTextAccessPath(predicate, TextIndex.Field.EMAIL,
+                    ((EmailContainsKeywordPredicate<?>) predicate).getKeyword());
+        } else if (predicate instanceof NricContainsKeywordPredicate) {
+            addSuffixAccessPath(predicate, SuffixIndex.Field.NRIC,
+                    ((NricContainsKeywordPredicate<?>) predicate).getKeyword());
+        } else if (predicate instanceof PhoneContainsDigitsPredicate) {
+            addSuffixAccessPath(predicate, SuffixIndex.Field.PHONE,
+                    ((PhoneContainsDigitsPredicate<?>) predicate).getDigits());
+        } else {
+            residualPredicates.add(predicate);
+        }
+    }
+
+    /**
+     * Adds {@code predicate}, which holds exactly for the persons with {@code value} of {@code attribute}, to the
+     * access path on attributes. A second predicate on the same attribute is tested on the candidates instead.
+     */
+    private void addAttribute(Predicate<? super T> predicate, Attribute attribute, Object value) {
+        if (attributeValues.putIfAbsent(attribute, value) == null) {
+            attributePredicates.add(predicate);
+        } else {
+            residualPredicates.add(predicate);
+        }
+    }
+
+    private void addTextAccessPath(Predicate<? super T> predicate, TextIndex.Field field, String keyword) {
+        addNricAccessPath(predicate, estimateContaining.apply(field, keyword), () ->
+                findContaining.apply(field, keyword));
+    }
+
+    private void addSuffixAccessPath(Predicate<? super T> predicate, SuffixIndex.Field field, String keyword) {
+        addNricAccessPath(predicate, estimateSuffixed.apply(field, keyword), () ->
+                findSuffixed.apply(field, keyword));
+    }
+
+    private void addNricAccessPath(Predicate<? super T> predicate, int estimatedSize, Supplier<Set<Nric>> findNrics) {
+        addNricAccessPath(Collections.singletonList(predicate), estimatedSize, findNrics);
+    }
+
+    private void addNricAccessPath(List<Predicate<? super T>> predicates, int estimatedSize,
+            Supplier<Set<Nric>> findNrics) {
+        accessPaths.add(new AccessPath<>(predicates, estimatedSize, () ->
+                findNrics.get().stream().map(getPerson).collect(Collectors.toList()), findNrics));
+    }
+
+    private void order() {
+        if (!attributeValues.isEmpty()) {
+            addNricAccessPath(attributePredicates, countWithAll.apply(attributeValues), () ->
+                    findWithAll.apply(attributeValues));
+        }
+        accessPaths.sort(Comparator.comparingInt(accessPath -> accessPath.estimatedSize));
+        residualPredicates.sort(Comparator.comparingInt(FindPlan::getCost));
+    }
+
+    /**
+     * Returns the relative cost of testing {@code predicate} on a person.
+     */
+    private static int getCost(Predicate<?> predicate) {
+        if (predicate instanceof RegionIsEqualPredicate || predicate instanceof RiskLevelIsEqualPredicate
+                || predicate instanceof SkillLevelIsEqualPredicate || predicate instanceof BirthDateEqualPredicate) {
+            return COST_FIELD_EQUALITY;
+        } else if (predicate instanceof AvailableDatesWithinRangePredicate) {
+            return COST_AVAILABILITY;
+        } else {
+            return COST_OTHER;
+        }
+    }
+
+    /**
+     * Predicates that can be answered together from an index, with an upper bound on their number of matches.
+     */
+    private static class AccessPath<T extends Person> {
+        private final List<Predicate<? super T>> predicates;
+        private final int estimatedSize;
+        private final Supplier<List<T>> findPersons;
+        private final Supplier<Set<Nric>> findNrics;
+
+        AccessPath(List<Predicate<? super T>> predicates, int estimatedSize, Supplier<List<T>> findPersons,
+                Supplier<Set<Nric>> findNrics) {
+            this.predicates = predicates;
+            this.estimatedSize = estimatedSize;
+            this.findPersons = findPersons;
+            this.findNrics = findNrics;
+        }
+    }
+}
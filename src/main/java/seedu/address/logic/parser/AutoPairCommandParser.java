@@ -1,15 +1,29 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.autopair.CapacityPairing;
+import seedu.address.logic.autopair.IncrementalPairing;
+import seedu.address.logic.autopair.MaximumPairing;
+import seedu.address.logic.autopair.WeightedPairing;
 import seedu.address.logic.commands.AutoPairCommand;
 import seedu.address.logic.commands.CommandInfo;
 import seedu.address.logic.commands.exceptions.RecommendationException;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
- * Parses input arguments and creates a new ExitCommand object.
+ * Parses input arguments and creates a new AutoPairCommand object.
  */
 public class AutoPairCommandParser implements Parser<AutoPairCommand> {
 
+    public static final String MODE_MAXIMUM = "max";
+    public static final String MODE_WEIGHTED = "weighted";
+    public static final String MODE_NEW = "new";
+    public static final String MODE_CAPACITY = "capacity";
+    public static final String MESSAGE_INVALID_MAX_LOAD = "The maximum load should be a positive integer.";
+
     /**
      * Validates the given ArgumentMultimap by checking that it fulfils certain criteria.
      *
@@ -17,20 +31,58 @@ public class AutoPairCommandParser implements Parser<AutoPairCommand> {
      * @return true if the ArgumentMultimap is valid, false otherwise.
      */
     public static boolean validate(ArgumentMultimap map) throws RecommendationException {
-        throw new RecommendationException("Too many arguments.");
+        String[] arguments = map.getPreamble().trim().toLowerCase().split("\\s+");
+        String mode = arguments[0];
+        if (!MODE_MAXIMUM.startsWith(mode) && !MODE_WEIGHTED.startsWith(mode) && !MODE_NEW.startsWith(mode)
+                && !MODE_CAPACITY.startsWith(mode)) {
+            throw new RecommendationException("Unknown auto pairing mode.");
+        }
+        if (arguments.length > 2 || (arguments.length == 2 && !mode.equals(MODE_CAPACITY))) {
+            throw new RecommendationException("Too many arguments.");
+        }
+        return true;
     }
 
     /**
-     * Parses {@code userInput} into a command and returns it.
+     * Parses {@code args} into an {@code AutoPairCommand} and returns it.
      *
-     * @param userInput String from user.
-     * @return A {@code Command}.
-     * @throws ParseException If {@code userInput} does not conform the expected format.
+     * @param args Arguments.
+     * @return {@code AutoPairCommand} for execution.
+     * @throws ParseException If {@code args} does not conform the expected format.
      */
     @Override
-    public AutoPairCommand parse(String userInput) throws ParseException {
-        assert false : "This method should not be invoked";
-        return null;
+    public AutoPairCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim().toLowerCase();
+        switch (trimmedArgs) {
+        case "":
+            return new AutoPairCommand();
+        case MODE_MAXIMUM:
+            return new AutoPairCommand(new MaximumPairing());
+        case MODE_WEIGHTED:
+            return new AutoPairCommand(new WeightedPairing());
+        case MODE_NEW:
+            return new AutoPairCommand(new IncrementalPairing());
+        case MODE_CAPACITY:
+            return new AutoPairCommand(new CapacityPairing(CapacityPairing.DEFAULT_MAX_LOAD));
+        default:
+            return parseCapacity(trimmedArgs);
+        }
+    }
+
+    /**
+     * Parses {@code args} of the form "capacity MAX_LOAD" into an {@code AutoPairCommand}.
+     */
+    private static AutoPairCommand parseCapacity(String args) throws ParseException {
+        String[] arguments = args.split("\\s+");
+        if (arguments.length != 2 || !arguments[0].equals(MODE_CAPACITY)) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, AutoPairCommand.MESSAGE_USAGE));
+        }
+        if (!StringUtil.isNonZeroUnsignedInteger(arguments[1])) {
+            throw new ParseException(MESSAGE_INVALID_MAX_LOAD);
+        }
+        return new AutoPairCommand(new CapacityPairing(Integer.parseInt(arguments[1])));
     }
 
     @Override
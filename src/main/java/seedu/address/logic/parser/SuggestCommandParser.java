@@ -0,0 +1,72 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_NRIC;
+import static seedu.address.model.person.information.Nric.MESSAGE_CONSTRAINTS;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.CommandInfo;
+import seedu.address.logic.commands.SuggestCommand;
+import seedu.address.logic.commands.exceptions.RecommendationException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.information.Nric;
+
+/**
+ * Parses input arguments and creates a new SuggestCommand object.
+ */
+public class SuggestCommandParser implements Parser<SuggestCommand> {
+
+    public static final String MESSAGE_INVALID_COUNT = "The number of candidates should be a positive integer.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SuggestCommand
+     * and returns a SuggestCommand object for execution.
+     *
+     * @param args Arguments.
+     * @return {@code SuggestCommand} for execution.
+     * @throws ParseException If the user input does not conform the expected format.
+     */
+    public SuggestCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String[] arguments = args.trim().split("\\s+");
+        if (arguments[0].isEmpty() || arguments.length > 2) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, SuggestCommand.MESSAGE_USAGE));
+        }
+        if (!Nric.isValidNric(arguments[0])) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_PERSON_NRIC, "person", MESSAGE_CONSTRAINTS));
+        }
+        if (arguments.length == 1) {
+            return new SuggestCommand(new Nric(arguments[0]), SuggestCommand.DEFAULT_COUNT);
+        }
+        if (!StringUtil.isNonZeroUnsignedInteger(arguments[1])) {
+            throw new ParseException(MESSAGE_INVALID_COUNT);
+        }
+        return new SuggestCommand(new Nric(arguments[0]), Integer.parseInt(arguments[1]));
+    }
+
+    @Override
+    public CommandInfo getCommandInfo() {
+        return new CommandInfo(
+                SuggestCommand.COMMAND_WORD,
+                SuggestCommand.COMMAND_PROMPTS,
+                SuggestCommandParser::validate, "<NRIC> [COUNT]");
+    }
+
+    /**
+     * Validates the given ArgumentMultimap by checking that it fulfils certain criteria.
+     *
+     * @param map the ArgumentMultimap to be validated.
+     * @return true if the ArgumentMultimap is valid, false otherwise.
+     */
+    public static boolean validate(ArgumentMultimap map) throws RecommendationException {
+        if (map.getPreamble().trim().split("\\s+").length > 2) {
+            throw new RecommendationException("Too many arguments.");
+        } else if (map.getPreamble().isEmpty()) {
+            throw new RecommendationException("Requires NRIC to be specified.");
+        }
+        return true;
+    }
+}
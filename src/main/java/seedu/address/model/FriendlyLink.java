@@ -3,19 +3,33 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiFunction;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.pair.Pair;
 import seedu.address.model.pair.UniquePairList;
+import seedu.address.model.pair.UnpairedPool;
+import seedu.address.model.pair.exceptions.DuplicatePairException;
+import seedu.address.model.person.AttributeIndex;
 import seedu.address.model.person.Elderly;
+import seedu.address.model.person.PersonIndex;
+import seedu.address.model.person.SuffixIndex;
+import seedu.address.model.person.TextIndex;
 import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.person.Volunteer;
 import seedu.address.model.person.exceptions.ElderlyNotFoundException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.person.exceptions.VolunteerNotFoundException;
+import seedu.address.model.person.information.Availability;
 import seedu.address.model.person.information.Nric;
+import seedu.address.model.person.information.Region.Place;
 
 /**
  * Wraps all data at the friendly-link level
@@ -25,6 +39,17 @@ public class FriendlyLink implements ReadOnlyFriendlyLink {
     private final UniquePersonList<Elderly> elderly;
     private final UniquePersonList<Volunteer> volunteers;
     private final UniquePairList pairs;
+    // Updated only after the person lists and pairs accept a change, so that a rejected change leaves them intact.
+    private final PersonIndex<Elderly> elderlyIndex = PersonIndex.ofElderly();
+    private final PersonIndex<Volunteer> volunteerIndex = PersonIndex.ofVolunteers();
+    private final UnpairedPool<Elderly> unpairedElderly = new UnpairedPool<>();
+    private final UnpairedPool<Volunteer> unpairedVolunteers = new UnpairedPool<>();
+
+    // How many times each store has changed, and up to which change it has been saved.
+    // A new FriendlyLink has not been saved anywhere yet, so every store starts out modified.
+    private final SaveState elderlySaveState = new SaveState();
+    private final SaveState volunteerSaveState = new SaveState();
+    private final SaveState pairSaveState = new SaveState();
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -37,6 +62,12 @@ public class FriendlyLink implements ReadOnlyFriendlyLink {
         pairs = new UniquePairList();
         elderly = new UniquePersonList<>();
         volunteers = new UniquePersonList<>();
+        elderly.asUnmodifiableObservableList().addListener((ListChangeListener<Elderly>) change ->
+                elderlySaveState.modify());
+        volunteers.asUnmodifiableObservableList().addListener((ListChangeListener<Volunteer>) change ->
+                volunteerSaveState.modify());
+        pairs.asUnmodifiableObservableList().addListener((ListChangeListener<Pair>) change ->
+                pairSaveState.modify());
     }
 
     public FriendlyLink() {}
@@ -74,6 +105,7 @@ public class FriendlyLink implements ReadOnlyFriendlyLink {
      */
     public void setPairs(List<Pair> pairs) {
         this.pairs.setPairs((pairs));
+        resetUnpairedPools();
     }
 
     /**
@@ -84,6 +116,8 @@ public class FriendlyLink implements ReadOnlyFriendlyLink {
      */
     public void setAllElderly(List<Elderly> elderly) {
         this.elderly.setPersons(elderly);
+        elderlyIndex.setAll(elderly);
+        resetUnpairedPools();
     }
 
     /**
@@ -94,6 +128,8 @@ public class FriendlyLink implements ReadOnlyFriendlyLink {
      */
     public void setVolunteers(List<Volunteer> volunteers) {
         this.volunteers.setPersons(volunteers);
+        volunteerIndex.setAll(volunteers);
+        resetUnpairedPools();
     }
 
     //// person-level operations
@@ -144,6 +180,8 @@ public class FriendlyLink implements ReadOnlyFriendlyLink {
      */
     public void addElderly(Elderly e) {
         elderly.add(e);
+        elderlyIndex.add(e);
+        unpairedElderly.add(e);
     }
 
     /**
@@ -154,6 +192,32 @@ public class FriendlyLink implements ReadOnlyFriendlyLink {
      */
     public void addVolunteer(Volunteer volunteer) {
         volunteers.add(volunteer);
+        volunteerIndex.add(volunteer);
+        unpairedVolunteers.add(volunteer);
+    }
+
+    /**
+     * Adds all {@code elderly} to the friendlyLink cache in a single batch.
+     * None of the elderly may already exist in the friendlyLink cache.
+     *
+     * @param elderly Elderly to be added.
+     */
+    public void addAllElderly(List<Elderly> elderly) {
+        this.elderly.addAll(elderly);
+        elderlyIndex.addAll(elderly);
+        elderly.forEach(unpairedElderly::add);
+    }
+
+    /**
+     * Adds all {@code volunteers} to the friendlyLink cache in a single batch.
+     * None of the volunteers may already exist in the friendlyLink cache.
+     *
+     * @param volunteers Volunteers to be added.
+     */
+    public void addAllVolunteers(List<Volunteer> volunteers) {
+        this.volunteers.addAll(volunteers);
+        volunteerIndex.addAll(volunteers);
+        volunteers.forEach(unpairedVolunteers::add);
     }
 
     /**
@@ -200,11 +264,14 @@ public class FriendlyLink implements ReadOnlyFriendlyLink {
     public void setElderly(Elderly target, Elderly editedElderly) {
         requireNonNull(editedElderly);
         elderly.setPerson(target, editedElderly);
-        for (Pair pair : pairs) {
-            if (pair.getElderly().equals(target)) {
-                setPair(pair, new Pair(editedElderly, pair.getVolunteer()));
-            }
+        try {
+            pairs.setElderly(target.getNric(), editedElderly);
+        } catch (DuplicatePairException e) {
+            elderly.setPerson(editedElderly, target);
+            throw e;
         }
+        elderlyIndex.set(target, editedElderly);
+        unpairedElderly.set(target, editedElderly);
     }
 
     /**
@@ -219,11 +286,14 @@ public class FriendlyLink implements ReadOnlyFriendlyLink {
     public void setVolunteer(Volunteer target, Volunteer editedVolunteer) {
         requireNonNull(editedVolunteer);
         volunteers.setPerson(target, editedVolunteer);
-        for (Pair pair : pairs) {
-            if (pair.getVolunteer().equals(target)) {
-                setPair(pair, new Pair(pair.getElderly(), editedVolunteer));
-            }
+        try {
+            pairs.setVolunteer(target.getNric(), editedVolunteer);
+        } catch (DuplicatePairException e) {
+            volunteers.setPerson(editedVolunteer, target);
+            throw e;
         }
+        volunteerIndex.set(target, editedVolunteer);
+        unpairedVolunteers.set(target, editedVolunteer);
     }
 
     /**
@@ -238,6 +308,8 @@ public class FriendlyLink implements ReadOnlyFriendlyLink {
             removePair(key.getNric(), volunteer.getNric());
         }
         elderly.remove(key);
+        elderlyIndex.remove(key);
+        unpairedElderly.remove(key.getNric());
     }
 
     /**
@@ -252,6 +324,209 @@ public class FriendlyLink implements ReadOnlyFriendlyLink {
             removePair(elderly.getNric(), key.getNric());
         }
         volunteers.remove(key);
+        volunteerIndex.remove(key);
+        unpairedVolunteers.remove(key.getNric());
+    }
+
+    /**
+     * Returns the nrics of the elderly who are available on every day from {@code startDate} to {@code endDate}.
+     * Elderly without available dates are available on every day.
+     *
+     * @param startDate First day of the range.
+     * @param endDate Last day of the range.
+     * @return Nrics of the elderly available throughout the range.
+     */
+    public Set<Nric> getElderlyAvailableThroughout(LocalDate startDate, LocalDate endDate) {
+        return elderlyIndex.getAvailability().findAvailableThroughout(startDate, endDate);
+    }
+
+    /**
+     * Returns the nrics of the volunteers who are available on every day from {@code startDate} to
+     * {@code endDate}.
+     * Volunteers without available dates are available on every day.
+     *
+     * @param startDate First day of the range.
+     * @param endDate Last day of the range.
+     * @return Nrics of the volunteers available throughout the range.
+     */
+    public Set<Nric> getVolunteersAvailableThroughout(LocalDate startDate, LocalDate endDate) {
+        return volunteerIndex.getAvailability().findAvailableThroughout(startDate, endDate);
+    }
+
+    /**
+     * Returns the nrics of the elderly who share an available day with {@code availability}.
+     * Elderly without available dates share every day.
+     *
+     * @param availability Availability to share a day with.
+     * @return Nrics of the elderly available on some day that {@code availability} is.
+     */
+    public Set<Nric> getElderlyIntersecting(Availability availability) {
+        return elderlyIndex.getAvailability().findIntersecting(availability);
+    }
+
+    /**
+     * Returns the nrics of the volunteers who share an available day with {@code availability}.
+     * Volunteers without available dates share every day.
+     *
+     * @param availability Availability to share a day with.
+     * @return Nrics of the volunteers available on some day that {@code availability} is.
+     */
+    public Set<Nric> getVolunteersIntersecting(Availability availability) {
+        return volunteerIndex.getAvailability().findIntersecting(availability);
+    }
+
+    /**
+     * Returns the nrics of the elderly whose {@code field} contains {@code keyword}, ignoring case.
+     *
+     * @param field Name, address or email.
+     * @param keyword Keyword to search for.
+     * @return Nrics of the matching elderly.
+     */
+    public Set<Nric> getElderlyContaining(TextIndex.Field field, String keyword) {
+        return elderlyIndex.getText().findContaining(field, keyword);
+    }
+
+    /**
+     * Returns the nrics of the volunteers whose {@code field} contains {@code keyword}, ignoring case.
+     *
+     * @param field Name, address or email.
+     * @param keyword Keyword to search for.
+     * @return Nrics of the matching volunteers.
+     */
+    public Set<Nric> getVolunteersContaining(TextIndex.Field field, String keyword) {
+        return volunteerIndex.getText().findContaining(field, keyword);
+    }
+
+    /**
+     * Returns an upper bound on the number of elderly whose {@code field} contains {@code keyword}, without
+     * searching for them.
+     *
+     * @param field Name, address or email.
+     * @param keyword Keyword to search for.
+     * @return Upper bound on the number of matching elderly.
+     */
+    public int estimateElderlyContaining(TextIndex.Field field, String keyword) {
+        return elderlyIndex.getText().estimateContaining(field, keyword);
+    }
+
+    /**
+     * Returns an upper bound on the number of volunteers whose {@code field} contains {@code keyword}, without
+     * searching for them.
+     *
+     * @param field Name, address or email.
+     * @param keyword Keyword to search for.
+     * @return Upper bound on the number of matching volunteers.
+     */
+    public int estimateVolunteersContaining(TextIndex.Field field, String keyword) {
+        return volunteerIndex.getText().estimateContaining(field, keyword);
+    }
+
+    /**
+     * Returns the nrics of the elderly whose {@code field} contains {@code keyword}.
+     * Nrics are compared in lower case, so the keyword for them must be in lower case.
+     *
+     * @param field Nric or phone number.
+     * @param keyword Keyword to search for.
+     * @return Nrics of the matching elderly.
+     */
+    public Set<Nric> getElderlyContaining(SuffixIndex.Field field, String keyword) {
+        return elderlyIndex.getSuffixes().findContaining(field, keyword);
+    }
+
+    /**
+     * Returns the nrics of the volunteers whose {@code field} contains {@code keyword}.
+     * Nrics are compared in lower case, so the keyword for them must be in lower case.
+     *
+     * @param field Nric or phone number.
+     * @param keyword Keyword to search for.
+     * @return Nrics of the matching volunteers.
+     */
+    public Set<Nric> getVolunteersContaining(SuffixIndex.Field field, String keyword) {
+        return volunteerIndex.getSuffixes().findContaining(field, keyword);
+    }
+
+    /**
+     * Returns an upper bound on the number of elderly whose {@code field} contains {@code keyword}, without
+     * collecting them.
+     *
+     * @param field Nric or phone number.
+     * @param keyword Keyword to search for.
+     * @return Upper bound on the number of matching elderly.
+     */
+    public int estimateElderlyContaining(SuffixIndex.Field field, String keyword) {
+        return elderlyIndex.getSuffixes().estimateContaining(field, keyword);
+    }
+
+    /**
+     * Returns an upper bound on the number of volunteers whose {@code field} contains {@code keyword}, without
+     * collecting them.
+     *
+     * @param field Nric or phone number.
+     * @param keyword Keyword to search for.
+     * @return Upper bound on the number of matching volunteers.
+     */
+    public int estimateVolunteersContaining(SuffixIndex.Field field, String keyword) {
+        return volunteerIndex.getSuffixes().estimateContaining(field, keyword);
+    }
+
+    /**
+     * Returns the nrics of the elderly that have every one of {@code values}.
+     *
+     * @param values Region, risk level or birth year the elderly have.
+     * @return Nrics of the matching elderly.
+     */
+    public Set<Nric> getElderlyWithAll(Map<AttributeIndex.Attribute, ?> values) {
+        return elderlyIndex.getAttributes().findAll(values);
+    }
+
+    /**
+     * Returns the nrics of the volunteers that have every one of {@code values}.
+     *
+     * @param values Region, lower case medical qualification level or birth year the volunteers have.
+     * @return Nrics of the matching volunteers.
+     */
+    public Set<Nric> getVolunteersWithAll(Map<AttributeIndex.Attribute, ?> values) {
+        return volunteerIndex.getAttributes().findAll(values);
+    }
+
+    /**
+     * Returns the number of elderly that have every one of {@code values}.
+     *
+     * @param values Region, risk level or birth year the elderly have.
+     * @return Number of matching elderly.
+     */
+    public int countElderlyWithAll(Map<AttributeIndex.Attribute, ?> values) {
+        return elderlyIndex.getAttributes().countAll(values);
+    }
+
+    /**
+     * Returns the number of volunteers that have every one of {@code values}.
+     *
+     * @param values Region, lower case medical qualification level or birth year the volunteers have.
+     * @return Number of matching volunteers.
+     */
+    public int countVolunteersWithAll(Map<AttributeIndex.Attribute, ?> values) {
+        return volunteerIndex.getAttributes().countAll(values);
+    }
+
+    /**
+     * Returns the elderly in {@code place}, in list order.
+     *
+     * @param place Region of the elderly.
+     * @return Unmodifiable list of the elderly in the region.
+     */
+    public List<Elderly> getElderlyInRegion(Place place) {
+        return elderly.asUnmodifiableRegionList(place);
+    }
+
+    /**
+     * Returns the volunteers in {@code place}, in list order.
+     *
+     * @param place Region of the volunteers.
+     * @return Unmodifiable list of the volunteers in the region.
+     */
+    public List<Volunteer> getVolunteersInRegion(Place place) {
+        return volunteers.asUnmodifiableRegionList(place);
     }
 
     //// pair-level operations
@@ -275,6 +550,18 @@ public class FriendlyLink implements ReadOnlyFriendlyLink {
      */
     public void addPair(Pair pair) {
         pairs.add(pair);
+        leaveUnpairedPools(pair);
+    }
+
+    /**
+     * Adds all {@code pairs} to {@code FriendlyLink} in a single batch.
+     * None of the pairs may already exist in {@code FriendlyLink}.
+     *
+     * @param pairs Pairs to add into FriendlyLink.
+     */
+    public void addAllPairs(List<Pair> pairs) {
+        this.pairs.addAll(pairs);
+        pairs.forEach(this::leaveUnpairedPools);
     }
 
     /**
@@ -303,6 +590,8 @@ public class FriendlyLink implements ReadOnlyFriendlyLink {
     public void setPair(Pair target, Pair editedPair) {
         requireAllNonNull(target, editedPair);
         pairs.setPair(target, editedPair);
+        joinUnpairedPoolsIfUnpaired(target);
+        leaveUnpairedPools(editedPair);
     }
 
     /**
@@ -313,6 +602,7 @@ public class FriendlyLink implements ReadOnlyFriendlyLink {
      */
     public void removePair(Pair target) {
         pairs.remove(target);
+        joinUnpairedPoolsIfUnpaired(target);
     }
 
     /**
@@ -324,7 +614,112 @@ public class FriendlyLink implements ReadOnlyFriendlyLink {
      * @param volunteerNric Nric of volunteer.
      */
     public void removePair(Nric elderlyNric, Nric volunteerNric) {
-        pairs.remove(new Pair(getElderly(elderlyNric), getVolunteer(volunteerNric)));
+        removePair(new Pair(getElderly(elderlyNric), getVolunteer(volunteerNric)));
+    }
+
+    /**
+     * Returns the elderly that are not in any pair.
+     */
+    public List<Elderly> getUnpairedElderly() {
+        return unpairedElderly.getAll();
+    }
+
+    /**
+     * Returns the volunteers that are not in any pair.
+     */
+    public List<Volunteer> getUnpairedVolunteers() {
+        return unpairedVolunteers.getAll();
+    }
+
+    /**
+     * Returns true if the elderly with {@code nric} exists and is not in any pair.
+     */
+    public boolean hasUnpairedElderly(Nric nric) {
+        return unpairedElderly.contains(nric);
+    }
+
+    /**
+     * Returns true if the volunteer with {@code nric} exists and is not in any pair.
+     */
+    public boolean hasUnpairedVolunteer(Nric nric) {
+        return unpairedVolunteers.contains(nric);
+    }
+
+    /**
+     * Returns the unpaired elderly that were added, edited or unpaired since unpaired persons were last marked as
+     * matched.
+     */
+    public List<Elderly> getChangedUnpairedElderly() {
+        return unpairedElderly.getChanged();
+    }
+
+    /**
+     * Returns the unpaired volunteers that were added, edited or unpaired since unpaired persons were last marked
+     * as matched.
+     */
+    public List<Volunteer> getChangedUnpairedVolunteers() {
+        return unpairedVolunteers.getChanged();
+    }
+
+    /**
+     * Returns an unpaired elderly that has not changed since unpaired persons were last marked as matched, is
+     * compatible with {@code volunteer}, and does not have one of {@code excluded} nrics.
+     *
+     * @param volunteer Volunteer to find a compatible elderly for.
+     * @param excluded Nrics of elderly that must not be returned.
+     * @return Compatible unchanged unpaired elderly, or {@code Optional.empty()} if there is none.
+     */
+    public Optional<Elderly> findUnchangedUnpairedElderly(Volunteer volunteer, Set<Nric> excluded) {
+        requireAllNonNull(volunteer, excluded);
+        return unpairedElderly.findUnchangedCompatible(volunteer, excluded::contains);
+    }
+
+    /**
+     * Returns an unpaired volunteer that has not changed since unpaired persons were last marked as matched, is
+     * compatible with {@code elderly}, and does not have one of {@code excluded} nrics.
+     *
+     * @param elderly Elderly to find a compatible volunteer for.
+     * @param excluded Nrics of volunteers that must not be returned.
+     * @return Compatible unchanged unpaired volunteer, or {@code Optional.empty()} if there is none.
+     */
+    public Optional<Volunteer> findUnchangedUnpairedVolunteer(Elderly elderly, Set<Nric> excluded) {
+        requireAllNonNull(elderly, excluded);
+        return unpairedVolunteers.findUnchangedCompatible(elderly, excluded::contains);
+    }
+
+    /**
+     * Marks the unpaired elderly and volunteers as matched, after which none of them can be paired with each
+     * other until they change.
+     */
+    public void markUnpairedMatched() {
+        unpairedElderly.markMatched();
+        unpairedVolunteers.markMatched();
+    }
+
+    private void resetUnpairedPools() {
+        unpairedElderly.setAll(elderly.asUnmodifiableObservableList(),
+                nric -> !pairs.getPairedVolunteers(nric).isEmpty());
+        unpairedVolunteers.setAll(volunteers.asUnmodifiableObservableList(),
+                nric -> !pairs.getPairedElderly(nric).isEmpty());
+    }
+
+    private void leaveUnpairedPools(Pair pair) {
+        unpairedElderly.remove(pair.getElderly().getNric());
+        unpairedVolunteers.remove(pair.getVolunteer().getNric());
+    }
+
+    /**
+     * Returns the elderly and volunteer of {@code pair} to the unpaired pools, if they are not in other pairs.
+     */
+    private void joinUnpairedPoolsIfUnpaired(Pair pair) {
+        Nric elderlyNric = pair.getElderly().getNric();
+        Nric volunteerNric = pair.getVolunteer().getNric();
+        if (elderly.contains(elderlyNric) && pairs.getPairedVolunteers(elderlyNric).isEmpty()) {
+            unpairedElderly.add(getElderly(elderlyNric));
+        }
+        if (volunteers.contains(volunteerNric) && pairs.getPairedElderly(volunteerNric).isEmpty()) {
+            unpairedVolunteers.add(getVolunteer(volunteerNric));
+        }
     }
 
     //// util methods
@@ -350,6 +745,110 @@ public class FriendlyLink implements ReadOnlyFriendlyLink {
         return pairs.asUnmodifiableObservableList();
     }
 
+    //// dirty tracking
+
+    /**
+     * Returns true if the elderly list has changed since it was last marked as saved.
+     */
+    public boolean isElderlyModified() {
+        return elderlySaveState.isModified();
+    }
+
+    /**
+     * Returns true if the volunteer list has changed since it was last marked as saved.
+     */
+    public boolean isVolunteerModified() {
+        return volunteerSaveState.isModified();
+    }
+
+    /**
+     * Returns true if the pair list has changed since it was last marked as saved.
+     */
+    public boolean isPairModified() {
+        return pairSaveState.isModified();
+    }
+
+    /**
+     * Returns the version of the elderly list, which increases every time the list changes.
+     */
+    public long getElderlyVersion() {
+        return elderlySaveState.version;
+    }
+
+    /**
+     * Returns the version of the volunteer list, which increases every time the list changes.
+     */
+    public long getVolunteerVersion() {
+        return volunteerSaveState.version;
+    }
+
+    /**
+     * Returns the version of the pair list, which increases every time the list changes.
+     */
+    public long getPairVersion() {
+        return pairSaveState.version;
+    }
+
+    /**
+     * Marks the elderly list as being in sync with its storage.
+     */
+    public void markElderlySaved() {
+        markElderlySaved(getElderlyVersion());
+    }
+
+    /**
+     * Marks the elderly list, as of {@code version}, as being in sync with its storage.
+     * Changes made after {@code version} remain unsaved. May be called from any thread.
+     *
+     * @param version Version of the elderly list that was saved.
+     */
+    public void markElderlySaved(long version) {
+        elderlySaveState.markSaved(version);
+    }
+
+    /**
+     * Marks the volunteer list as being in sync with its storage.
+     */
+    public void markVolunteerSaved() {
+        markVolunteerSaved(getVolunteerVersion());
+    }
+
+    /**
+     * Marks the volunteer list, as of {@code version}, as being in sync with its storage.
+     * Changes made after {@code version} remain unsaved. May be called from any thread.
+     *
+     * @param version Version of the volunteer list that was saved.
+     */
+    public void markVolunteerSaved(long version) {
+        volunteerSaveState.markSaved(version);
+    }
+
+    /**
+     * Marks the pair list as being in sync with its storage.
+     */
+    public void markPairSaved() {
+        markPairSaved(getPairVersion());
+    }
+
+    /**
+     * Marks the pair list, as of {@code version}, as being in sync with its storage.
+     * Changes made after {@code version} remain unsaved. May be called from any thread.
+     *
+     * @param version Version of the pair list that was saved.
+     */
+    public void markPairSaved(long version) {
+        pairSaveState.markSaved(version);
+    }
+
+    /**
+     * Marks the elderly, volunteer and pair lists as being in sync with their storage.
+     */
+    public void markAllSaved() {
+        markElderlySaved();
+        markVolunteerSaved();
+        markPairSaved();
+    }
+
     /**
      * Checks that an elderly satisfies the predicate with all their paired volunteers.
      * The elderly must not be null and must exist in FriendlyLink.
@@ -425,4 +924,26 @@ public class FriendlyLink implements ReadOnlyFriendlyLink {
                 + volunteers.hashCode()
                 + pairs.hashCode();
     }
+
+    /**
+     * How many times a store has changed, and up to which change it has been saved.
+     * Changes are only made by the thread that edits FriendlyLink, but saves may be marked by the thread that
+     * writes them to storage, after later changes have been made.
+     */
+    private static class SaveState {
+        private volatile long version = 1;
+        private final AtomicLong savedVersion = new AtomicLong();
+
+        private void modify() {
+            version++;
+        }
+
+        private boolean isModified() {
+            return savedVersion.get() < version;
+        }
+
+        private void markSaved(long version) {
+            savedVersion.accumulateAndGet(version, Math::max);
+        }
+    }
 }
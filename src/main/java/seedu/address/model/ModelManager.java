@@ -44,6 +44,7 @@ public class ModelManager implements Model {
         FriendlyLink temporaryFriendlyLink = new FriendlyLink();
         try {
             temporaryFriendlyLink = storage.read();
+            temporaryFriendlyLink.markAllSaved();
         } catch (DataConversionException e) {
             logger.warning("Data file not in the correct format. Will be starting with an empty FriendlyLink");
         } catch (IOException e) {
@@ -4,8 +4,15 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -21,6 +28,9 @@ import seedu.address.model.person.information.Nric;
  * pairs uses Pair#isSamePair(Pair) for equality so as to ensure that the pair being added or updated is
  * unique in terms of identity in the UniquePairList. However, the removal of a pair uses Pair#equals(Object) so
  * as to ensure that the pair with exactly the same fields will be removed.
+ * Pairs are additionally indexed by the nric of their elderly and volunteer in both directions, so duplicate
+ * checks and lookups of a person's pairs do not require a scan of the whole list, and the position of each pair in
+ * the list is kept so that replacing pairs only visits the pairs replaced.
  * Supports a minimal set of list operations.
  *
  * @see Pair#isSamePair(Pair)
@@ -31,6 +41,12 @@ public class UniquePairList implements Iterable<Pair> {
     private final ObservableList<Pair> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    // elderly nric -> (volunteer nric -> pair) and volunteer nric -> (elderly nric -> pair)
+    private final Map<Nric, Map<Nric, Pair>> elderlyIndex = new HashMap<>();
+    private final Map<Nric, Map<Nric, Pair>> volunteerIndex = new HashMap<>();
+    // pair in the list -> its position in the list
+    private final Map<Pair, Integer> positions = new IdentityHashMap<>();
+
     /**
      * Returns true if the list contains an equivalent pair as the given argument.
      *
@@ -39,7 +55,8 @@ public class UniquePairList implements Iterable<Pair> {
      */
     public boolean contains(Pair toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePair);
+        return elderlyIndex.getOrDefault(toCheck.getElderly().getNric(), Collections.emptyMap())
+                .containsKey(toCheck.getVolunteer().getNric());
     }
 
     /**
@@ -53,7 +70,34 @@ public class UniquePairList implements Iterable<Pair> {
         if (contains(toAdd)) {
             throw new DuplicatePairException();
         }
+        positions.put(toAdd, internalList.size());
         internalList.add(toAdd);
+        index(toAdd);
+    }
+
+    /**
+     * Adds all {@code toAdd} to the list in a single batched change.
+     * None of the pairs may already exist in the list, and {@code toAdd} must not contain duplicate pairs.
+     *
+     * @param toAdd Pairs to be added into FriendlyLink.
+     */
+    public void addAll(List<Pair> toAdd) {
+        requireAllNonNull(toAdd);
+        for (Pair pair : toAdd) {
+            if (contains(pair)) {
+                throw new DuplicatePairException();
+            }
+        }
+        if (!pairsAreUnique(toAdd)) {
+            throw new DuplicatePairException();
+        }
+
+        int position = internalList.size();
+        internalList.addAll(toAdd);
+        for (Pair pair : toAdd) {
+            positions.put(pair, position++);
+            index(pair);
+        }
     }
 
     /**
@@ -67,17 +111,52 @@ public class UniquePairList implements Iterable<Pair> {
     public void setPair(Pair target, Pair editedPair) {
         requireAllNonNull(target, editedPair);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Pair storedTarget = find(target);
+        if (storedTarget == null) {
             throw new PairNotFoundException();
         }
-        assert index < internalList.size() : "Index should be in range";
 
         if (!target.isSamePair(editedPair) && contains(editedPair)) {
             throw new DuplicatePairException();
         }
 
-        internalList.set(index, editedPair);
+        replace(storedTarget, editedPair);
+    }
+
+    /**
+     * Replaces the elderly of every pair containing the elderly with {@code elderlyNric} with {@code editedElderly}.
+     * Only the affected pairs are rewritten, and the list is left unchanged if the elderly has no pairs.
+     *
+     * @param elderlyNric Nric of the elderly before the edit.
+     * @param editedElderly Replacement elderly.
+     */
+    public void setElderly(Nric elderlyNric, Elderly editedElderly) {
+        requireAllNonNull(elderlyNric, editedElderly);
+        List<Pair> targets = new ArrayList<>(elderlyIndex.getOrDefault(elderlyNric, Collections.emptyMap()).values());
+        List<Pair> editedPairs = new ArrayList<>();
+        for (Pair pair : targets) {
+            editedPairs.add(new Pair(editedElderly, pair.getVolunteer()));
+        }
+        replacePairs(targets, editedPairs);
+    }
+
+    /**
+     * Replaces the volunteer of every pair containing the volunteer with {@code volunteerNric} with
+     * {@code editedVolunteer}.
+     * Only the affected pairs are rewritten, and the list is left unchanged if the volunteer has no pairs.
+     *
+     * @param volunteerNric Nric of the volunteer before the edit.
+     * @param editedVolunteer Replacement volunteer.
+     */
+    public void setVolunteer(Nric volunteerNric, Volunteer editedVolunteer) {
+        requireAllNonNull(volunteerNric, editedVolunteer);
+        List<Pair> targets = new ArrayList<>(
+                volunteerIndex.getOrDefault(volunteerNric, Collections.emptyMap()).values());
+        List<Pair> editedPairs = new ArrayList<>();
+        for (Pair pair : targets) {
+            editedPairs.add(new Pair(pair.getElderly(), editedVolunteer));
+        }
+        replacePairs(targets, editedPairs);
     }
 
     /**
@@ -88,9 +167,16 @@ public class UniquePairList implements Iterable<Pair> {
      */
     public void remove(Pair toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Pair storedPair = find(toRemove);
+        if (storedPair == null) {
             throw new PairNotFoundException();
         }
+        int position = positions.remove(storedPair);
+        internalList.remove(position);
+        for (int i = position; i < internalList.size(); i++) {
+            positions.put(internalList.get(i), i);
+        }
+        unindex(storedPair);
     }
 
     /**
@@ -101,6 +187,7 @@ public class UniquePairList implements Iterable<Pair> {
     public void setPairs(UniquePairList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        rebuildIndex();
     }
 
     /**
@@ -116,6 +203,7 @@ public class UniquePairList implements Iterable<Pair> {
         }
 
         internalList.setAll(pairs);
+        rebuildIndex();
     }
 
     /**
@@ -137,10 +225,8 @@ public class UniquePairList implements Iterable<Pair> {
     public List<Volunteer> getPairedVolunteers(Nric elderlyNric) {
         requireNonNull(elderlyNric);
         ArrayList<Volunteer> results = new ArrayList<>();
-        for (Pair pair : this) {
-            if (pair.getElderly().getNric().equals(elderlyNric)) {
-                results.add(pair.getVolunteer());
-            }
+        for (Pair pair : elderlyIndex.getOrDefault(elderlyNric, Collections.emptyMap()).values()) {
+            results.add(pair.getVolunteer());
         }
         return results;
     }
@@ -155,10 +241,8 @@ public class UniquePairList implements Iterable<Pair> {
     public List<Elderly> getPairedElderly(Nric volunteerNric) {
         requireNonNull(volunteerNric);
         ArrayList<Elderly> results = new ArrayList<>();
-        for (Pair pair : this) {
-            if (pair.getVolunteer().getNric().equals(volunteerNric)) {
-                results.add(pair.getElderly());
-            }
+        for (Pair pair : volunteerIndex.getOrDefault(volunteerNric, Collections.emptyMap()).values()) {
+            results.add(pair.getElderly());
         }
         return results;
 
@@ -181,6 +265,115 @@ public class UniquePairList implements Iterable<Pair> {
         return internalList.hashCode();
     }
 
+    /**
+     * Replaces each pair of {@code targets} in the list with the pair at the same position in {@code editedPairs},
+     * without visiting the other pairs in the list.
+     *
+     * @param targets Pairs in the list to replace.
+     * @param editedPairs Replacement pairs.
+     */
+    private void replacePairs(List<Pair> targets, List<Pair> editedPairs) {
+        if (targets.isEmpty()) {
+            return;
+        }
+        for (int i = 0; i < targets.size(); i++) {
+            if (!targets.get(i).isSamePair(editedPairs.get(i)) && contains(editedPairs.get(i))) {
+                throw new DuplicatePairException();
+            }
+        }
+        for (int i = 0; i < targets.size(); i++) {
+            replace(targets.get(i), editedPairs.get(i));
+        }
+    }
+
+    /**
+     * Replaces {@code target}, which must be the instance stored in the list, with {@code editedPair} at the same
+     * position, and updates the indexes.
+     *
+     * @param target Pair in the list to replace.
+     * @param editedPair Replacement pair.
+     */
+    private void replace(Pair target, Pair editedPair) {
+        int position = positions.remove(target);
+        internalList.set(position, editedPair);
+        positions.put(editedPair, position);
+        reindex(target, editedPair);
+    }
+
+    /**
+     * Returns the pair stored in the list that is equal to {@code pair}, or null if there is none.
+     *
+     * @param pair Pair to look for.
+     * @return The stored pair equal to {@code pair}, or null.
+     */
+    private Pair find(Pair pair) {
+        Pair storedPair = elderlyIndex.getOrDefault(pair.getElderly().getNric(), Collections.emptyMap())
+                .get(pair.getVolunteer().getNric());
+        return pair.equals(storedPair) ? storedPair : null;
+    }
+
+    /**
+     * Adds {@code pair} to the elderly and volunteer indexes.
+     *
+     * @param pair Pair to index.
+     */
+    private void index(Pair pair) {
+        Nric elderlyNric = pair.getElderly().getNric();
+        Nric volunteerNric = pair.getVolunteer().getNric();
+        elderlyIndex.computeIfAbsent(elderlyNric, nric -> new LinkedHashMap<>()).put(volunteerNric, pair);
+        volunteerIndex.computeIfAbsent(volunteerNric, nric -> new LinkedHashMap<>()).put(elderlyNric, pair);
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPair} in the elderly and volunteer indexes.
+     * If both pairs have the same identity, the pair keeps its position among the pairs of its elderly and volunteer.
+     *
+     * @param target Pair to remove from the indexes.
+     * @param editedPair Pair to add to the indexes.
+     */
+    private void reindex(Pair target, Pair editedPair) {
+        if (!target.isSamePair(editedPair)) {
+            unindex(target);
+        }
+        index(editedPair);
+    }
+
+    /**
+     * Removes {@code pair} from the elderly and volunteer indexes.
+     *
+     * @param pair Pair to remove from the indexes.
+     */
+    private void unindex(Pair pair) {
+        Nric elderlyNric = pair.getElderly().getNric();
+        Nric volunteerNric = pair.getVolunteer().getNric();
+        removeFromIndex(elderlyIndex, elderlyNric, volunteerNric);
+        removeFromIndex(volunteerIndex, volunteerNric, elderlyNric);
+    }
+
+    private static void removeFromIndex(Map<Nric, Map<Nric, Pair>> index, Nric key, Nric otherKey) {
+        Map<Nric, Pair> pairsOfKey = index.get(key);
+        if (pairsOfKey == null) {
+            return;
+        }
+        pairsOfKey.remove(otherKey);
+        if (pairsOfKey.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    /**
+     * Rebuilds the elderly and volunteer indexes and the positions of pairs from the contents of the list.
+     */
+    private void rebuildIndex() {
+        elderlyIndex.clear();
+        volunteerIndex.clear();
+        positions.clear();
+        for (int i = 0; i < internalList.size(); i++) {
+            positions.put(internalList.get(i), i);
+            index(internalList.get(i));
+        }
+    }
+
     /**
      * Returns true if {@code pairs} contains only unique pairs.
      *
@@ -188,11 +381,12 @@ public class UniquePairList implements Iterable<Pair> {
      * @return True if {@code pairs} contains only unique pairs and false otherwise.
      */
     private boolean pairsAreUnique(List<Pair> pairs) {
-        for (int i = 0; i < pairs.size() - 1; i++) {
-            for (int j = i + 1; j < pairs.size(); j++) {
-                if (pairs.get(i).isSamePair(pairs.get(j))) {
-                    return false;
-                }
+        Map<Nric, Set<Nric>> seenPairs = new HashMap<>();
+        for (Pair pair : pairs) {
+            Set<Nric> seenVolunteers = seenPairs.computeIfAbsent(
+                    pair.getElderly().getNric(), nric -> new HashSet<>());
+            if (!seenVolunteers.add(pair.getVolunteer().getNric())) {
+                return false;
             }
         }
         return true;
@@ -0,0 +1,182 @@
+package seedu.address.model.pair;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.AvailabilityIndex;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.information.Nric;
+import seedu.address.model.person.information.Region.Place;
+
+/**
+ * The persons that are not in any pair, in the order they became unpaired.
+ * <p>
+ * Persons that joined the pool, or were edited while in it, since the pool was last marked as matched are
+ * <i>changed</i>. Auto pairing marks the pool as matched once no two unpaired persons in it can be paired, so
+ * afterwards only pairs involving a changed person need to be looked for.
+ * <p>
+ * The unchanged persons are also indexed by region and available dates, so that a compatible unchanged person can
+ * be found for each changed person without going through the whole pool. The index is only updated for the
+ * persons that join, leave or change, and when the pool is marked as matched.
+ *
+ * @param <T> Type of persons in the pool.
+ */
+public class UnpairedPool<T extends Person> {
+
+    private final Map<Nric, T> unpaired = new LinkedHashMap<>();
+    private final Set<Nric> changed = new LinkedHashSet<>();
+    private final Map<Place, AvailabilityIndex<T>> unchangedByPlace = new EnumMap<>(Place.class);
+
+    /**
+     * Creates an empty {@code UnpairedPool}.
+     */
+    public UnpairedPool() {
+        for (Place place : Place.values()) {
+            unchangedByPlace.put(place, new AvailabilityIndex<>());
+        }
+    }
+
+    /**
+     * Adds {@code person} to the pool as a changed person, if it is not already in the pool.
+     *
+     * @param person Person that is not in any pair.
+     */
+    public void add(T person) {
+        requireNonNull(person);
+        if (unpaired.putIfAbsent(person.getNric(), person) == null) {
+            changed.add(person.getNric());
+        }
+    }
+
+    /**
+     * Removes the person with {@code nric} from the pool, if it is in the pool.
+     *
+     * @param nric Nric of the person.
+     */
+    public void remove(Nric nric) {
+        requireNonNull(nric);
+        T person = unpaired.remove(nric);
+        if (person != null && !changed.remove(nric)) {
+            getUnchangedIndex(person).remove(person);
+        }
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPerson} as a changed person, if {@code target} is in the pool.
+     *
+     * @param target Person before the edit.
+     * @param editedPerson Person after the edit.
+     */
+    public void set(T target, T editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        if (contains(target.getNric())) {
+            remove(target.getNric());
+            add(editedPerson);
+        }
+    }
+
+    /**
+     * Replaces the contents of the pool with the persons in {@code persons} that are not paired, all as changed
+     * persons.
+     *
+     * @param persons Persons to consider.
+     * @param isPaired Whether the person with a nric is in a pair.
+     */
+    public void setAll(List<T> persons, Predicate<Nric> isPaired) {
+        requireAllNonNull(persons, isPaired);
+        unpaired.clear();
+        changed.clear();
+        unchangedByPlace.values().forEach(index -> index.setAll(Collections.emptyList()));
+        for (T person : persons) {
+            if (!isPaired.test(person.getNric())) {
+                add(person);
+            }
+        }
+    }
+
+    /**
+     * Returns true if the person with {@code nric} is in the pool.
+     */
+    public boolean contains(Nric nric) {
+        requireNonNull(nric);
+        return unpaired.containsKey(nric);
+    }
+
+    /**
+     * Returns true if the person with {@code nric} is in the pool and has changed since the pool was last marked
+     * as matched.
+     */
+    public boolean isChanged(Nric nric) {
+        requireNonNull(nric);
+        return changed.contains(nric);
+    }
+
+    /**
+     * Returns all persons in the pool, in the order they became unpaired.
+     */
+    public List<T> getAll() {
+        return new ArrayList<>(unpaired.values());
+    }
+
+    /**
+     * Returns the changed persons in the pool, in the order they changed.
+     */
+    public List<T> getChanged() {
+        List<T> changedPersons = new ArrayList<>(changed.size());
+        for (Nric nric : changed) {
+            changedPersons.add(unpaired.get(nric));
+        }
+        return changedPersons;
+    }
+
+    /**
+     * Returns an unchanged person in the pool that is compatible with {@code person} in region and available dates,
+     * and is not excluded by {@code isExcluded}.
+     *
+     * @param person Person to find a compatible person for.
+     * @param isExcluded Whether the person with a nric must not be returned.
+     * @return Compatible unchanged person, or {@code Optional.empty()} if there is none.
+     */
+    public Optional<T> findUnchangedCompatible(Person person, Predicate<Nric> isExcluded) {
+        requireAllNonNull(person, isExcluded);
+        Place place = person.getRegion().region;
+        List<Place> searchedPlaces = place == Place.NOT_SPECIFIED
+                ? Arrays.asList(Place.values())
+                : Arrays.asList(place, Place.NOT_SPECIFIED);
+        for (Place searchedPlace : searchedPlaces) {
+            Optional<Nric> found = unchangedByPlace.get(searchedPlace)
+                    .findFirstIntersecting(person.getAvailability(), isExcluded.negate());
+            if (found.isPresent()) {
+                return Optional.of(unpaired.get(found.get()));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Marks every person in the pool as unchanged.
+     */
+    public void markMatched() {
+        for (Nric nric : changed) {
+            T person = unpaired.get(nric);
+            getUnchangedIndex(person).add(person);
+        }
+        changed.clear();
+    }
+
+    private AvailabilityIndex<T> getUnchangedIndex(T person) {
+        return unchangedByPlace.get(person.getRegion().region);
+    }
+}
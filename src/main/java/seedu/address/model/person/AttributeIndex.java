@@ -0,0 +1,178 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import seedu.address.model.person.information.Nric;
+
+/**
+ * Secondary indexes over low-cardinality attributes of persons, such as region or risk level, to find the persons
+ * with several attribute values by intersecting bitsets instead of checking every person.
+ * <p>
+ * Each person is given a slot, and each value of each indexed attribute has a bitset of the slots of the persons
+ * with that value. Removing a person clears its slot from every bitset of every attribute, which is cheap because
+ * the attributes have few values, and the slot is then given to the next person added.
+ *
+ * @param <T> Type of persons indexed.
+ */
+public class AttributeIndex<T extends Person> {
+
+    /**
+     * A low-cardinality attribute of persons that can be indexed.
+     */
+    public enum Attribute {
+        REGION,
+        RISK_LEVEL,
+        SKILL_LEVEL,
+        BIRTH_YEAR
+    }
+
+    private final Map<Attribute, Function<T, Collection<?>>> getValues;
+    private final Map<Attribute, Map<Object, BitSet>> slotsByValue = new EnumMap<>(Attribute.class);
+    private final Map<Nric, Integer> slotsByNric = new HashMap<>();
+    private final List<Nric> nrics = new ArrayList<>();
+    private final BitSet freeSlots = new BitSet();
+
+    /**
+     * Creates an empty index of the attributes in {@code getValues}.
+     *
+     * @param getValues Function that returns the values of a person, for each indexed attribute.
+     */
+    public AttributeIndex(Map<Attribute, Function<T, Collection<?>>> getValues) {
+        requireNonNull(getValues);
+        this.getValues = new EnumMap<>(getValues);
+        getValues.keySet().forEach(attribute -> slotsByValue.put(attribute, new HashMap<>()));
+    }
+
+    /**
+     * Creates an empty index of the region, risk level and birth year of elderly.
+     */
+    public static AttributeIndex<Elderly> ofElderly() {
+        Map<Attribute, Function<Elderly, Collection<?>>> getValues = new EnumMap<>(Attribute.class);
+        getValues.put(Attribute.REGION, elderly -> Collections.singletonList(elderly.getRegion().region));
+        getValues.put(Attribute.RISK_LEVEL, elderly -> Collections.singletonList(elderly.getRiskLevel().riskStatus));
+        getValues.put(Attribute.BIRTH_YEAR, elderly -> Collections.singletonList(getBirthYear(elderly)));
+        return new AttributeIndex<>(getValues);
+    }
+
+    /**
+     * Creates an empty index of the region, medical qualification levels and birth year of volunteers.
+     * Qualification levels are indexed in lower case.
+     */
+    public static AttributeIndex<Volunteer> ofVolunteers() {
+        Map<Attribute, Function<Volunteer, Collection<?>>> getValues = new EnumMap<>(Attribute.class);
+        getValues.put(Attribute.REGION, volunteer -> Collections.singletonList(volunteer.getRegion().region));
+        getValues.put(Attribute.SKILL_LEVEL, volunteer -> volunteer.getMedicalTags().stream()
+                .map(medicalTag -> medicalTag.getQualificationLevel().toLowerCase())
+                .collect(Collectors.toSet()));
+        getValues.put(Attribute.BIRTH_YEAR, volunteer -> Collections.singletonList(getBirthYear(volunteer)));
+        return new AttributeIndex<>(getValues);
+    }
+
+    private static Integer getBirthYear(Person person) {
+        return person.getBirthDate().birthDate.getYear();
+    }
+
+    /**
+     * Adds the attribute values of {@code person} to the index.
+     * The person must not already be in the index.
+     *
+     * @param person Person to add.
+     */
+    public void add(T person) {
+        requireNonNull(person);
+        assert !slotsByNric.containsKey(person.getNric());
+        int slot = freeSlots.isEmpty() ? nrics.size() : freeSlots.nextSetBit(0);
+        if (slot == nrics.size()) {
+            nrics.add(person.getNric());
+        } else {
+            nrics.set(slot, person.getNric());
+            freeSlots.clear(slot);
+        }
+        slotsByNric.put(person.getNric(), slot);
+        getValues.forEach((attribute, getValue) -> getValue.apply(person).forEach(value ->
+                slotsByValue.get(attribute).computeIfAbsent(value, unused -> new BitSet()).set(slot)));
+    }
+
+    /**
+     * Removes the attribute values of {@code person} from the index, if it is in the index.
+     *
+     * @param person Person to remove.
+     */
+    public void remove(T person) {
+        requireNonNull(person);
+        Integer slot = slotsByNric.remove(person.getNric());
+        if (slot == null) {
+            return;
+        }
+        nrics.set(slot, null);
+        freeSlots.set(slot);
+        slotsByValue.values().forEach(bitSets -> bitSets.values().forEach(bitSet -> bitSet.clear(slot)));
+    }
+
+    /**
+     * Replaces the contents of the index with the attribute values of {@code persons}.
+     *
+     * @param persons Persons to index.
+     */
+    public void setAll(List<T> persons) {
+        requireNonNull(persons);
+        slotsByNric.clear();
+        nrics.clear();
+        freeSlots.clear();
+        slotsByValue.values().forEach(Map::clear);
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the nrics of the persons that have every one of {@code values}.
+     *
+     * @param values Value of each attribute the persons have.
+     * @return Nrics of the matching persons.
+     */
+    public Set<Nric> findAll(Map<Attribute, ?> values) {
+        requireNonNull(values);
+        BitSet slots = intersect(values);
+        Set<Nric> found = new HashSet<>();
+        for (int slot = slots.nextSetBit(0); slot >= 0; slot = slots.nextSetBit(slot + 1)) {
+            found.add(nrics.get(slot));
+        }
+        return found;
+    }
+
+    /**
+     * Returns the number of persons that have every one of {@code values}.
+     *
+     * @param values Value of each attribute the persons have.
+     * @return Number of matching persons.
+     */
+    public int countAll(Map<Attribute, ?> values) {
+        requireNonNull(values);
+        return intersect(values).cardinality();
+    }
+
+    private BitSet intersect(Map<Attribute, ?> values) {
+        BitSet slots = new BitSet();
+        slots.set(0, nrics.size());
+        slots.andNot(freeSlots);
+        values.forEach((attribute, value) -> {
+            requireAllNonNull(attribute, value);
+            assert getValues.containsKey(attribute);
+            slots.and(slotsByValue.get(attribute).getOrDefault(value, new BitSet()));
+        });
+        return slots;
+    }
+}
@@ -0,0 +1,309 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.information.Availability;
+import seedu.address.model.person.information.Nric;
+
+/**
+ * An interval tree over the available dates of persons, to find the persons available on a range of days without
+ * checking every available date of every person.
+ * <p>
+ * The tree is a treap of the merged ranges of each person's {@link Availability}, ordered by start day, in which
+ * each node also holds the latest end day below it, so that subtrees that end too early are skipped. Persons without
+ * available dates are available on every day, and are kept apart from the tree.
+ *
+ * @param <T> Type of persons indexed.
+ */
+public class AvailabilityIndex<T extends Person> {
+
+    private final Map<Nric, List<Node>> nodesByNric = new HashMap<>();
+    private final Set<Nric> alwaysAvailable = new LinkedHashSet<>();
+    private final Random priorities = new Random(0);
+    private Node root;
+    private long nodeCount = 0;
+
+    /**
+     * Adds the available dates of {@code person} to the index.
+     * The person must not already be in the index.
+     *
+     * @param person Person to add.
+     */
+    public void add(T person) {
+        requireNonNull(person);
+        Nric nric = person.getNric();
+        Availability availability = person.getAvailability();
+        if (availability.isAlwaysAvailable()) {
+            alwaysAvailable.add(nric);
+            return;
+        }
+        List<Node> nodes = new ArrayList<>();
+        for (int i = 0; i < availability.getRangeCount(); i++) {
+            Node node = new Node(nric, availability.getRangeStart(i), availability.getRangeEnd(i),
+                    nodeCount++, priorities.nextInt());
+            root = insert(root, node);
+            nodes.add(node);
+        }
+        nodesByNric.put(nric, nodes);
+    }
+
+    /**
+     * Removes the available dates of {@code person} from the index, if it is in the index.
+     *
+     * @param person Person to remove.
+     */
+    public void remove(T person) {
+        requireNonNull(person);
+        Nric nric = person.getNric();
+        alwaysAvailable.remove(nric);
+        List<Node> nodes = nodesByNric.remove(nric);
+        if (nodes == null) {
+            return;
+        }
+        for (Node node : nodes) {
+            root = delete(root, node);
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with the available dates of {@code persons}.
+     *
+     * @param persons Persons to index.
+     */
+    public void setAll(List<T> persons) {
+        requireNonNull(persons);
+        nodesByNric.clear();
+        alwaysAvailable.clear();
+        root = null;
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the nrics of the persons with an available range that covers every day from {@code startDate} to
+     * {@code endDate}, together with the persons that are always available.
+     *
+     * @param startDate First day of the range.
+     * @param endDate Last day of the range.
+     * @return Nrics of the persons available throughout the range.
+     */
+    public Set<Nric> findAvailableThroughout(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        return find(startDate.toEpochDay(), endDate.toEpochDay());
+    }
+
+    /**
+     * Returns the nrics of the persons that share an available day with {@code availability}, together with the
+     * persons that are always available.
+     *
+     * @param availability Availability of the person to share a day with.
+     * @return Nrics of the persons available on some day that {@code availability} is.
+     */
+    public Set<Nric> findIntersecting(Availability availability) {
+        requireNonNull(availability);
+        if (availability.isAlwaysAvailable()) {
+            return find(Long.MAX_VALUE, Long.MIN_VALUE);
+        }
+        Set<Nric> found = new HashSet<>(alwaysAvailable);
+        for (int i = 0; i < availability.getRangeCount(); i++) {
+            collect(root, availability.getRangeEnd(i), availability.getRangeStart(i), found);
+        }
+        return found;
+    }
+
+    /**
+     * Returns the nric of a person that shares an available day with {@code availability} and is wanted by
+     * {@code isWanted}. Persons that are always available are tried first, in the order they were added, and then
+     * the others by the start of their available ranges.
+     *
+     * @param availability Availability of the person to share a day with.
+     * @param isWanted Whether the person with a nric may be returned.
+     * @return Nric of the person found, or {@code Optional.empty()} if there is none.
+     */
+    public Optional<Nric> findFirstIntersecting(Availability availability, Predicate<Nric> isWanted) {
+        requireAllNonNull(availability, isWanted);
+        for (Nric nric : alwaysAvailable) {
+            if (isWanted.test(nric)) {
+                return Optional.of(nric);
+            }
+        }
+        if (availability.isAlwaysAvailable()) {
+            return Optional.ofNullable(findFirst(root, Long.MAX_VALUE, Long.MIN_VALUE, isWanted));
+        }
+        for (int i = 0; i < availability.getRangeCount(); i++) {
+            Nric found = findFirst(root, availability.getRangeEnd(i), availability.getRangeStart(i), isWanted);
+            if (found != null) {
+                return Optional.of(found);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the nrics of the persons with an available range that starts on or before {@code latestStart} and
+     * ends on or after {@code earliestEnd}, together with the persons that are always available.
+     */
+    private Set<Nric> find(long latestStart, long earliestEnd) {
+        Set<Nric> found = new HashSet<>(alwaysAvailable);
+        collect(root, latestStart, earliestEnd, found);
+        return found;
+    }
+
+    private static void collect(Node node, long latestStart, long earliestEnd, Set<Nric> found) {
+        while (node != null && node.latestEnd >= earliestEnd) {
+            collect(node.left, latestStart, earliestEnd, found);
+            if (node.start > latestStart) {
+                // everything to the right starts even later
+                return;
+            }
+            if (node.end >= earliestEnd) {
+                found.add(node.nric);
+            }
+            node = node.right;
+        }
+    }
+
+    /**
+     * Returns the nric of the first wanted person below {@code node}, by start day, with an available range that
+     * starts on or before {@code latestStart} and ends on or after {@code earliestEnd}, or null if there is none.
+     */
+    private static Nric findFirst(Node node, long latestStart, long earliestEnd, Predicate<Nric> isWanted) {
+        while (node != null && node.latestEnd >= earliestEnd) {
+            Nric found = findFirst(node.left, latestStart, earliestEnd, isWanted);
+            if (found != null) {
+                return found;
+            }
+            if (node.start > latestStart) {
+                return null;
+            }
+            if (node.end >= earliestEnd && isWanted.test(node.nric)) {
+                return node.nric;
+            }
+            node = node.right;
+        }
+        return null;
+    }
+
+    private static Node insert(Node subtree, Node node) {
+        if (subtree == null) {
+            return node;
+        }
+        if (node.compareTo(subtree) < 0) {
+            subtree.left = insert(subtree.left, node);
+            if (subtree.left.priority > subtree.priority) {
+                subtree = rotateRight(subtree);
+            }
+        } else {
+            subtree.right = insert(subtree.right, node);
+            if (subtree.right.priority > subtree.priority) {
+                subtree = rotateLeft(subtree);
+            }
+        }
+        subtree.update();
+        return subtree;
+    }
+
+    private static Node delete(Node subtree, Node node) {
+        if (subtree == null) {
+            return null;
+        }
+        int comparison = node.compareTo(subtree);
+        if (comparison < 0) {
+            subtree.left = delete(subtree.left, node);
+        } else if (comparison > 0) {
+            subtree.right = delete(subtree.right, node);
+        } else {
+            return merge(subtree.left, subtree.right);
+        }
+        subtree.update();
+        return subtree;
+    }
+
+    /**
+     * Merges two treaps, where every node of {@code left} comes before every node of {@code right}.
+     */
+    private static Node merge(Node left, Node right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.update();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.update();
+        return right;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        node.update();
+        return newRoot;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        node.update();
+        return newRoot;
+    }
+
+    /**
+     * An available range of a person, as epoch days.
+     * Nodes are ordered by start day, and then by the order they were added in.
+     */
+    private static class Node implements Comparable<Node> {
+        private final Nric nric;
+        private final long start;
+        private final long end;
+        private final long sequence;
+        private final int priority;
+        private long latestEnd;
+        private Node left;
+        private Node right;
+
+        Node(Nric nric, long start, long end, long sequence, int priority) {
+            this.nric = nric;
+            this.start = start;
+            this.end = end;
+            this.sequence = sequence;
+            this.priority = priority;
+            this.latestEnd = end;
+        }
+
+        void update() {
+            latestEnd = end;
+            if (left != null) {
+                latestEnd = Math.max(latestEnd, left.latestEnd);
+            }
+            if (right != null) {
+                latestEnd = Math.max(latestEnd, right.latestEnd);
+            }
+        }
+
+        @Override
+        public int compareTo(Node other) {
+            int comparison = Long.compare(start, other.start);
+            return comparison != 0 ? comparison : Long.compare(sequence, other.sequence);
+        }
+    }
+}
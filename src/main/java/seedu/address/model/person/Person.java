@@ -8,6 +8,7 @@ import java.util.HashSet;
 import java.util.Set;
 
 import seedu.address.model.person.information.Address;
+import seedu.address.model.person.information.Availability;
 import seedu.address.model.person.information.AvailableDate;
 import seedu.address.model.person.information.BirthDate;
 import seedu.address.model.person.information.Email;
@@ -35,6 +36,7 @@ public abstract class Person {
     private final Region region;
     private final Set<Tag> tags = new HashSet<>();
     private final Set<AvailableDate> availableDates = new HashSet<>();
+    private final Availability availability;
 
     /**
      * Constructs a new person.
@@ -52,6 +54,7 @@ public abstract class Person {
         this.region = region;
         this.tags.addAll(tags);
         this.availableDates.addAll(availableDates);
+        this.availability = new Availability(availableDates);
     }
 
     public Name getName() {
@@ -93,6 +96,13 @@ public abstract class Person {
         return Collections.unmodifiableSet(availableDates);
     }
 
+    /**
+     * Returns the available dates of the person, merged into sorted and disjoint ranges.
+     */
+    public Availability getAvailability() {
+        return availability;
+    }
+
     /**
      * Returns true if both persons have the same nric.
      * This defines a weaker notion of equality between two persons.
@@ -131,23 +141,7 @@ public abstract class Person {
      */
     public boolean hasSuitableAvailableDates(Person otherPerson) {
         requireNonNull(otherPerson);
-        Set<AvailableDate> availableDates = getAvailableDates();
-        Set<AvailableDate> otherAvailableDates = otherPerson.getAvailableDates();
-
-        // no restrictions
-        if (availableDates.isEmpty() || otherAvailableDates.isEmpty()) {
-            return true;
-        }
-
-        // find first matching dates
-        for (AvailableDate date : availableDates) {
-            for (AvailableDate availableDate : otherAvailableDates) {
-                if (date.isIntersect(availableDate.getStartDate(), availableDate.getEndDate())) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return availability.isIntersecting(otherPerson.getAvailability());
     }
 
     /**
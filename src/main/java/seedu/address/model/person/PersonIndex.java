@@ -0,0 +1,122 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.List;
+
+/**
+ * All secondary indexes kept over a list of persons, updated together so that they always index the same persons.
+ * <p>
+ * The index does not check for duplicates or missing persons, so it must only be updated after the list it
+ * indexes has accepted the same change.
+ *
+ * @param <T> Type of persons indexed.
+ */
+public class PersonIndex<T extends Person> {
+    private final AvailabilityIndex<T> availability = new AvailabilityIndex<>();
+    private final TextIndex<T> text = new TextIndex<>();
+    private final SuffixIndex<T> suffixes = new SuffixIndex<>();
+    private final AttributeIndex<T> attributes;
+
+    /**
+     * Creates an empty index that indexes attributes with {@code attributes}.
+     *
+     * @param attributes Empty index of the attributes of the persons.
+     */
+    public PersonIndex(AttributeIndex<T> attributes) {
+        requireNonNull(attributes);
+        this.attributes = attributes;
+    }
+
+    /**
+     * Creates an empty index of elderly.
+     */
+    public static PersonIndex<Elderly> ofElderly() {
+        return new PersonIndex<>(AttributeIndex.ofElderly());
+    }
+
+    /**
+     * Creates an empty index of volunteers.
+     */
+    public static PersonIndex<Volunteer> ofVolunteers() {
+        return new PersonIndex<>(AttributeIndex.ofVolunteers());
+    }
+
+    /**
+     * Adds {@code person} to every index.
+     *
+     * @param person Person to add.
+     */
+    public void add(T person) {
+        requireNonNull(person);
+        availability.add(person);
+        text.add(person);
+        suffixes.add(person);
+        attributes.add(person);
+    }
+
+    /**
+     * Adds every one of {@code persons} to every index.
+     *
+     * @param persons Persons to add.
+     */
+    public void addAll(List<T> persons) {
+        requireNonNull(persons);
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Removes {@code person} from every index.
+     *
+     * @param person Person to remove.
+     */
+    public void remove(T person) {
+        requireNonNull(person);
+        availability.remove(person);
+        text.remove(person);
+        suffixes.remove(person);
+        attributes.remove(person);
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPerson} in every index.
+     *
+     * @param target Person to replace.
+     * @param editedPerson Replacement person.
+     */
+    public void set(T target, T editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        remove(target);
+        add(editedPerson);
+    }
+
+    /**
+     * Replaces the contents of every index with {@code persons}.
+     *
+     * @param persons Persons to index.
+     */
+    public void setAll(List<T> persons) {
+        requireNonNull(persons);
+        availability.setAll(persons);
+        text.setAll(persons);
+        suffixes.setAll(persons);
+        attributes.setAll(persons);
+    }
+
+    public AvailabilityIndex<T> getAvailability() {
+        return availability;
+    }
+
+    public TextIndex<T> getText() {
+        return text;
+    }
+
+    public SuffixIndex<T> getSuffixes() {
+        return suffixes;
+    }
+
+    public AttributeIndex<T> getAttributes() {
+        return attributes;
+    }
+}
@@ -0,0 +1,311 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.model.person.information.Nric;
+
+/**
+ * A sorted index over every suffix of the nrics and phone numbers of persons, to find the persons whose nric or
+ * phone number contains a keyword by binary search instead of checking every person.
+ * <p>
+ * A keyword is contained in a value exactly when it is a prefix of one of the value's suffixes, and the suffixes
+ * starting with a keyword are next to each other once sorted, so a search is two binary searches followed by the
+ * matches themselves. Each field keeps its suffixes as slot and offset pairs packed into a sorted {@code long[]}.
+ * Suffixes of added persons are buffered, and merged into the sorted suffixes at the next search, which also drops
+ * the suffixes of removed persons.
+ *
+ * @param <T> Type of persons indexed.
+ */
+public class SuffixIndex<T extends Person> {
+
+    /**
+     * An attribute of persons that is indexed, along with how it is compared with keywords.
+     */
+    public enum Field {
+        NRIC(person -> person.getNric().value.toLowerCase()),
+        PHONE(person -> person.getPhone().value);
+
+        private final Function<Person, String> getValue;
+
+        Field(Function<Person, String> getValue) {
+            this.getValue = getValue;
+        }
+    }
+
+    private static final int MIN_SLOTS_TO_COMPACT = 64;
+
+    private final Map<Nric, Integer> slotsByNric = new HashMap<>();
+    private final List<Nric> nrics = new ArrayList<>();
+    private final Map<Field, FieldIndex> fieldIndexes = new EnumMap<>(Field.class);
+
+    /**
+     * Creates an empty index.
+     */
+    public SuffixIndex() {
+        for (Field field : Field.values()) {
+            fieldIndexes.put(field, new FieldIndex());
+        }
+    }
+
+    /**
+     * Adds the nric and phone number of {@code person} to the index.
+     * The person must not already be in the index.
+     *
+     * @param person Person to add.
+     */
+    public void add(T person) {
+        requireNonNull(person);
+        assert !slotsByNric.containsKey(person.getNric());
+        int slot = nrics.size();
+        nrics.add(person.getNric());
+        slotsByNric.put(person.getNric(), slot);
+        fieldIndexes.forEach((field, fieldIndex) -> fieldIndex.add(slot, field.getValue.apply(person)));
+    }
+
+    /**
+     * Removes the nric and phone number of {@code person} from the index, if it is in the index.
+     *
+     * @param person Person to remove.
+     */
+    public void remove(T person) {
+        requireNonNull(person);
+        Integer slot = slotsByNric.remove(person.getNric());
+        if (slot == null) {
+            return;
+        }
+        nrics.set(slot, null);
+        fieldIndexes.values().forEach(fieldIndex -> fieldIndex.remove(slot));
+        if (nrics.size() >= MIN_SLOTS_TO_COMPACT && nrics.size() > 2 * slotsByNric.size()) {
+            compact();
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with the nrics and phone numbers of {@code persons}.
+     *
+     * @param persons Persons to index.
+     */
+    public void setAll(List<T> persons) {
+        requireNonNull(persons);
+        slotsByNric.clear();
+        nrics.clear();
+        fieldIndexes.values().forEach(FieldIndex::clear);
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the nrics of the persons whose {@code field} contains {@code keyword}.
+     * Nrics are compared in lower case, so the keyword for them must be in lower case.
+     *
+     * @param field Field to search.
+     * @param keyword Keyword to search for.
+     * @return Nrics of the matching persons.
+     */
+    public Set<Nric> findContaining(Field field, String keyword) {
+        requireAllNonNull(field, keyword);
+        FieldIndex fieldIndex = fieldIndexes.get(field);
+        fieldIndex.sort();
+        Set<Nric> found = new HashSet<>();
+        int end = fieldIndex.findEnd(keyword);
+        for (int i = fieldIndex.findStart(keyword); i < end; i++) {
+            found.add(nrics.get(getSlot(fieldIndex.suffixes[i])));
+        }
+        return found;
+    }
+
+    /**
+     * Returns an upper bound on the number of persons whose {@code field} contains {@code keyword}, without
+     * collecting them.
+     *
+     * @param field Field to search.
+     * @param keyword Keyword to search for.
+     * @return Upper bound on the number of matching persons.
+     */
+    public int estimateContaining(Field field, String keyword) {
+        requireAllNonNull(field, keyword);
+        FieldIndex fieldIndex = fieldIndexes.get(field);
+        fieldIndex.sort();
+        return Math.min(fieldIndex.findEnd(keyword) - fieldIndex.findStart(keyword), slotsByNric.size());
+    }
+
+    /**
+     * Gives the persons in the index new slots without gaps, and drops the slots of removed persons.
+     * Renumbering slots in order does not change the order of the suffixes, so they are not sorted again.
+     */
+    private void compact() {
+        int[] newSlots = new int[nrics.size()];
+        List<Nric> liveNrics = new ArrayList<>();
+        for (int slot = 0; slot < nrics.size(); slot++) {
+            newSlots[slot] = nrics.get(slot) == null ? -1 : liveNrics.size();
+            if (nrics.get(slot) != null) {
+                slotsByNric.put(nrics.get(slot), liveNrics.size());
+                liveNrics.add(nrics.get(slot));
+            }
+        }
+        nrics.clear();
+        nrics.addAll(liveNrics);
+        fieldIndexes.values().forEach(fieldIndex -> fieldIndex.renumber(newSlots));
+    }
+
+    private static long toSuffix(int slot, int offset) {
+        return ((long) slot << 32) | offset;
+    }
+
+    private static int getSlot(long suffix) {
+        return (int) (suffix >>> 32);
+    }
+
+    private static int getOffset(long suffix) {
+        return (int) suffix;
+    }
+
+    /**
+     * The values of one field, by slot, and their suffixes in sorted order.
+     */
+    private static class FieldIndex {
+        private final List<String> values = new ArrayList<>();
+        private final List<Long> addedSuffixes = new ArrayList<>();
+        private long[] suffixes = new long[0];
+        private boolean hasRemovedSuffixes = false;
+
+        private void add(int slot, String value) {
+            values.add(value);
+            for (int offset = 0; offset < value.length(); offset++) {
+                addedSuffixes.add(toSuffix(slot, offset));
+            }
+        }
+
+        private void remove(int slot) {
+            values.set(slot, null);
+            hasRemovedSuffixes = true;
+        }
+
+        private void clear() {
+            values.clear();
+            addedSuffixes.clear();
+            suffixes = new long[0];
+            hasRemovedSuffixes = false;
+        }
+
+        /**
+         * Merges the added suffixes into the sorted suffixes, and drops the suffixes of removed persons.
+         */
+        private void sort() {
+            if (addedSuffixes.isEmpty() && !hasRemovedSuffixes) {
+                return;
+            }
+            Long[] added = addedSuffixes.stream().filter(this::isLive).toArray(Long[]::new);
+            Arrays.sort(added, this::compare);
+            long[] kept = hasRemovedSuffixes ? Arrays.stream(suffixes).filter(this::isLive).toArray() : suffixes;
+            long[] merged = new long[kept.length + added.length];
+            int i = 0;
+            int j = 0;
+            while (i < kept.length || j < added.length) {
+                merged[i + j] = j == added.length || (i < kept.length && compare(kept[i], added[j]) <= 0)
+                        ? kept[i++]
+                        : added[j++];
+            }
+            suffixes = merged;
+            addedSuffixes.clear();
+            hasRemovedSuffixes = false;
+        }
+
+        private boolean isLive(long suffix) {
+            return values.get(getSlot(suffix)) != null;
+        }
+
+        private void renumber(int[] newSlots) {
+            List<String> liveValues = new ArrayList<>();
+            for (String value : values) {
+                if (value != null) {
+                    liveValues.add(value);
+                }
+            }
+            values.clear();
+            values.addAll(liveValues);
+            suffixes = Arrays.stream(suffixes)
+                    .filter(suffix -> newSlots[getSlot(suffix)] >= 0)
+                    .map(suffix -> toSuffix(newSlots[getSlot(suffix)], getOffset(suffix)))
+                    .toArray();
+            addedSuffixes.removeIf(suffix -> newSlots[getSlot(suffix)] < 0);
+            addedSuffixes.replaceAll(suffix -> toSuffix(newSlots[getSlot(suffix)], getOffset(suffix)));
+        }
+
+        /**
+         * Returns the index of the first sorted suffix that is not smaller than {@code keyword}.
+         */
+        private int findStart(String keyword) {
+            int low = 0;
+            int high = suffixes.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (compareStart(suffixes[middle], keyword) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Returns the index of the first sorted suffix after those that start with {@code keyword}.
+         */
+        private int findEnd(String keyword) {
+            int low = 0;
+            int high = suffixes.length;
+            while (low < high) {
+                int middle = (low + high) >>> 1;
+                if (compareStart(suffixes[middle], keyword) <= 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Compares the start of {@code suffix}, as long as {@code keyword}, with {@code keyword}.
+         * Returns 0 exactly when the suffix starts with the keyword.
+         */
+        private int compareStart(long suffix, String keyword) {
+            String value = values.get(getSlot(suffix));
+            int offset = getOffset(suffix);
+            int length = Math.min(value.length() - offset, keyword.length());
+            for (int i = 0; i < length; i++) {
+                int difference = value.charAt(offset + i) - keyword.charAt(i);
+                if (difference != 0) {
+                    return difference;
+                }
+            }
+            return length < keyword.length() ? -1 : 0;
+        }
+
+        private int compare(long suffix, long otherSuffix) {
+            String value = values.get(getSlot(suffix));
+            String otherValue = values.get(getSlot(otherSuffix));
+            int offset = getOffset(suffix);
+            int otherOffset = getOffset(otherSuffix);
+            int length = Math.min(value.length() - offset, otherValue.length() - otherOffset);
+            for (int i = 0; i < length; i++) {
+                int difference = value.charAt(offset + i) - otherValue.charAt(otherOffset + i);
+                if (difference != 0) {
+                    return difference;
+                }
+            }
+            return (value.length() - offset) - (otherValue.length() - otherOffset);
+        }
+    }
+}
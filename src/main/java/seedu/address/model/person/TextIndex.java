@@ -0,0 +1,245 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.model.person.information.Nric;
+
+/**
+ * An inverted trigram index over the names, addresses and emails of persons, to find the persons whose text
+ * contains a keyword without lowercasing and searching the text of every person.
+ * <p>
+ * Each person is given a slot, and each field keeps the lowercased text of every slot along with, for each run of
+ * three characters, the slots whose text contains it. A search only checks the slots of the rarest run of three
+ * characters in the keyword. Keywords shorter than that are searched for in the lowercased texts directly.
+ * Removed persons leave empty slots behind, which are dropped once they outnumber the persons in the index.
+ *
+ * @param <T> Type of persons indexed.
+ */
+public class TextIndex<T extends Person> {
+
+    /**
+     * A text attribute of persons that is indexed.
+     */
+    public enum Field {
+        NAME(person -> person.getName().fullName),
+        ADDRESS(person -> person.getAddress().value),
+        EMAIL(person -> person.getEmail().value);
+
+        private final Function<Person, String> getText;
+
+        Field(Function<Person, String> getText) {
+            this.getText = getText;
+        }
+    }
+
+    private static final int GRAM_LENGTH = 3;
+    private static final int MIN_SLOTS_TO_COMPACT = 64;
+
+    private final Map<Nric, Integer> slotsByNric = new HashMap<>();
+    private final List<Nric> nrics = new ArrayList<>();
+    private final Map<Field, FieldIndex> fieldIndexes = new EnumMap<>(Field.class);
+
+    /**
+     * Creates an empty index.
+     */
+    public TextIndex() {
+        for (Field field : Field.values()) {
+            fieldIndexes.put(field, new FieldIndex());
+        }
+    }
+
+    /**
+     * Adds the name, address and email of {@code person} to the index.
+     * The person must not already be in the index.
+     *
+     * @param person Person to add.
+     */
+    public void add(T person) {
+        requireNonNull(person);
+        assert !slotsByNric.containsKey(person.getNric());
+        int slot = nrics.size();
+        nrics.add(person.getNric());
+        slotsByNric.put(person.getNric(), slot);
+        fieldIndexes.forEach((field, fieldIndex) -> fieldIndex.add(slot, field.getText.apply(person).toLowerCase()));
+    }
+
+    /**
+     * Removes the name, address and email of {@code person} from the index, if it is in the index.
+     *
+     * @param person Person to remove.
+     */
+    public void remove(T person) {
+        requireNonNull(person);
+        Integer slot = slotsByNric.remove(person.getNric());
+        if (slot == null) {
+            return;
+        }
+        nrics.set(slot, null);
+        fieldIndexes.values().forEach(fieldIndex -> fieldIndex.texts.set(slot, null));
+        if (nrics.size() >= MIN_SLOTS_TO_COMPACT && nrics.size() > 2 * slotsByNric.size()) {
+            compact();
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with the names, addresses and emails of {@code persons}.
+     *
+     * @param persons Persons to index.
+     */
+    public void setAll(List<T> persons) {
+        requireNonNull(persons);
+        clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the nrics of the persons whose {@code field} contains {@code keyword}, ignoring case.
+     *
+     * @param field Field to search.
+     * @param keyword Keyword to search for.
+     * @return Nrics of the matching persons.
+     */
+    public Set<Nric> findContaining(Field field, String keyword) {
+        requireAllNonNull(field, keyword);
+        String lowerCaseKeyword = keyword.toLowerCase();
+        FieldIndex fieldIndex = fieldIndexes.get(field);
+        Set<Nric> found = new HashSet<>();
+        if (lowerCaseKeyword.length() < GRAM_LENGTH) {
+            for (int slot = 0; slot < nrics.size(); slot++) {
+                fieldIndex.addIfContaining(slot, lowerCaseKeyword, found);
+            }
+            return found;
+        }
+        Postings rarest = fieldIndex.getRarestPostings(lowerCaseKeyword);
+        for (int i = 0; rarest != null && i < rarest.size; i++) {
+            fieldIndex.addIfContaining(rarest.slots[i], lowerCaseKeyword, found);
+        }
+        return found;
+    }
+
+    /**
+     * Returns an upper bound on the number of persons whose {@code field} contains {@code keyword}, without
+     * searching for them.
+     *
+     * @param field Field to search.
+     * @param keyword Keyword to search for.
+     * @return Upper bound on the number of matching persons.
+     */
+    public int estimateContaining(Field field, String keyword) {
+        requireAllNonNull(field, keyword);
+        String lowerCaseKeyword = keyword.toLowerCase();
+        if (lowerCaseKeyword.length() < GRAM_LENGTH) {
+            return slotsByNric.size();
+        }
+        Postings rarest = fieldIndexes.get(field).getRarestPostings(lowerCaseKeyword);
+        return rarest == null ? 0 : Math.min(rarest.size, slotsByNric.size());
+    }
+
+    private void clear() {
+        slotsByNric.clear();
+        nrics.clear();
+        fieldIndexes.values().forEach(FieldIndex::clear);
+    }
+
+    /**
+     * Gives the persons in the index new slots without gaps, and drops the slots of removed persons.
+     */
+    private void compact() {
+        List<Nric> oldNrics = new ArrayList<>(nrics);
+        Map<Field, List<String>> oldTexts = new EnumMap<>(Field.class);
+        fieldIndexes.forEach((field, fieldIndex) -> oldTexts.put(field, new ArrayList<>(fieldIndex.texts)));
+        clear();
+        for (int oldSlot = 0; oldSlot < oldNrics.size(); oldSlot++) {
+            if (oldNrics.get(oldSlot) == null) {
+                continue;
+            }
+            int slot = nrics.size();
+            nrics.add(oldNrics.get(oldSlot));
+            slotsByNric.put(oldNrics.get(oldSlot), slot);
+            for (Field field : Field.values()) {
+                fieldIndexes.get(field).add(slot, oldTexts.get(field).get(oldSlot));
+            }
+        }
+    }
+
+    /**
+     * Returns a key that identifies the three characters of {@code text} starting at {@code start}.
+     */
+    private static long getGram(String text, int start) {
+        return ((long) text.charAt(start) << 32) | ((long) text.charAt(start + 1) << 16) | text.charAt(start + 2);
+    }
+
+    /**
+     * The lowercased texts of one field, by slot, and the slots containing each run of three characters.
+     */
+    private class FieldIndex {
+        private final List<String> texts = new ArrayList<>();
+        private final Map<Long, Postings> postingsByGram = new HashMap<>();
+
+        private void add(int slot, String lowerCaseText) {
+            texts.add(lowerCaseText);
+            for (int start = 0; start + GRAM_LENGTH <= lowerCaseText.length(); start++) {
+                postingsByGram.computeIfAbsent(getGram(lowerCaseText, start), gram -> new Postings()).add(slot);
+            }
+        }
+
+        /**
+         * Returns the postings of the run of three characters in {@code keyword} contained by the fewest slots,
+         * or null if some run is not contained by any.
+         */
+        private Postings getRarestPostings(String keyword) {
+            Postings rarest = null;
+            for (int start = 0; start + GRAM_LENGTH <= keyword.length(); start++) {
+                Postings postings = postingsByGram.get(getGram(keyword, start));
+                if (postings == null) {
+                    return null;
+                }
+                if (rarest == null || postings.size < rarest.size) {
+                    rarest = postings;
+                }
+            }
+            return rarest;
+        }
+
+        private void addIfContaining(int slot, String keyword, Set<Nric> found) {
+            String text = texts.get(slot);
+            if (text != null && text.contains(keyword)) {
+                found.add(nrics.get(slot));
+            }
+        }
+
+        private void clear() {
+            texts.clear();
+            postingsByGram.clear();
+        }
+    }
+
+    /**
+     * The slots whose text contains a run of three characters, in increasing order and without duplicates.
+     */
+    private static class Postings {
+        private int[] slots = new int[2];
+        private int size = 0;
+
+        private void add(int slot) {
+            if (size > 0 && slots[size - 1] == slot) {
+                return;
+            }
+            if (size == slots.length) {
+                slots = Arrays.copyOf(slots, 2 * size);
+            }
+            slots[size++] = slot;
+        }
+    }
+}
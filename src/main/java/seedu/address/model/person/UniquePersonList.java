@@ -4,15 +4,21 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.person.information.Nric;
+import seedu.address.model.person.information.Region.Place;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -21,6 +27,11 @@ import seedu.address.model.person.information.Nric;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object)
  * to ensure that the person with exactly the same fields will be removed.
  * <p>
+ * Persons are additionally indexed by their nric, so lookups by nric and identity checks run in constant time,
+ * and partitioned by region, so operations scoped to a region only go through the persons in that region.
+ * The nric index also keeps the position of each person in the list, so a person is found in the list and in its
+ * region partition without scanning either.
+ * <p>
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -30,13 +41,26 @@ public class UniquePersonList<T extends Person> implements Iterable<T> {
     private final ObservableList<T> internalList = FXCollections.observableArrayList();
     private final ObservableList<T> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<Nric, T> nricIndex = new HashMap<>();
+    private final Map<Nric, Integer> positions = new HashMap<>();
+    // region -> persons in that region, in list order
+    private final Map<Place, List<T>> regionPartitions = new EnumMap<>(Place.class);
+
+    /**
+     * Creates an empty {@code UniquePersonList}.
+     */
+    public UniquePersonList() {
+        for (Place place : Place.values()) {
+            regionPartitions.put(place, new ArrayList<>());
+        }
+    }
 
     /**
      * Returns true if the list contains a person with the given nric.
      */
     public boolean contains(Nric nric) {
         requireNonNull(nric);
-        return internalList.stream().anyMatch(person -> person.getNric().equals(nric));
+        return nricIndex.containsKey(nric);
     }
 
     /**
@@ -47,7 +71,7 @@ public class UniquePersonList<T extends Person> implements Iterable<T> {
      */
     public boolean contains(T toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return nricIndex.containsKey(toCheck.getNric());
     }
 
     /**
@@ -62,6 +86,33 @@ public class UniquePersonList<T extends Person> implements Iterable<T> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        nricIndex.put(toAdd.getNric(), toAdd);
+        positions.put(toAdd.getNric(), internalList.size() - 1);
+        getPartition(toAdd).add(toAdd);
+    }
+
+    /**
+     * Adds all {@code toAdd} to the list in a single batched change.
+     * None of the persons may already exist in the list, and {@code toAdd} must not contain duplicate persons.
+     *
+     * @param toAdd Persons to be added.
+     */
+    public void addAll(List<T> toAdd) {
+        requireAllNonNull(toAdd);
+        Set<Nric> seenNrics = new HashSet<>();
+        for (T person : toAdd) {
+            if (contains(person) || !seenNrics.add(person.getNric())) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        int position = internalList.size();
+        internalList.addAll(toAdd);
+        for (T person : toAdd) {
+            nricIndex.put(person.getNric(), person);
+            positions.put(person.getNric(), position++);
+            getPartition(person).add(person);
+        }
     }
 
     /**
@@ -75,7 +126,7 @@ public class UniquePersonList<T extends Person> implements Iterable<T> {
     public void setPerson(T target, T editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -85,7 +136,20 @@ public class UniquePersonList<T extends Person> implements Iterable<T> {
             throw new DuplicatePersonException();
         }
 
+        List<T> partition = getPartition(target);
+        int partitionIndex = partitionIndexOf(partition, index);
         internalList.set(index, editedPerson);
+        nricIndex.remove(target.getNric());
+        positions.remove(target.getNric());
+        nricIndex.put(editedPerson.getNric(), editedPerson);
+        positions.put(editedPerson.getNric(), index);
+        List<T> editedPartition = getPartition(editedPerson);
+        if (partition == editedPartition) {
+            partition.set(partitionIndex, editedPerson);
+        } else {
+            partition.remove(partitionIndex);
+            editedPartition.add(-partitionIndexOf(editedPartition, index) - 1, editedPerson);
+        }
     }
 
     /**
@@ -96,9 +160,19 @@ public class UniquePersonList<T extends Person> implements Iterable<T> {
      */
     public void remove(T toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        List<T> partition = getPartition(toRemove);
+        partition.remove(partitionIndexOf(partition, index));
+        internalList.remove(index);
+        nricIndex.remove(toRemove.getNric());
+        positions.remove(toRemove.getNric());
+        for (int i = index; i < internalList.size(); i++) {
+            positions.put(internalList.get(i).getNric(), i);
+        }
     }
 
     /**
@@ -110,8 +184,7 @@ public class UniquePersonList<T extends Person> implements Iterable<T> {
      */
     public T get(Nric nric) {
         requireNonNull(nric);
-        FilteredList<T> filteredList = internalList.filtered((T person) -> person.getNric().equals(nric));
-        T result = filteredList.size() == 0 ? null : filteredList.get(0);
+        T result = nricIndex.get(nric);
         if (result == null) {
             throw new PersonNotFoundException();
         }
@@ -127,6 +200,7 @@ public class UniquePersonList<T extends Person> implements Iterable<T> {
     public void setPersons(UniquePersonList<T> replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        rebuildIndexes();
     }
 
     /**
@@ -142,6 +216,7 @@ public class UniquePersonList<T extends Person> implements Iterable<T> {
         }
 
         internalList.setAll(persons);
+        rebuildIndexes();
     }
 
     /**
@@ -153,6 +228,18 @@ public class UniquePersonList<T extends Person> implements Iterable<T> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the persons in {@code place}, in list order, as an unmodifiable list.
+     * Persons without a specified region are in {@code Place.NOT_SPECIFIED}.
+     *
+     * @param place Region of the persons.
+     * @return Unmodifiable list of persons in the region.
+     */
+    public List<T> asUnmodifiableRegionList(Place place) {
+        requireNonNull(place);
+        return Collections.unmodifiableList(regionPartitions.get(place));
+    }
+
     /**
      * Creates and returns a copy of persons in the list as a Java List.
      *
@@ -183,15 +270,66 @@ public class UniquePersonList<T extends Person> implements Iterable<T> {
         return internalList.hashCode();
     }
 
+    private List<T> getPartition(T person) {
+        return regionPartitions.get(person.getRegion().region);
+    }
+
+    /**
+     * Returns the position of {@code person} in the list, or -1 if no equal person is in the list.
+     */
+    private int indexOf(T person) {
+        Integer position = positions.get(person.getNric());
+        if (position == null || !internalList.get(position).equals(person)) {
+            return -1;
+        }
+        return position;
+    }
+
+    /**
+     * Returns the index in {@code partition} of the person at {@code position} in the list.
+     * If that person is not in the partition, returns {@code -(insertion point) - 1} instead, like
+     * {@link Collections#binarySearch}, where the insertion point keeps the partition in list order.
+     */
+    private int partitionIndexOf(List<T> partition, int position) {
+        int low = 0;
+        int high = partition.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midPosition = positions.get(partition.get(mid).getNric());
+            if (midPosition < position) {
+                low = mid + 1;
+            } else if (midPosition > position) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -low - 1;
+    }
+
+    /**
+     * Rebuilds the nric index and the region partitions from the list, so that the partitions are in list order.
+     */
+    private void rebuildIndexes() {
+        nricIndex.clear();
+        positions.clear();
+        regionPartitions.values().forEach(List::clear);
+        for (int i = 0; i < internalList.size(); i++) {
+            T person = internalList.get(i);
+            nricIndex.put(person.getNric(), person);
+            positions.put(person.getNric(), i);
+            getPartition(person).add(person);
+        }
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<T> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Nric> seenNrics = new HashSet<>();
+        for (T person : persons) {
+            if (!seenNrics.add(person.getNric())) {
+                return false;
             }
         }
         return true;
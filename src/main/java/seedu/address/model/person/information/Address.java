@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.logic.parser.Parser.FIELD_NOT_SPECIFIED;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's address in FriendlyLink.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -19,6 +21,8 @@ public class Address {
      */
     public static final String VALIDATION_REGEX = "[^\\s].*";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String value;
 
     /**
@@ -39,7 +43,7 @@ public class Address {
      * @return True if {@code test} is a valid address and false otherwise.
      */
     public static boolean isValidAddress(String test) {
-        return test.equals(FIELD_NOT_SPECIFIED) || test.matches(VALIDATION_REGEX);
+        return test.equals(FIELD_NOT_SPECIFIED) || VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
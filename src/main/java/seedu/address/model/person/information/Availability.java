@@ -0,0 +1,189 @@
+package seedu.address.model.person.information;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Represents the days a person in FriendlyLink is available on, as sorted and disjoint ranges of epoch days.
+ * Overlapping and adjacent available dates are merged, so availabilities can be compared by walking their ranges
+ * in order. A person without available dates is available on every day.
+ * Guarantees: immutable;
+ */
+public class Availability {
+
+    private final long[] starts;
+    private final long[] ends;
+
+    /**
+     * Constructs the {@code Availability} of a person with {@code availableDates}.
+     *
+     * @param availableDates Available dates of the person.
+     */
+    public Availability(Collection<AvailableDate> availableDates) {
+        requireNonNull(availableDates);
+        long[][] ranges = new long[availableDates.size()][];
+        int i = 0;
+        for (AvailableDate date : availableDates) {
+            ranges[i++] = new long[] {date.getStartDate().toEpochDay(), date.getEndDate().toEpochDay()};
+        }
+        Arrays.sort(ranges, (range, otherRange) -> Long.compare(range[0], otherRange[0]));
+
+        long[] mergedStarts = new long[ranges.length];
+        long[] mergedEnds = new long[ranges.length];
+        int count = 0;
+        for (long[] range : ranges) {
+            if (count > 0 && range[0] <= mergedEnds[count - 1] + 1) {
+                mergedEnds[count - 1] = Math.max(mergedEnds[count - 1], range[1]);
+            } else {
+                mergedStarts[count] = range[0];
+                mergedEnds[count] = range[1];
+                count++;
+            }
+        }
+        starts = Arrays.copyOf(mergedStarts, count);
+        ends = Arrays.copyOf(mergedEnds, count);
+    }
+
+    /**
+     * Returns true if the person has no available dates, and so is available on every day.
+     */
+    public boolean isAlwaysAvailable() {
+        return starts.length == 0;
+    }
+
+    public int getRangeCount() {
+        return starts.length;
+    }
+
+    /**
+     * Returns the first day, as an epoch day, of the range at {@code index}.
+     */
+    public long getRangeStart(int index) {
+        return starts[index];
+    }
+
+    /**
+     * Returns the last day, as an epoch day, of the range at {@code index}.
+     */
+    public long getRangeEnd(int index) {
+        return ends[index];
+    }
+
+    /**
+     * Returns true if both persons are available on at least one common day.
+     *
+     * @param other Availability of the other person.
+     * @return True if both persons share an available day or at least one of them is always available,
+     *     false otherwise.
+     */
+    public boolean isIntersecting(Availability other) {
+        requireNonNull(other);
+        if (isAlwaysAvailable() || other.isAlwaysAvailable()) {
+            return true;
+        }
+        int i = 0;
+        int j = 0;
+        while (i < starts.length && j < other.starts.length) {
+            if (starts[i] <= other.ends[j] && other.starts[j] <= ends[i]) {
+                return true;
+            }
+            if (ends[i] < other.ends[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if the person is available on every day from {@code startDate} to {@code endDate}.
+     *
+     * @param startDate First day of the range.
+     * @param endDate Last day of the range.
+     * @return True if every day of the range is available, false otherwise.
+     */
+    public boolean isAvailableThroughout(LocalDate startDate, LocalDate endDate) {
+        requireAllNonNull(startDate, endDate);
+        if (isAlwaysAvailable()) {
+            return true;
+        }
+        // the only range that can cover the start is the last one starting on or before it
+        int index = Arrays.binarySearch(starts, startDate.toEpochDay());
+        if (index < 0) {
+            index = -index - 2;
+        }
+        return index >= 0 && ends[index] >= endDate.toEpochDay();
+    }
+
+    /**
+     * Returns the number of days on which both persons are available.
+     *
+     * @param other Availability of the other person.
+     * @return Number of common available days, or {@code Long.MAX_VALUE} if both persons are always available.
+     */
+    public long countCommonDays(Availability other) {
+        requireNonNull(other);
+        if (isAlwaysAvailable()) {
+            return other.countDays();
+        }
+        if (other.isAlwaysAvailable()) {
+            return countDays();
+        }
+        long commonDays = 0;
+        int i = 0;
+        int j = 0;
+        while (i < starts.length && j < other.starts.length) {
+            commonDays += Math.max(0, Math.min(ends[i], other.ends[j]) - Math.max(starts[i], other.starts[j]) + 1);
+            if (ends[i] < other.ends[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return commonDays;
+    }
+
+    /**
+     * Returns the number of days the person is available on, or {@code Long.MAX_VALUE} if always available.
+     */
+    public long countDays() {
+        if (isAlwaysAvailable()) {
+            return Long.MAX_VALUE;
+        }
+        long days = 0;
+        for (int i = 0; i < starts.length; i++) {
+            days += ends[i] - starts[i] + 1;
+        }
+        return days;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < starts.length; i++) {
+            builder.append(i == 0 ? "" : ", ")
+                    .append(LocalDate.ofEpochDay(starts[i]))
+                    .append(" to ")
+                    .append(LocalDate.ofEpochDay(ends[i]));
+        }
+        return builder.append("]").toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Availability // instanceof handles nulls
+                && Arrays.equals(starts, ((Availability) other).starts)
+                && Arrays.equals(ends, ((Availability) other).ends));
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(starts) + Arrays.hashCode(ends);
+    }
+}
@@ -5,8 +5,8 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
-import java.util.Arrays;
 import java.util.Collection;
+import java.util.regex.Pattern;
 
 /**
  * Represents the availability dates for a person in FriendlyLink.
@@ -25,6 +25,8 @@ public class AvailableDate {
     public static final String VALIDATION_REGEX =
             "^(?<year>\\d{4})-(?<month>0[0-9]|1[0-2])-(?<day>0[0-9]|1[0-9]|2[0-9]|3[0-1])$";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     private final LocalDate startDate;
     private final LocalDate endDate;
 
@@ -65,7 +67,12 @@ public class AvailableDate {
      * @return True if {@code dates} contain only valid dates and false otherwise.
      */
     public static boolean isValidDate(String ...dates) {
-        return Arrays.stream(dates).allMatch(date -> date.matches(VALIDATION_REGEX));
+        for (String date : dates) {
+            if (!VALIDATION_PATTERN.matcher(date).matches()) {
+                return false;
+            }
+        }
+        return true;
     }
 
     /**
@@ -89,17 +96,7 @@ public class AvailableDate {
     public static boolean isAvailableDatesIntersecting(
             Collection<AvailableDate> dateCollection1,
             Collection<AvailableDate> dateCollection2) {
-        if (dateCollection1.isEmpty() || dateCollection2.isEmpty()) {
-            return true;
-        }
-        for (AvailableDate date1 : dateCollection1) {
-            for (AvailableDate date2 : dateCollection2) {
-                if (date1.isIntersect(date2.getStartDate(), date2.getEndDate())) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return new Availability(dateCollection1).isIntersecting(new Availability(dateCollection2));
     }
 
     @Override
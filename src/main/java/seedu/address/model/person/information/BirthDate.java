@@ -6,6 +6,7 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 import java.time.LocalDate;
 import java.time.Period;
 import java.time.format.DateTimeParseException;
+import java.util.regex.Pattern;
 
 
 /**
@@ -20,6 +21,8 @@ public class BirthDate {
     public static final String VALIDATION_REGEX =
             "^(?<year>\\d{4})-(?<month>0[0-9]|1[0-2])-(?<day>0[0-9]|1[0-9]|2[0-9]|3[0-1])$";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final LocalDate birthDate;
 
     /**
@@ -29,16 +32,9 @@ public class BirthDate {
      */
     public BirthDate(String birthDate) {
         requireNonNull(birthDate);
-        checkArgument(isValidBirthDate(birthDate), MESSAGE_CONSTRAINTS);
-        try {
-            this.birthDate = LocalDate.parse(birthDate);
-        } catch (DateTimeParseException e) {
-            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
-        }
-
-        if (!this.birthDate.isBefore(LocalDate.now())) {
-            throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
-        }
+        LocalDate parsedBirthDate = parseBirthDate(birthDate);
+        checkArgument(parsedBirthDate != null, MESSAGE_CONSTRAINTS);
+        this.birthDate = parsedBirthDate;
     }
 
     /**
@@ -48,18 +44,22 @@ public class BirthDate {
      * @return True if {@code date} is a valid BirthDate and false otherwise.
      */
     public static boolean isValidBirthDate(String date) {
-        if (!date.matches(VALIDATION_REGEX)) {
-            return false;
+        return parseBirthDate(date) != null;
+    }
+
+    /**
+     * Parses a birth date, returning null if it is not a valid BirthDate.
+     */
+    private static LocalDate parseBirthDate(String date) {
+        if (!VALIDATION_PATTERN.matcher(date).matches()) {
+            return null;
         }
         try {
-            LocalDate dateToCheck = LocalDate.parse(date);
-            if (!dateToCheck.isBefore(LocalDate.now())) {
-                return false;
-            }
+            LocalDate parsedDate = LocalDate.parse(date);
+            return parsedDate.isBefore(LocalDate.now()) ? parsedDate : null;
         } catch (DateTimeParseException e) {
-            return false;
+            return null;
         }
-        return true;
     }
 
     public LocalDate getBirthDate() {
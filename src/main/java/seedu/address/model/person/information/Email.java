@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.logic.parser.Parser.FIELD_NOT_SPECIFIED;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's email in FriendlyLink.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -33,6 +35,8 @@ public class Email {
     private static final String DOMAIN_REGEX = "(" + DOMAIN_PART_REGEX + "\\.)*" + DOMAIN_LAST_PART_REGEX;
     public static final String VALIDATION_REGEX = LOCAL_PART_REGEX + "@" + DOMAIN_REGEX;
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String value;
 
     /**
@@ -53,7 +57,7 @@ public class Email {
      * @return True if {@code test} is a valid email and false otherwise.
      */
     public static boolean isValidEmail(String test) {
-        return test.equals(FIELD_NOT_SPECIFIED) || test.matches(VALIDATION_REGEX);
+        return test.equals(FIELD_NOT_SPECIFIED) || VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.address.model.person.information;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's NRIC in FriendlyLink.
  * Guarantees: immutable; is valid as declared in {@link #isValidNric(String)}
@@ -14,6 +16,9 @@ public class Nric {
             + "2. xxxxxxx is a 7-digit serial number\n"
             + "3. # is a letter from A-Z";
     public static final String VALIDATION_REGEX = "^[STFGMstfgm]\\d{7}[A-Za-z]$";
+
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String value;
 
     /**
@@ -34,7 +39,7 @@ public class Nric {
      * @return True if {@code test} is a valid NRIC and false otherwise.
      */
     public static boolean isValidNric(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
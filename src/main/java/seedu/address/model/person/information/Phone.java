@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.logic.parser.Parser.FIELD_NOT_SPECIFIED;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's phone number in FriendlyLink.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
@@ -12,6 +14,9 @@ public class Phone {
     public static final String MESSAGE_CONSTRAINTS = "Invalid arguments. \n"
             + "Phone numbers should only contain numbers, and it should be at least 3 digits long";
     public static final String VALIDATION_REGEX = "\\d{3,}";
+
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String value;
 
     /**
@@ -32,7 +37,7 @@ public class Phone {
      * @return True if {@code test} is a valid phone number and false otherwise.
      */
     public static boolean isValidPhone(String test) {
-        return test.equals(FIELD_NOT_SPECIFIED) || test.matches(VALIDATION_REGEX);
+        return test.equals(FIELD_NOT_SPECIFIED) || VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
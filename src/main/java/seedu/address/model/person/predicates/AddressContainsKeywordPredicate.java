@@ -27,6 +27,10 @@ public class AddressContainsKeywordPredicate<T extends Person> implements Predic
         this.keyword = keyword.toLowerCase();
     }
 
+    public String getKeyword() {
+        return keyword;
+    }
+
     @Override
     public boolean test(T object) {
         return object.getAddress().value.toLowerCase().contains(keyword);
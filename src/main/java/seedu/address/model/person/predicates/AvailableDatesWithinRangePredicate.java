@@ -4,14 +4,12 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDate;
 import java.util.Objects;
-import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.model.person.Person;
-import seedu.address.model.person.information.AvailableDate;
 
 /**
- * Tests that a {@code Person}'s {@code AvailableDate} contains the given date range.
+ * Tests that a {@code Person} is available on every day of the given date range.
  */
 public class AvailableDatesWithinRangePredicate<T extends Person> implements Predicate<T> {
     private final LocalDate startDate;
@@ -29,13 +27,17 @@ public class AvailableDatesWithinRangePredicate<T extends Person> implements Pre
         this.endDate = endDate;
     }
 
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
     @Override
     public boolean test(T object) {
-        Set<AvailableDate> dateSet = object.getAvailableDates();
-
-        return dateSet.isEmpty()
-                || dateSet.stream().anyMatch(range ->
-                !range.getStartDate().isAfter(startDate) && !range.getEndDate().isBefore(endDate));
+        return object.getAvailability().isAvailableThroughout(startDate, endDate);
     }
 
     @Override
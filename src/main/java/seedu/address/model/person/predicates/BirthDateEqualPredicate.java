@@ -24,6 +24,10 @@ public class BirthDateEqualPredicate<T extends Person> implements Predicate<T> {
         this.birthDate = birthDate;
     }
 
+    public LocalDate getBirthDate() {
+        return LocalDate.parse(birthDate);
+    }
+
     @Override
     public boolean test(T object) {
         return object.getBirthDate().birthDate.equals(
@@ -27,6 +27,10 @@ public class EmailContainsKeywordPredicate<T extends Person> implements Predicat
         this.keyword = keyword.toLowerCase();
     }
 
+    public String getKeyword() {
+        return keyword;
+    }
+
     @Override
     public boolean test(T object) {
         return object.getEmail().value.toLowerCase().contains(keyword);
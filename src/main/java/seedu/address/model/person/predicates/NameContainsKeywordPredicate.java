@@ -27,6 +27,10 @@ public class NameContainsKeywordPredicate<T extends Person> implements Predicate
         this.keyword = keyword.toLowerCase();
     }
 
+    public String getKeyword() {
+        return keyword;
+    }
+
     @Override
     public boolean test(T object) {
         return object.getName().fullName.toLowerCase().contains(keyword);
@@ -27,6 +27,10 @@ public class PhoneContainsDigitsPredicate<T extends Person> implements Predicate
         this.digits = digits;
     }
 
+    public String getDigits() {
+        return digits;
+    }
+
     @Override
     public boolean test(T object) {
         return object.getPhone().value.contains(digits);
@@ -24,6 +24,10 @@ public class RegionIsEqualPredicate<T extends Person> implements Predicate<T> {
         this.place = place;
     }
 
+    public Place getPlace() {
+        return place;
+    }
+
     @Override
     public boolean test(T object) {
         return object.getRegion().region.equals(place);
@@ -24,6 +24,10 @@ public class RiskLevelIsEqualPredicate<T extends Elderly> implements Predicate<T
         this.risk = risk;
     }
 
+    public Risk getRisk() {
+        return risk;
+    }
+
     @Override
     public boolean test(T object) {
         return object.getRiskLevel().riskStatus.equals(risk);
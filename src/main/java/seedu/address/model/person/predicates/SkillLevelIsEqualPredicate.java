@@ -23,6 +23,13 @@ public class SkillLevelIsEqualPredicate<T extends Volunteer> implements Predicat
         this.level = level.toLowerCase();
     }
 
+    /**
+     * Returns the matching skill level, in lower case.
+     */
+    public String getLevel() {
+        return level;
+    }
+
     @Override
     public boolean test(T object) {
         return object.getMedicalTags().stream().anyMatch(
@@ -83,6 +83,10 @@ public abstract class JsonAdaptedPerson {
                 .collect(Collectors.toList()));
     }
 
+    public String getNric() {
+        return nric;
+    }
+
     public Nric getModelNric(String missingFieldMessageFormat) throws IllegalValueException {
         if (nric == null) {
             throw new IllegalValueException(String.format(missingFieldMessageFormat, Nric.class.getSimpleName()));
@@ -2,64 +2,290 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
-import seedu.address.model.FriendlyLink;
 
 /**
- * An abstract AppStorage that implements common read operations from files.
+ * An abstract AppStorage that implements common read and save operations on files.
+ * <p>
+ * Records are streamed to and from the files one at a time, so the whole file is never held in memory.
+ * Once a file has been read or saved, later saves to it only append the records that changed to a journal file
+ * next to it, followed by a line that commits them, and the journal is forced to the disk before the save returns.
+ * The journal is compacted into the file once it grows larger than the file itself. Reading a file streams its
+ * journal and replays each committed save on top of it.
  *
  * @param <T> The ReadOnlyEntity.
  * @param <K> FriendlyLink.
- * @param <R> Any JsonSerializableObjects.
+ * @param <M> The model type of the entities stored in the file.
+ * @param <E> The Jackson-friendly record stored in the file.
  */
-public abstract class JsonAppStorage<T, K extends T, R extends JsonSerializable<K>> {
+public abstract class JsonAppStorage<T, K extends T, M, E> {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final int MIN_JOURNAL_SIZE_BEFORE_COMPACTION = 1000;
+
+    private static final String PUT = "put";
+    private static final String DELETE = "delete";
 
     private final Path filePath;
+    private final String recordsName;
+    private final Class<E> recordClass;
+
+    // Entities by key as last read from or saved to baselinePath, against which changes are journaled
+    private Path baselinePath;
+    private Map<String, M> baseline;
+    private int journalSize;
 
-    protected JsonAppStorage(Path filePath) {
+    /**
+     * Creates a {@code JsonAppStorage} for a file holding an array of records under {@code recordsName}.
+     *
+     * @param filePath Default location of the data.
+     * @param recordsName Name of the Json field holding the records.
+     * @param recordClass Class of the Jackson-friendly records.
+     */
+    protected JsonAppStorage(Path filePath, String recordsName, Class<E> recordClass) {
         this.filePath = filePath;
+        this.recordsName = recordsName;
+        this.recordClass = recordClass;
     }
 
     public Path getFilePath() {
         return filePath;
     }
 
-    public Optional<T> read(Class<R> classInfo, Logger logger,
-            FriendlyLink friendlyLink) throws DataConversionException {
-        return read(filePath, classInfo, logger, friendlyLink);
+    /**
+     * Returns the location of the journal of the file at {@code filePath}.
+     *
+     * @param filePath Location of the data.
+     * @return Location of the journal.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
     }
 
     /**
-     * Reads the file and converts the data to populate {@code FriendlyLink}.
+     * Returns the entities of {@code data} that are stored in the file.
+     */
+    protected abstract List<M> getEntities(T data);
+
+    /**
+     * Returns the key that identifies {@code entity} in the file.
+     */
+    protected abstract String getEntityKey(M entity);
+
+    /**
+     * Returns the key that identifies {@code record} in the file.
+     */
+    protected abstract String getRecordKey(E record);
+
+    /**
+     * Converts {@code entity} into its Jackson-friendly record.
+     */
+    protected abstract E toRecord(M entity);
+
+    /**
+     * Returns true if the record of {@code entity} differs from the record of {@code saved}, which has the same key.
+     */
+    protected boolean isRecordChanged(M saved, M entity) {
+        return !saved.equals(entity);
+    }
+
+    public Optional<T> read(JsonRecordLoader<E, K> loader, Logger logger) throws DataConversionException {
+        return read(filePath, loader, logger);
+    }
+
+    /**
+     * Reads the file, replays its journal, and converts the data to populate {@code FriendlyLink}.
+     * Changes in the journal are applied to the records of the file the way they were applied to the saved list.
+     * The entries of a save that was not committed, left by a crash during the save, are ignored together.
      *
      * @param filePath Location of the data. Cannot be null.
-     * @param classInfo Information of classes in this app.
+     * @param loader Converts records into the model and adds them to the FriendlyLink cache.
      * @param logger Message logger.
-     * @param friendlyLink FriendlyLink cache.
      * @return {@code Optional} of data red from the file.
      * @throws DataConversionException if the file is not in the correct format.
      */
-    public Optional<T> read(Path filePath, Class<R> classInfo, Logger logger, FriendlyLink friendlyLink)
+    public Optional<T> read(Path filePath, JsonRecordLoader<E, K> loader, Logger logger)
             throws DataConversionException {
 
         requireNonNull(filePath);
 
-        Optional<R> jsonStorage = JsonUtil.readJsonFile(filePath, classInfo);
-        if (jsonStorage.isEmpty()) {
-            return Optional.empty();
-        }
-
+        // record key -> latest entry of the journal for the record, in the order the records are placed in
+        Map<String, JournalEntry<E>> journal = new LinkedHashMap<>();
+        boolean hasJournal;
         try {
-            return Optional.of(jsonStorage.get().toModelType(friendlyLink));
+            hasJournal = JsonUtil.readJsonLinesFile(getJournalFilePath(filePath), recordClass,
+                    (operation, record) -> replayJournalEntry(journal, operation, record));
+            boolean hasFile = JsonUtil.readJsonArrayFile(filePath, recordsName, recordClass, record -> {
+                JournalEntry<E> entry = journal.get(getRecordKey(record));
+                if (entry == null) {
+                    loader.load(record);
+                } else if (!entry.isAppended) {
+                    journal.remove(getRecordKey(record));
+                    if (entry.record != null) {
+                        loader.load(entry.record);
+                    }
+                }
+            });
+            if (!hasFile && !hasJournal) {
+                return Optional.empty();
+            }
+            for (JournalEntry<E> entry : journal.values()) {
+                if (entry.record != null) {
+                    loader.load(entry.record);
+                }
+            }
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
+
+        K data = loader.commit();
+        // a replayed journal may end with a save torn by a crash, so it is compacted by the next save
+        // instead of being appended to
+        setBaseline(hasJournal ? null : filePath, getEntities(data));
+        return Optional.of(data);
+    }
+
+    /**
+     * Saves the entities of {@code data} to the file.
+     * If the file was last read or saved by this storage, only the changes since then are appended to the journal,
+     * otherwise, or if the journal is due for compaction or cannot reproduce the new order of the entities,
+     * the whole file is written.
+     * Finding the changes compares every entity with the baseline, so a save takes time linear in the number of
+     * entities even when it only appends a few entries.
+     *
+     * @param filePath Location of the data. Cannot be null.
+     * @param data Data to save.
+     * @throws IOException If there was any problem writing to the file.
+     */
+    protected void save(Path filePath, T data) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(data);
+
+        List<M> entities = getEntities(data);
+        if (!filePath.equals(baselinePath) || !FileUtil.isFileExists(filePath)) {
+            saveFile(filePath, entities);
+            return;
+        }
+
+        StringBuilder changes = new StringBuilder();
+        int changeCount = 0;
+        Map<String, M> current = new LinkedHashMap<>();
+        for (M entity : entities) {
+            String key = getEntityKey(entity);
+            current.put(key, entity);
+            M saved = baseline.get(key);
+            if (saved == null || isRecordChanged(saved, entity)) {
+                changes.append(JsonUtil.toJsonLine(PUT, toRecord(entity)));
+                changeCount++;
+            }
+        }
+        for (Map.Entry<String, M> entry : baseline.entrySet()) {
+            if (!current.containsKey(entry.getKey())) {
+                changes.append(JsonUtil.toJsonLine(DELETE, toRecord(entry.getValue())));
+                changeCount++;
+            }
+        }
+
+        if (!isOrderReplayable(current)
+                || journalSize + changeCount > Math.max(MIN_JOURNAL_SIZE_BEFORE_COMPACTION, entities.size())) {
+            saveFile(filePath, entities);
+            return;
+        }
+        if (changeCount == 0) {
+            return;
+        }
+        changes.append(JsonUtil.toJsonCommitLine(changeCount));
+        FileUtil.appendToFile(getJournalFilePath(filePath), changes.toString());
+        baseline = current;
+        journalSize += changeCount;
+    }
+
+    /**
+     * Applies a journal entry to the entries replayed so far, the way the same change is applied to a list.
+     * A record that is put replaces the record with the same key in place, unless that record has been deleted,
+     * in which case it is appended after all other records.
+     */
+    private void replayJournalEntry(Map<String, JournalEntry<E>> journal, String operation, E record) {
+        String key = getRecordKey(record);
+        JournalEntry<E> entry = journal.get(key);
+        if (operation.equals(DELETE)) {
+            journal.put(key, new JournalEntry<>(null, entry != null && entry.isAppended));
+        } else if (entry == null) {
+            journal.put(key, new JournalEntry<>(record, false));
+        } else if (entry.record == null) {
+            journal.remove(key);
+            journal.put(key, new JournalEntry<>(record, true));
+        } else {
+            journal.put(key, new JournalEntry<>(record, entry.isAppended));
+        }
+    }
+
+    /**
+     * Returns true if replaying the changes from the baseline to {@code current} places the entities in the same
+     * order as {@code current}, that is, if the entities kept from the baseline are in their original order and
+     * are followed by all new entities.
+     */
+    private boolean isOrderReplayable(Map<String, M> current) {
+        List<String> replayedOrder = new ArrayList<>(current.size());
+        for (String key : baseline.keySet()) {
+            if (current.containsKey(key)) {
+                replayedOrder.add(key);
+            }
+        }
+        for (String key : current.keySet()) {
+            if (!baseline.containsKey(key)) {
+                replayedOrder.add(key);
+            }
+        }
+        return replayedOrder.equals(new ArrayList<>(current.keySet()));
+    }
+
+    /**
+     * Writes all {@code entities} to the file and removes its journal, which the file now supersedes.
+     */
+    private void saveFile(Path filePath, List<M> entities) throws IOException {
+        FileUtil.createIfMissing(filePath);
+        JsonUtil.saveJsonArrayFile(filePath, recordsName, entities, this::toRecord);
+        Files.deleteIfExists(getJournalFilePath(filePath));
+        setBaseline(filePath, entities);
+    }
+
+    private void setBaseline(Path filePath, List<M> entities) {
+        Map<String, M> entitiesByKey = new LinkedHashMap<>();
+        for (M entity : entities) {
+            entitiesByKey.put(getEntityKey(entity), entity);
+        }
+        this.baselinePath = filePath;
+        this.baseline = entitiesByKey;
+        this.journalSize = 0;
+    }
+
+    /**
+     * The latest change to a record replayed from the journal.
+     */
+    private static class JournalEntry<E> {
+        // null if the record has been deleted
+        private final E record;
+        // true if the record is placed after all records of the file, instead of in place of its older version
+        private final boolean isAppended;
+
+        JournalEntry(E record, boolean isAppended) {
+            this.record = record;
+            this.isAppended = isAppended;
+        }
     }
 }
@@ -0,0 +1,28 @@
+package seedu.address.storage;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts Jackson-friendly records into the model one at a time, and adds the converted records to the
+ * application cache once all of them have been converted.
+ *
+ * @param <E> The Jackson-friendly record type.
+ * @param <K> The model type that the records are added to.
+ */
+public interface JsonRecordLoader<E, K> {
+
+    /**
+     * Converts {@code record} into the model type, to be added when {@link #commit()} is called.
+     *
+     * @param record Jackson-friendly record.
+     * @throws IllegalValueException If the record violates any data constraints.
+     */
+    void load(E record) throws IllegalValueException;
+
+    /**
+     * Adds all records loaded so far to the application cache.
+     *
+     * @return Application cache updated with the loaded records.
+     */
+    K commit();
+}
@@ -2,10 +2,14 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.FriendlyLink;
+import seedu.address.model.ReadOnlyElderly;
+import seedu.address.model.ReadOnlyPair;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.ReadOnlyVolunteer;
 import seedu.address.model.UserPrefs;
 import seedu.address.storage.elderly.ElderlyStorage;
 import seedu.address.storage.pair.PairStorage;
@@ -25,6 +29,52 @@ public interface Storage extends PairStorage, VolunteerStorage, ElderlyStorage,
      */
     FriendlyLink read() throws DataConversionException, IOException;
 
+    /**
+     * Blocks until all saved data has been written to the storage.
+     *
+     * @throws IOException If writing any of the saved data failed.
+     */
+    void flush() throws IOException;
+
+    /**
+     * Saves {@code elderly} to the elderly file, and runs {@code onSaved} once the data has been written.
+     * {@code onSaved} may run on another thread, and does not run if the data is never written.
+     *
+     * @param elderly Elderly data to save.
+     * @param onSaved Action to run once the data has been written.
+     * @throws IOException If the data could not be saved.
+     */
+    void saveElderly(ReadOnlyElderly elderly, Runnable onSaved) throws IOException;
+
+    /**
+     * Saves {@code volunteer} to the volunteer file, and runs {@code onSaved} once the data has been written.
+     * {@code onSaved} may run on another thread, and does not run if the data is never written.
+     *
+     * @param volunteer Volunteer data to save.
+     * @param onSaved Action to run once the data has been written.
+     * @throws IOException If the data could not be saved.
+     */
+    void saveVolunteer(ReadOnlyVolunteer volunteer, Runnable onSaved) throws IOException;
+
+    /**
+     * Saves {@code pair} to the pair file, and runs {@code onSaved} once the data has been written.
+     * {@code onSaved} may run on another thread, and does not run if the data is never written.
+     *
+     * @param pair Pair data to save.
+     * @param onSaved Action to run once the data has been written.
+     * @throws IOException If the data could not be saved.
+     */
+    void savePair(ReadOnlyPair pair, Runnable onSaved) throws IOException;
+
+    /**
+     * Sets {@code handler} to be told of each failure to write saved data as soon as it happens, for failures that
+     * are not thrown by the save method itself.
+     * {@code handler} may be called on another thread.
+     *
+     * @param handler Handler of write failures.
+     */
+    void setWriteFailureHandler(Consumer<IOException> handler);
+
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException;
 
@@ -5,6 +5,12 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -42,15 +48,104 @@ public class StorageManager implements Storage {
         this.userPrefsStorage = userPrefsStorage;
     }
 
+    /**
+     * Reads all FriendlyLink data.
+     * Elderly and volunteers are read concurrently into separate caches, as neither refers to the other.
+     * Pairs are read last, once all elderly and volunteers they refer to are known.
+     *
+     * @return FriendlyLink data read.
+     * @throws DataConversionException If the data in storage is not in the expected format.
+     * @throws IOException If there was any problem when reading from the storage.
+     */
     @Override
     public FriendlyLink read() throws DataConversionException, IOException {
+        long startTime = System.nanoTime();
         FriendlyLink friendlyLink = new FriendlyLink();
-        readElderly(friendlyLink);
-        readVolunteer(friendlyLink);
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "volunteer-reader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            Future<FriendlyLink> volunteersRead = executor.submit(() -> {
+                long volunteerStartTime = System.nanoTime();
+                FriendlyLink volunteers = new FriendlyLink();
+                readVolunteer(volunteers);
+                logPhaseTime("volunteer", volunteerStartTime);
+                return volunteers;
+            });
+
+            long elderlyStartTime = System.nanoTime();
+            readElderly(friendlyLink);
+            logPhaseTime("elderly", elderlyStartTime);
+            friendlyLink.addAllVolunteers(getReadVolunteers(volunteersRead).getVolunteerList());
+        } finally {
+            executor.shutdownNow();
+        }
+
+        long pairStartTime = System.nanoTime();
         readPair(friendlyLink);
+        logPhaseTime("pair", pairStartTime);
+        logPhaseTime("all", startTime);
         return friendlyLink;
     }
 
+    /**
+     * Waits for the volunteers being read by {@code volunteersRead} and returns them.
+     */
+    private static FriendlyLink getReadVolunteers(Future<FriendlyLink> volunteersRead)
+            throws DataConversionException, IOException {
+        try {
+            return volunteersRead.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while reading volunteer data", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof DataConversionException) {
+                throw (DataConversionException) cause;
+            } else if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    private static void logPhaseTime(String phase, long startTime) {
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        logger.info("Read " + phase + " data in " + elapsedMillis + " ms");
+    }
+
+    @Override
+    public void flush() {
+        // data is written synchronously when saved, so there is nothing to flush
+    }
+
+    @Override
+    public void saveElderly(ReadOnlyElderly elderly, Runnable onSaved) throws IOException {
+        saveElderly(elderly);
+        onSaved.run();
+    }
+
+    @Override
+    public void saveVolunteer(ReadOnlyVolunteer volunteer, Runnable onSaved) throws IOException {
+        saveVolunteer(volunteer);
+        onSaved.run();
+    }
+
+    @Override
+    public void savePair(ReadOnlyPair pair, Runnable onSaved) throws IOException {
+        savePair(pair);
+        onSaved.run();
+    }
+
+    @Override
+    public void setWriteFailureHandler(Consumer<IOException> handler) {
+        // data is written synchronously when saved, so every failure is thrown by the save method
+    }
+
     // ================ UserPrefs methods ==============================
 
     @Override
@@ -0,0 +1,399 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.FriendlyLink;
+import seedu.address.model.ReadOnlyElderly;
+import seedu.address.model.ReadOnlyPair;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.ReadOnlyVolunteer;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.pair.Pair;
+import seedu.address.model.person.Elderly;
+import seedu.address.model.person.Volunteer;
+
+/**
+ * A {@code Storage} that writes FriendlyLink data to an underlying {@code Storage} in the background.
+ * <p>
+ * Each save takes an immutable snapshot of the data and returns immediately. Snapshots waiting to be written
+ * to the same file are coalesced, so that a burst of commands results in a single write of the latest data.
+ * A save can be given an action to run once its data has been written. A write that fails is reported to the
+ * write failure handler straight away, kept pending, and retried after {@value #RETRY_DELAY_SECONDS} seconds or
+ * with the next write, whichever is sooner. Failures are only thrown by {@link #flush()}, never by a later save.
+ * <p>
+ * Reads and user preference saves are performed synchronously, after all pending writes have been written.
+ */
+public class WriteBehindStorage implements Storage {
+
+    static final long RETRY_DELAY_SECONDS = 5;
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindStorage.class);
+
+    private final Storage storage;
+    private final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "storage-writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // file path -> latest write to that file that has not been performed yet; guarded by this
+    private final Map<Path, PendingWrite> pendingWrites = new LinkedHashMap<>();
+    private boolean isWriteScheduled = false;
+    private boolean isRetryScheduled = false;
+    private volatile Consumer<IOException> writeFailureHandler = failure -> {};
+
+    /**
+     * Creates a {@code WriteBehindStorage} that writes to {@code storage} in the background.
+     *
+     * @param storage Storage to write data to.
+     */
+    public WriteBehindStorage(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    /**
+     * Blocks until all pending writes have been written to the underlying storage.
+     *
+     * @throws IOException If any of the pending writes failed.
+     */
+    @Override
+    public void flush() throws IOException {
+        Future<IOException> written = executor.submit(this::writePendingWrites);
+        IOException failure;
+        try {
+            failure = written.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for data to be saved", e);
+        } catch (ExecutionException e) {
+            throw new IOException(e.getCause());
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        storage.flush();
+    }
+
+    @Override
+    public void setWriteFailureHandler(Consumer<IOException> handler) {
+        requireNonNull(handler);
+        writeFailureHandler = handler;
+    }
+
+    @Override
+    public FriendlyLink read() throws DataConversionException, IOException {
+        flush();
+        return storage.read();
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        storage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ Elderly methods ==============================
+
+    @Override
+    public Path getElderlyFilePath() {
+        return storage.getElderlyFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyElderly> readElderly(FriendlyLink friendlyLink)
+            throws DataConversionException, IOException {
+        return readElderly(getElderlyFilePath(), friendlyLink);
+    }
+
+    @Override
+    public Optional<ReadOnlyElderly> readElderly(Path filePath, FriendlyLink friendlyLink)
+            throws DataConversionException, IOException {
+        flush();
+        return storage.readElderly(filePath, friendlyLink);
+    }
+
+    @Override
+    public void saveElderly(ReadOnlyElderly elderly) throws IOException {
+        saveElderly(elderly, getElderlyFilePath());
+    }
+
+    @Override
+    public void saveElderly(ReadOnlyElderly elderly, Path filePath) throws IOException {
+        saveElderly(elderly, filePath, () -> {});
+    }
+
+    @Override
+    public void saveElderly(ReadOnlyElderly elderly, Runnable onSaved) throws IOException {
+        saveElderly(elderly, getElderlyFilePath(), onSaved);
+    }
+
+    private void saveElderly(ReadOnlyElderly elderly, Path filePath, Runnable onSaved) {
+        requireAllNonNull(elderly, filePath, onSaved);
+        ReadOnlyElderly snapshot = new ElderlySnapshot(elderly.getElderlyList());
+        scheduleWrite(filePath, () -> storage.saveElderly(snapshot, filePath), onSaved);
+    }
+
+    // ================ Volunteer methods ==============================
+
+    @Override
+    public Path getVolunteerFilePath() {
+        return storage.getVolunteerFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyVolunteer> readVolunteer(FriendlyLink friendlyLink)
+            throws DataConversionException, IOException {
+        return readVolunteer(getVolunteerFilePath(), friendlyLink);
+    }
+
+    @Override
+    public Optional<ReadOnlyVolunteer> readVolunteer(Path filePath, FriendlyLink friendlyLink)
+            throws DataConversionException, IOException {
+        flush();
+        return storage.readVolunteer(filePath, friendlyLink);
+    }
+
+    @Override
+    public void saveVolunteer(ReadOnlyVolunteer volunteer) throws IOException {
+        saveVolunteer(volunteer, getVolunteerFilePath());
+    }
+
+    @Override
+    public void saveVolunteer(ReadOnlyVolunteer volunteer, Path filePath) throws IOException {
+        saveVolunteer(volunteer, filePath, () -> {});
+    }
+
+    @Override
+    public void saveVolunteer(ReadOnlyVolunteer volunteer, Runnable onSaved) throws IOException {
+        saveVolunteer(volunteer, getVolunteerFilePath(), onSaved);
+    }
+
+    private void saveVolunteer(ReadOnlyVolunteer volunteer, Path filePath, Runnable onSaved) {
+        requireAllNonNull(volunteer, filePath, onSaved);
+        ReadOnlyVolunteer snapshot = new VolunteerSnapshot(volunteer.getVolunteerList());
+        scheduleWrite(filePath, () -> storage.saveVolunteer(snapshot, filePath), onSaved);
+    }
+
+    // ================ Pair methods ==============================
+
+    @Override
+    public Path getPairFilePath() {
+        return storage.getPairFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyPair> readPair(FriendlyLink friendlyLink)
+            throws DataConversionException, IOException {
+        return readPair(getPairFilePath(), friendlyLink);
+    }
+
+    @Override
+    public Optional<ReadOnlyPair> readPair(Path filePath, FriendlyLink friendlyLink)
+            throws DataConversionException, IOException {
+        flush();
+        return storage.readPair(filePath, friendlyLink);
+    }
+
+    @Override
+    public void savePair(ReadOnlyPair pair) throws IOException {
+        savePair(pair, getPairFilePath());
+    }
+
+    @Override
+    public void savePair(ReadOnlyPair pair, Path filePath) throws IOException {
+        savePair(pair, filePath, () -> {});
+    }
+
+    @Override
+    public void savePair(ReadOnlyPair pair, Runnable onSaved) throws IOException {
+        savePair(pair, getPairFilePath(), onSaved);
+    }
+
+    private void savePair(ReadOnlyPair pair, Path filePath, Runnable onSaved) {
+        requireAllNonNull(pair, filePath, onSaved);
+        ReadOnlyPair snapshot = new PairSnapshot(pair.getPairList());
+        scheduleWrite(filePath, () -> storage.savePair(snapshot, filePath), onSaved);
+    }
+
+    // ================ Background writing ==============================
+
+    /**
+     * Queues {@code write} to {@code filePath}, replacing any write to the same file that has not been performed,
+     * and schedules the pending writes to be written in the background.
+     * The actions to run once the replaced write was written are run once {@code write} is written instead, as it
+     * writes newer data to the same file.
+     *
+     * @param filePath File that {@code write} writes to.
+     * @param write Write to perform.
+     * @param onWritten Action to run once {@code write} has been written.
+     */
+    private synchronized void scheduleWrite(Path filePath, StorageWrite write, Runnable onWritten) {
+        PendingWrite pendingWrite = new PendingWrite(write, onWritten);
+        PendingWrite replacedWrite = pendingWrites.put(filePath, pendingWrite);
+        if (replacedWrite != null) {
+            pendingWrite.onWritten.addAll(0, replacedWrite.onWritten);
+        }
+        if (!isWriteScheduled) {
+            isWriteScheduled = true;
+            executor.execute(this::writePendingWrites);
+        }
+    }
+
+    /**
+     * Performs all pending writes, and runs the actions of those that succeed.
+     * A write that fails is reported to the write failure handler and kept pending, unless it has since been
+     * replaced by a newer write to the same file, and a retry is scheduled.
+     *
+     * @return The last failure of the writes performed, or null if they all succeeded.
+     */
+    private IOException writePendingWrites() {
+        Map<Path, PendingWrite> writes;
+        synchronized (this) {
+            writes = new LinkedHashMap<>(pendingWrites);
+            pendingWrites.clear();
+            isWriteScheduled = false;
+        }
+
+        IOException lastFailure = null;
+        for (Map.Entry<Path, PendingWrite> entry : writes.entrySet()) {
+            PendingWrite pendingWrite = entry.getValue();
+            try {
+                pendingWrite.write.write();
+            } catch (IOException e) {
+                logger.warning("Failed to write data to " + entry.getKey() + ": " + StringUtil.getDetails(e));
+                lastFailure = e;
+                keepPending(entry.getKey(), pendingWrite);
+                writeFailureHandler.accept(e);
+                continue;
+            }
+            pendingWrite.onWritten.forEach(Runnable::run);
+        }
+        return lastFailure;
+    }
+
+    /**
+     * Puts the failed {@code pendingWrite} to {@code filePath} back in the pending writes, and schedules a retry.
+     * If a newer write to the same file has been queued in the meantime, only the actions of the failed write are
+     * kept, to run once the newer write is written.
+     */
+    private synchronized void keepPending(Path filePath, PendingWrite pendingWrite) {
+        PendingWrite newerWrite = pendingWrites.putIfAbsent(filePath, pendingWrite);
+        if (newerWrite != null) {
+            newerWrite.onWritten.addAll(0, pendingWrite.onWritten);
+        }
+        if (!isRetryScheduled) {
+            isRetryScheduled = true;
+            executor.schedule(this::retryPendingWrites, RETRY_DELAY_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+
+    private void retryPendingWrites() {
+        synchronized (this) {
+            isRetryScheduled = false;
+        }
+        writePendingWrites();
+    }
+
+    /**
+     * A write of data to the underlying storage.
+     */
+    @FunctionalInterface
+    private interface StorageWrite {
+        void write() throws IOException;
+    }
+
+    /**
+     * A write that has not been performed yet, with the actions to run once it has been written.
+     */
+    private static class PendingWrite {
+        private final StorageWrite write;
+        private final List<Runnable> onWritten = new ArrayList<>();
+
+        PendingWrite(StorageWrite write, Runnable onWritten) {
+            this.write = write;
+            this.onWritten.add(onWritten);
+        }
+    }
+
+    /**
+     * An immutable copy of an elderly list.
+     */
+    private static class ElderlySnapshot implements ReadOnlyElderly {
+        private final ObservableList<Elderly> elderly;
+
+        ElderlySnapshot(ObservableList<Elderly> elderly) {
+            this.elderly = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(elderly));
+        }
+
+        @Override
+        public ObservableList<Elderly> getElderlyList() {
+            return elderly;
+        }
+    }
+
+    /**
+     * An immutable copy of a volunteer list.
+     */
+    private static class VolunteerSnapshot implements ReadOnlyVolunteer {
+        private final ObservableList<Volunteer> volunteers;
+
+        VolunteerSnapshot(ObservableList<Volunteer> volunteers) {
+            this.volunteers = FXCollections.unmodifiableObservableList(
+                    FXCollections.observableArrayList(volunteers));
+        }
+
+        @Override
+        public ObservableList<Volunteer> getVolunteerList() {
+            return volunteers;
+        }
+    }
+
+    /**
+     * An immutable copy of a pair list.
+     */
+    private static class PairSnapshot implements ReadOnlyPair {
+        private final ObservableList<Pair> pairs;
+
+        PairSnapshot(ObservableList<Pair> pairs) {
+            this.pairs = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(pairs));
+        }
+
+        @Override
+        public ObservableList<Pair> getPairList() {
+            return pairs;
+        }
+    }
+}
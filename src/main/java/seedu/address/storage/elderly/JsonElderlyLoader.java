@@ -0,0 +1,49 @@
+package seedu.address.storage.elderly;
+
+import static seedu.address.storage.elderly.JsonSerializableElderly.MESSAGE_DUPLICATE_ELDERLY;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.FriendlyLink;
+import seedu.address.model.person.Elderly;
+import seedu.address.model.person.information.Nric;
+import seedu.address.storage.JsonRecordLoader;
+
+/**
+ * Converts Jackson-friendly elderly into the model one at a time and adds them to {@code FriendlyLink}.
+ */
+class JsonElderlyLoader implements JsonRecordLoader<JsonAdaptedElderly, FriendlyLink> {
+
+    private final FriendlyLink friendlyLink;
+    private final List<Elderly> loaded = new ArrayList<>();
+    private final Set<Nric> loadedNrics = new HashSet<>();
+
+    /**
+     * Creates a {@code JsonElderlyLoader} that adds elderly to {@code friendlyLink}.
+     *
+     * @param friendlyLink FriendlyLink cache.
+     */
+    JsonElderlyLoader(FriendlyLink friendlyLink) {
+        this.friendlyLink = friendlyLink;
+    }
+
+    @Override
+    public void load(JsonAdaptedElderly record) throws IllegalValueException {
+        Elderly elderly = record.toModelType(friendlyLink);
+        if (friendlyLink.hasElderly(elderly) || !loadedNrics.add(elderly.getNric())) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_ELDERLY);
+        }
+        loaded.add(elderly);
+    }
+
+    @Override
+    public FriendlyLink commit() {
+        friendlyLink.addAllElderly(loaded);
+        loaded.clear();
+        return friendlyLink;
+    }
+}
@@ -4,21 +4,21 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
-import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.FriendlyLink;
 import seedu.address.model.ReadOnlyElderly;
+import seedu.address.model.person.Elderly;
 import seedu.address.storage.JsonAppStorage;
 
 /**
  * A class to access elderly data stored as a json file on the hard disk.
  */
-public class JsonElderlyStorage extends JsonAppStorage<ReadOnlyElderly, FriendlyLink, JsonSerializableElderly>
+public class JsonElderlyStorage extends JsonAppStorage<ReadOnlyElderly, FriendlyLink, Elderly, JsonAdaptedElderly>
         implements ElderlyStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonElderlyStorage.class);
@@ -29,7 +29,7 @@ public class JsonElderlyStorage extends JsonAppStorage<ReadOnlyElderly, Friendly
      * @param filePath Elderly data file path.
      */
     public JsonElderlyStorage(Path filePath) {
-        super(filePath);
+        super(filePath, JsonSerializableElderly.RECORDS_NAME, JsonAdaptedElderly.class);
     }
 
     @Override
@@ -39,13 +39,13 @@ public class JsonElderlyStorage extends JsonAppStorage<ReadOnlyElderly, Friendly
 
     @Override
     public Optional<ReadOnlyElderly> readElderly(FriendlyLink friendlyLink) throws DataConversionException {
-        return super.read(JsonSerializableElderly.class, logger, friendlyLink);
+        return super.read(new JsonElderlyLoader(friendlyLink), logger);
     }
 
     @Override
     public Optional<ReadOnlyElderly> readElderly(Path filePath,
             FriendlyLink friendlyLink) throws DataConversionException {
-        return super.read(filePath, JsonSerializableElderly.class, logger, friendlyLink);
+        return super.read(filePath, new JsonElderlyLoader(friendlyLink), logger);
     }
 
     @Override
@@ -58,7 +58,26 @@ public class JsonElderlyStorage extends JsonAppStorage<ReadOnlyElderly, Friendly
         requireNonNull(entity);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableElderly(entity), filePath);
+        super.save(filePath, entity);
+    }
+
+    @Override
+    protected List<Elderly> getEntities(ReadOnlyElderly data) {
+        return data.getElderlyList();
+    }
+
+    @Override
+    protected String getEntityKey(Elderly entity) {
+        return entity.getNric().value;
+    }
+
+    @Override
+    protected String getRecordKey(JsonAdaptedElderly record) {
+        return String.valueOf(record.getNric()).toUpperCase();
+    }
+
+    @Override
+    protected JsonAdaptedElderly toRecord(Elderly entity) {
+        return new JsonAdaptedElderly(entity);
     }
 }
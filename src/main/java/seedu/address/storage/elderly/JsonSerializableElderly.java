@@ -11,7 +11,6 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.FriendlyLink;
 import seedu.address.model.ReadOnlyElderly;
-import seedu.address.model.person.Elderly;
 import seedu.address.storage.JsonSerializable;
 
 /**
@@ -19,6 +18,7 @@ import seedu.address.storage.JsonSerializable;
  */
 @JsonRootName(value = "elderly")
 public class JsonSerializableElderly implements JsonSerializable<FriendlyLink> {
+    static final String RECORDS_NAME = "elderly";
     public static final String MESSAGE_DUPLICATE_ELDERLY = "Elderly list contains duplicate elderly.";
 
     private final List<JsonAdaptedElderly> elderly = new ArrayList<>();
@@ -29,7 +29,7 @@ public class JsonSerializableElderly implements JsonSerializable<FriendlyLink> {
      * @param elderly List of Jackson-friendly elderly.
      */
     @JsonCreator
-    public JsonSerializableElderly(@JsonProperty("elderly") List<JsonAdaptedElderly> elderly) {
+    public JsonSerializableElderly(@JsonProperty(RECORDS_NAME) List<JsonAdaptedElderly> elderly) {
         serializeEntities(this.elderly, elderly);
     }
 
@@ -60,13 +60,11 @@ public class JsonSerializableElderly implements JsonSerializable<FriendlyLink> {
     }
 
     private void unserializeEntities(FriendlyLink friendlyLink) throws IllegalValueException {
+        JsonElderlyLoader loader = new JsonElderlyLoader(friendlyLink);
         for (JsonAdaptedElderly jsonAdaptedElderly : elderly) {
-            Elderly elderly = jsonAdaptedElderly.toModelType(friendlyLink);
-            if (friendlyLink.hasElderly(elderly)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_ELDERLY);
-            }
-            friendlyLink.addElderly(elderly);
+            loader.load(jsonAdaptedElderly);
         }
+        loader.commit();
     }
 
 }
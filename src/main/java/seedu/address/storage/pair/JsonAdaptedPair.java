@@ -47,6 +47,14 @@ class JsonAdaptedPair implements JsonSerializable<Pair> {
         volunteerNric = source.getVolunteer().getNric().value;
     }
 
+    public String getElderlyNric() {
+        return elderlyNric;
+    }
+
+    public String getVolunteerNric() {
+        return volunteerNric;
+    }
+
     /**
      * Converts this Jackson-friendly adapted pair object into the model's {@code Pair} object.
      *
@@ -0,0 +1,54 @@
+package seedu.address.storage.pair;
+
+import static seedu.address.commons.core.Messages.MESSAGE_DUPLICATE_PAIR;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.FriendlyLink;
+import seedu.address.model.pair.Pair;
+import seedu.address.model.person.information.Nric;
+import seedu.address.storage.JsonRecordLoader;
+
+/**
+ * Converts Jackson-friendly pairs into the model one at a time and adds them to {@code FriendlyLink}.
+ */
+class JsonPairLoader implements JsonRecordLoader<JsonAdaptedPair, FriendlyLink> {
+
+    private final FriendlyLink friendlyLink;
+    private final List<Pair> loaded = new ArrayList<>();
+    private final Map<Nric, Set<Nric>> loadedNrics = new HashMap<>();
+
+    /**
+     * Creates a {@code JsonPairLoader} that adds pairs to {@code friendlyLink}.
+     *
+     * @param friendlyLink FriendlyLink cache containing the paired elderly and volunteers.
+     */
+    JsonPairLoader(FriendlyLink friendlyLink) {
+        this.friendlyLink = friendlyLink;
+    }
+
+    @Override
+    public void load(JsonAdaptedPair record) throws IllegalValueException {
+        Pair pair = record.toModelType(friendlyLink);
+        Nric elderlyNric = pair.getElderly().getNric();
+        Nric volunteerNric = pair.getVolunteer().getNric();
+        if (friendlyLink.hasPair(pair)
+                || !loadedNrics.computeIfAbsent(elderlyNric, nric -> new HashSet<>()).add(volunteerNric)) {
+            throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_PAIR, elderlyNric, volunteerNric));
+        }
+        loaded.add(pair);
+    }
+
+    @Override
+    public FriendlyLink commit() {
+        friendlyLink.addAllPairs(loaded);
+        loaded.clear();
+        return friendlyLink;
+    }
+}
@@ -4,22 +4,22 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
-import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.FriendlyLink;
 import seedu.address.model.ReadOnlyPair;
+import seedu.address.model.pair.Pair;
 import seedu.address.storage.JsonAppStorage;
 
 /**
  * A class to access pair data stored as a json file on the hard disk.
  */
-public class JsonPairStorage extends JsonAppStorage<ReadOnlyPair, FriendlyLink,
-        JsonSerializablePair> implements PairStorage {
+public class JsonPairStorage extends JsonAppStorage<ReadOnlyPair, FriendlyLink, Pair, JsonAdaptedPair>
+        implements PairStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonPairStorage.class);
 
@@ -29,7 +29,7 @@ public class JsonPairStorage extends JsonAppStorage<ReadOnlyPair, FriendlyLink,
      * @param filePath Pair data file path.
      */
     public JsonPairStorage(Path filePath) {
-        super(filePath);
+        super(filePath, JsonSerializablePair.RECORDS_NAME, JsonAdaptedPair.class);
     }
 
     @Override
@@ -39,13 +39,13 @@ public class JsonPairStorage extends JsonAppStorage<ReadOnlyPair, FriendlyLink,
 
     @Override
     public Optional<ReadOnlyPair> readPair(FriendlyLink friendlyLink) throws DataConversionException {
-        return super.read(JsonSerializablePair.class, logger, friendlyLink);
+        return super.read(new JsonPairLoader(friendlyLink), logger);
     }
 
     @Override
     public Optional<ReadOnlyPair> readPair(Path filePath, FriendlyLink friendlyLink)
             throws DataConversionException {
-        return super.read(filePath, JsonSerializablePair.class, logger, friendlyLink);
+        return super.read(filePath, new JsonPairLoader(friendlyLink), logger);
     }
 
     @Override
@@ -58,7 +58,32 @@ public class JsonPairStorage extends JsonAppStorage<ReadOnlyPair, FriendlyLink,
         requireNonNull(entity);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializablePair(entity), filePath);
+        super.save(filePath, entity);
+    }
+
+    @Override
+    protected List<Pair> getEntities(ReadOnlyPair data) {
+        return data.getPairList();
+    }
+
+    @Override
+    protected String getEntityKey(Pair entity) {
+        return entity.getElderly().getNric().value + " " + entity.getVolunteer().getNric().value;
+    }
+
+    @Override
+    protected String getRecordKey(JsonAdaptedPair record) {
+        return (record.getElderlyNric() + " " + record.getVolunteerNric()).toUpperCase();
+    }
+
+    @Override
+    protected JsonAdaptedPair toRecord(Pair entity) {
+        return new JsonAdaptedPair(entity);
+    }
+
+    @Override
+    protected boolean isRecordChanged(Pair saved, Pair entity) {
+        // the record of a pair only holds the NRICs in its key
+        return false;
     }
 }
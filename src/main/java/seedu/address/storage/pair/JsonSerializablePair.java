@@ -1,7 +1,5 @@
 package seedu.address.storage.pair;
 
-import static seedu.address.commons.core.Messages.MESSAGE_DUPLICATE_PAIR;
-
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -13,7 +11,6 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.FriendlyLink;
 import seedu.address.model.ReadOnlyPair;
-import seedu.address.model.pair.Pair;
 import seedu.address.storage.JsonSerializable;
 
 /**
@@ -21,6 +18,7 @@ import seedu.address.storage.JsonSerializable;
  */
 @JsonRootName(value = "pairs")
 public class JsonSerializablePair implements JsonSerializable<FriendlyLink> {
+    static final String RECORDS_NAME = "pairs";
 
     private final List<JsonAdaptedPair> pairs = new ArrayList<>();
 
@@ -30,7 +28,7 @@ public class JsonSerializablePair implements JsonSerializable<FriendlyLink> {
      * @param pairs List of Jackson-friendly pairs.
      */
     @JsonCreator
-    public JsonSerializablePair(@JsonProperty("pairs") List<JsonAdaptedPair> pairs) {
+    public JsonSerializablePair(@JsonProperty(RECORDS_NAME) List<JsonAdaptedPair> pairs) {
         serializePairs(this.pairs, pairs);
     }
 
@@ -62,13 +60,10 @@ public class JsonSerializablePair implements JsonSerializable<FriendlyLink> {
     }
 
     private void unserializeEntities(FriendlyLink friendlyLink) throws IllegalValueException {
+        JsonPairLoader loader = new JsonPairLoader(friendlyLink);
         for (JsonAdaptedPair jsonAdaptedPair : pairs) {
-            Pair pair = jsonAdaptedPair.toModelType(friendlyLink);
-            if (friendlyLink.hasPair(pair)) {
-                throw new IllegalValueException(String.format(
-                        MESSAGE_DUPLICATE_PAIR, pair.getElderly().getNric(), pair.getVolunteer().getNric()));
-            }
-            friendlyLink.addPair(pair);
+            loader.load(jsonAdaptedPair);
         }
+        loader.commit();
     }
 }
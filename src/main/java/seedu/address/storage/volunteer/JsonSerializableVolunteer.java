@@ -11,7 +11,6 @@ import com.fasterxml.jackson.annotation.JsonRootName;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.FriendlyLink;
 import seedu.address.model.ReadOnlyVolunteer;
-import seedu.address.model.person.Volunteer;
 import seedu.address.storage.JsonSerializable;
 
 /**
@@ -19,6 +18,7 @@ import seedu.address.storage.JsonSerializable;
  */
 @JsonRootName(value = "volunteers")
 public class JsonSerializableVolunteer implements JsonSerializable<FriendlyLink> {
+    static final String RECORDS_NAME = "volunteers";
     public static final String MESSAGE_DUPLICATE_VOLUNTEER = "Volunteer list contains duplicate volunteer(s).";
 
     private final List<JsonAdaptedVolunteer> volunteers = new ArrayList<>();
@@ -29,7 +29,7 @@ public class JsonSerializableVolunteer implements JsonSerializable<FriendlyLink>
      * @param volunteer List of Jackson-friendly volunteer.
      */
     @JsonCreator
-    public JsonSerializableVolunteer(@JsonProperty("volunteers") List<JsonAdaptedVolunteer> volunteer) {
+    public JsonSerializableVolunteer(@JsonProperty(RECORDS_NAME) List<JsonAdaptedVolunteer> volunteer) {
         serializeEntities(this.volunteers, volunteer);
     }
 
@@ -60,13 +60,11 @@ public class JsonSerializableVolunteer implements JsonSerializable<FriendlyLink>
     }
 
     private void unserializeEntities(FriendlyLink friendlyLink) throws IllegalValueException {
+        JsonVolunteerLoader loader = new JsonVolunteerLoader(friendlyLink);
         for (JsonAdaptedVolunteer jsonAdaptedVolunteer : volunteers) {
-            Volunteer volunteer = jsonAdaptedVolunteer.toModelType(friendlyLink);
-            if (friendlyLink.hasVolunteer(volunteer)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_VOLUNTEER);
-            }
-            friendlyLink.addVolunteer(volunteer);
+            loader.load(jsonAdaptedVolunteer);
         }
+        loader.commit();
     }
 
 
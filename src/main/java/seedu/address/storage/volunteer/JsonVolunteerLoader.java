@@ -0,0 +1,49 @@
+package seedu.address.storage.volunteer;
+
+import static seedu.address.storage.volunteer.JsonSerializableVolunteer.MESSAGE_DUPLICATE_VOLUNTEER;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.FriendlyLink;
+import seedu.address.model.person.Volunteer;
+import seedu.address.model.person.information.Nric;
+import seedu.address.storage.JsonRecordLoader;
+
+/**
+ * Converts Jackson-friendly volunteers into the model one at a time and adds them to {@code FriendlyLink}.
+ */
+class JsonVolunteerLoader implements JsonRecordLoader<JsonAdaptedVolunteer, FriendlyLink> {
+
+    private final FriendlyLink friendlyLink;
+    private final List<Volunteer> loaded = new ArrayList<>();
+    private final Set<Nric> loadedNrics = new HashSet<>();
+
+    /**
+     * Creates a {@code JsonVolunteerLoader} that adds volunteers to {@code friendlyLink}.
+     *
+     * @param friendlyLink FriendlyLink cache.
+     */
+    JsonVolunteerLoader(FriendlyLink friendlyLink) {
+        this.friendlyLink = friendlyLink;
+    }
+
+    @Override
+    public void load(JsonAdaptedVolunteer record) throws IllegalValueException {
+        Volunteer volunteer = record.toModelType(friendlyLink);
+        if (friendlyLink.hasVolunteer(volunteer) || !loadedNrics.add(volunteer.getNric())) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_VOLUNTEER);
+        }
+        loaded.add(volunteer);
+    }
+
+    @Override
+    public FriendlyLink commit() {
+        friendlyLink.addAllVolunteers(loaded);
+        loaded.clear();
+        return friendlyLink;
+    }
+}
@@ -4,21 +4,22 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
-import seedu.address.commons.util.FileUtil;
-import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.FriendlyLink;
 import seedu.address.model.ReadOnlyVolunteer;
+import seedu.address.model.person.Volunteer;
 import seedu.address.storage.JsonAppStorage;
 
 /**
  * A class to access volunteer data stored as a json file on the hard disk.
  */
-public class JsonVolunteerStorage extends JsonAppStorage<ReadOnlyVolunteer, FriendlyLink, JsonSerializableVolunteer>
+public class JsonVolunteerStorage
+        extends JsonAppStorage<ReadOnlyVolunteer, FriendlyLink, Volunteer, JsonAdaptedVolunteer>
         implements VolunteerStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonVolunteerStorage.class);
@@ -29,7 +30,7 @@ public class JsonVolunteerStorage extends JsonAppStorage<ReadOnlyVolunteer, Frie
      * @param filePath Volunteer data file path.
      */
     public JsonVolunteerStorage(Path filePath) {
-        super(filePath);
+        super(filePath, JsonSerializableVolunteer.RECORDS_NAME, JsonAdaptedVolunteer.class);
     }
 
     @Override
@@ -40,13 +41,13 @@ public class JsonVolunteerStorage extends JsonAppStorage<ReadOnlyVolunteer, Frie
 
     @Override
     public Optional<ReadOnlyVolunteer> readVolunteer(FriendlyLink friendlyLink) throws DataConversionException {
-        return super.read(JsonSerializableVolunteer.class, logger, friendlyLink);
+        return super.read(new JsonVolunteerLoader(friendlyLink), logger);
     }
 
     @Override
     public Optional<ReadOnlyVolunteer> readVolunteer(Path filePath, FriendlyLink friendlyLink)
             throws DataConversionException {
-        return super.read(filePath, JsonSerializableVolunteer.class, logger, friendlyLink);
+        return super.read(filePath, new JsonVolunteerLoader(friendlyLink), logger);
     }
 
     @Override
@@ -59,7 +60,26 @@ public class JsonVolunteerStorage extends JsonAppStorage<ReadOnlyVolunteer, Frie
         requireNonNull(volunteer);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableVolunteer(volunteer), filePath);
+        super.save(filePath, volunteer);
+    }
+
+    @Override
+    protected List<Volunteer> getEntities(ReadOnlyVolunteer data) {
+        return data.getVolunteerList();
+    }
+
+    @Override
+    protected String getEntityKey(Volunteer entity) {
+        return entity.getNric().value;
+    }
+
+    @Override
+    protected String getRecordKey(JsonAdaptedVolunteer record) {
+        return String.valueOf(record.getNric()).toUpperCase();
+    }
+
+    @Override
+    protected JsonAdaptedVolunteer toRecord(Volunteer entity) {
+        return new JsonAdaptedVolunteer(entity);
     }
 }
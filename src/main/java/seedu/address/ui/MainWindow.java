@@ -2,6 +2,7 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -129,6 +130,10 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> {
+            logger.warning(message);
+            resultDisplay.setFeedbackToUser(message);
+        }));
 
         String footerMessage = "Data is saved to " + logic.getElderlyFilePath()
                 + ", " + logic.getVolunteerFilePath()
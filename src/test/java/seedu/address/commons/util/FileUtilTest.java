@@ -1,13 +1,21 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.Path;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +28,31 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFile_existingFile_replacesContentWithoutTemporaryFile() throws IOException {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, "old content that is longer");
+        FileUtil.writeToFile(file, "new");
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertFalse(FileUtil.isFileExists(testFolder.resolve("data.json" + FileUtil.TEMPORARY_FILE_SUFFIX)));
+    }
+
+    @Test
+    public void writeAtomically_writerFails_keepsOriginalContent() throws IOException {
+        Path file = testFolder.resolve("data.json");
+        FileUtil.writeToFile(file, "original");
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, out -> {
+            out.write("partial".getBytes());
+            throw new IOException("dummy exception");
+        }));
+        assertEquals("original", FileUtil.readFromFile(file));
+    }
+
+    @Test
+    public void appendToFile_missingFile_createsThenAppends() throws IOException {
+        Path file = testFolder.resolve("data.journal");
+        FileUtil.appendToFile(file, "first\n");
+        FileUtil.appendToFile(file, "second\n");
+        assertEquals("first\nsecond\n", FileUtil.readFromFile(file));
+    }
 }
@@ -1,12 +1,22 @@
 package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.testutil.SerializableTestClass;
 import seedu.address.testutil.TestUtil;
 
@@ -39,4 +49,102 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void saveJsonArrayFile_records_sameAsJsonString() throws IOException {
+        List<String> records = Arrays.asList("first", "second");
+        JsonUtil.saveJsonArrayFile(SERIALIZATION_FILE, "records", records, Function.identity());
+
+        assertEquals(JsonUtil.toJsonString(Collections.singletonMap("records", records)),
+                FileUtil.readFromFile(SERIALIZATION_FILE));
+    }
+
+    @Test
+    public void readJsonArrayFile_savedRecords_readsRecordsInOrder() throws Exception {
+        List<String> records = Arrays.asList("first", "second", "third");
+        JsonUtil.saveJsonArrayFile(SERIALIZATION_FILE, "records", records, String::toUpperCase);
+
+        List<String> readRecords = new ArrayList<>();
+        assertTrue(JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "records", String.class, readRecords::add));
+        assertEquals(Arrays.asList("FIRST", "SECOND", "THIRD"), readRecords);
+    }
+
+    @Test
+    public void readJsonArrayFile_otherFields_skipsOtherFields() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE,
+                "{ \"other\" : { \"records\" : [ \"nested\" ] }, \"records\" : [ \"a\" ], \"last\" : 1 }");
+
+        List<String> readRecords = new ArrayList<>();
+        JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "records", String.class, readRecords::add);
+        assertEquals(Collections.singletonList("a"), readRecords);
+    }
+
+    @Test
+    public void readJsonArrayFile_missingFile_returnsFalse() throws Exception {
+        Path missingFile = TestUtil.getFilePathInSandboxFolder("missing.json");
+        assertFalse(JsonUtil.readJsonArrayFile(missingFile, "records", String.class, record -> {}));
+    }
+
+    @Test
+    public void readJsonArrayFile_notJsonObject_throwsDataConversionException() throws IOException {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "[ \"a\" ]");
+        assertThrows(DataConversionException.class, () ->
+                JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "records", String.class, record -> {}));
+    }
+
+    @Test
+    public void readJsonArrayFile_recordRejected_throwsIllegalValueException() throws IOException {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{ \"records\" : [ \"a\" ] }");
+        assertThrows(IllegalValueException.class, () ->
+                JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "records", String.class, record -> {
+                    throw new IllegalValueException(record);
+                }));
+    }
+
+    @Test
+    public void readJsonLinesFile_savedLines_readsEntriesInOrder() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, JsonUtil.toJsonLine("put", "first")
+                + JsonUtil.toJsonLine("delete", "second") + JsonUtil.toJsonCommitLine(2));
+        List<String> entries = new ArrayList<>();
+        assertTrue(JsonUtil.readJsonLinesFile(SERIALIZATION_FILE, String.class, (key, record) ->
+                entries.add(key + " " + record)));
+        assertEquals(Arrays.asList("put first", "delete second"), entries);
+    }
+
+    @Test
+    public void readJsonLinesFile_incompleteLastLine_ignoresLastLine() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, JsonUtil.toJsonLine("put", "first") + JsonUtil.toJsonCommitLine(1)
+                + "{\"put\":\"sec");
+        List<String> entries = new ArrayList<>();
+        JsonUtil.readJsonLinesFile(SERIALIZATION_FILE, String.class, (key, record) -> entries.add(record));
+        assertEquals(Collections.singletonList("first"), entries);
+    }
+
+    @Test
+    public void readJsonLinesFile_uncommittedLastBatch_ignoresWholeBatch() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, JsonUtil.toJsonLine("put", "first") + JsonUtil.toJsonCommitLine(1)
+                + JsonUtil.toJsonLine("put", "second") + JsonUtil.toJsonLine("delete", "first"));
+        List<String> entries = new ArrayList<>();
+        JsonUtil.readJsonLinesFile(SERIALIZATION_FILE, String.class, (key, record) -> entries.add(record));
+        assertEquals(Collections.singletonList("first"), entries);
+    }
+
+    @Test
+    public void readJsonLinesFile_commitCountMismatch_throwsDataConversionException() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, JsonUtil.toJsonLine("put", "first") + JsonUtil.toJsonCommitLine(2));
+        assertThrows(DataConversionException.class, () ->
+                JsonUtil.readJsonLinesFile(SERIALIZATION_FILE, String.class, (key, record) -> {}));
+    }
+
+    @Test
+    public void readJsonLinesFile_missingFile_returnsFalse() throws Exception {
+        Path missingFile = TestUtil.getFilePathInSandboxFolder("missing.journal");
+        assertFalse(JsonUtil.readJsonLinesFile(missingFile, String.class, (key, record) -> {}));
+    }
+
+    @Test
+    public void readJsonLinesFile_notSingleFieldObject_throwsDataConversionException() throws IOException {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "[ \"a\" ]" + JsonUtil.JSON_LINE_SEPARATOR);
+        assertThrows(DataConversionException.class, () ->
+                JsonUtil.readJsonLinesFile(SERIALIZATION_FILE, String.class, (key, record) -> {}));
+    }
 }
@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_NRIC_NOT_EXIST;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -15,6 +17,8 @@ import static seedu.address.testutil.TypicalVolunteers.AMY;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -33,6 +37,7 @@ import seedu.address.model.ReadOnlyVolunteer;
 import seedu.address.model.person.Volunteer;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.WriteBehindStorage;
 import seedu.address.storage.elderly.JsonElderlyStorage;
 import seedu.address.storage.pair.JsonPairStorage;
 import seedu.address.storage.volunteer.JsonVolunteerStorage;
@@ -84,20 +89,7 @@ public class LogicManagerTest {
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         // Setup LogicManager with JsonFriendlyLinkIoExceptionThrowingStub
-        JsonPairStorage friendlyLinkStorage =
-                new JsonPairIoExceptionThrowingStub(
-                        temporaryFolder.resolve("ioExceptionFriendlyLink.json"));
-        JsonElderlyStorage elderlyStorage =
-                new JsonElderlyIoExceptionThrowingStub(
-                        temporaryFolder.resolve("ioExceptionElderly.json"));
-        JsonVolunteerStorage volunteerStorage =
-                new JsonVolunteerIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionVolunteer.json"));
-        JsonUserPrefsStorage userPrefsStorage =
-                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
-
-        StorageManager storage =
-                new StorageManager(friendlyLinkStorage, elderlyStorage, volunteerStorage, userPrefsStorage);
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, getIoExceptionThrowingStorage());
 
         // Execute add volunteer command
         String addVolunteerCommand = AddVolunteerCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
@@ -109,6 +101,56 @@ public class LogicManagerTest {
         assertCommandFailure(addVolunteerCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_storageThrowsIoException_dataRemainsModified() {
+        logic = new LogicManager(model, getIoExceptionThrowingStorage());
+        model.getFriendlyLink().markAllSaved();
+
+        String addVolunteerCommand = AddVolunteerCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + NRIC_DESC_AMY + BIRTH_DATE_DESC_AMY + REGION_DESC_AMY;
+        assertThrows(CommandException.class, () -> logic.execute(addVolunteerCommand));
+        assertTrue(model.getFriendlyLink().isVolunteerModified());
+        assertFalse(model.getFriendlyLink().isElderlyModified());
+        assertFalse(model.getFriendlyLink().isPairModified());
+    }
+
+    @Test
+    public void execute_readOnlyCommand_doesNotSave() throws Exception {
+        // saving would throw, so the command only succeeds if no data is written
+        logic = new LogicManager(model, getIoExceptionThrowingStorage());
+        model.getFriendlyLink().markAllSaved();
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void execute_modifyingCommand_marksDataSaved() throws Exception {
+        String addVolunteerCommand = AddVolunteerCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + NRIC_DESC_AMY + BIRTH_DATE_DESC_AMY + REGION_DESC_AMY;
+        logic.execute(addVolunteerCommand);
+        assertFalse(model.getFriendlyLink().isVolunteerModified());
+        assertFalse(model.getFriendlyLink().isElderlyModified());
+        assertFalse(model.getFriendlyLink().isPairModified());
+    }
+
+    @Test
+    public void execute_backgroundWriteFails_commandSucceedsAndFailureReported() throws Exception {
+        WriteBehindStorage storage = new WriteBehindStorage(getIoExceptionThrowingStorage());
+        logic = new LogicManager(model, storage);
+        List<String> failureMessages = new CopyOnWriteArrayList<>();
+        logic.setSaveFailureHandler(failureMessages::add);
+        model.getFriendlyLink().markAllSaved();
+
+        String addVolunteerCommand = AddVolunteerCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + NRIC_DESC_AMY + BIRTH_DATE_DESC_AMY + REGION_DESC_AMY;
+        logic.execute(addVolunteerCommand);
+        assertThrows(IOException.class, storage::flush);
+        assertEquals(LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION, failureMessages.get(0));
+        assertTrue(model.getFriendlyLink().isVolunteerModified());
+
+        // the failure of the earlier write is not thrown by a later command
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
     @Test
     public void getFilteredVolunteerList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredVolunteerList().remove(0));
@@ -179,6 +221,24 @@ public class LogicManagerTest {
         assertEquals(expectedModel, model);
     }
 
+    /**
+     * Returns a {@code StorageManager} whose elderly, volunteer and pair storages throw an {@code IOException}
+     * when saving.
+     */
+    private StorageManager getIoExceptionThrowingStorage() {
+        JsonPairStorage friendlyLinkStorage =
+                new JsonPairIoExceptionThrowingStub(
+                        temporaryFolder.resolve("ioExceptionFriendlyLink.json"));
+        JsonElderlyStorage elderlyStorage =
+                new JsonElderlyIoExceptionThrowingStub(
+                        temporaryFolder.resolve("ioExceptionElderly.json"));
+        JsonVolunteerStorage volunteerStorage =
+                new JsonVolunteerIoExceptionThrowingStub(temporaryFolder.resolve("ioExceptionVolunteer.json"));
+        JsonUserPrefsStorage userPrefsStorage =
+                new JsonUserPrefsStorage(temporaryFolder.resolve("ioExceptionUserPrefs.json"));
+        return new StorageManager(friendlyLinkStorage, elderlyStorage, volunteerStorage, userPrefsStorage);
+    }
+
     /**
      * A stub class to throw an {@code IOException} when the save method is called.
      */
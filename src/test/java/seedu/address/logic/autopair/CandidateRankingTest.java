@@ -0,0 +1,87 @@
+package seedu.address.logic.autopair;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.parser.Parser.FIELD_NOT_SPECIFIED;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.FriendlyLink;
+import seedu.address.model.pair.Pair;
+import seedu.address.model.person.Elderly;
+import seedu.address.model.person.Volunteer;
+import seedu.address.testutil.ElderlyBuilder;
+import seedu.address.testutil.VolunteerBuilder;
+
+public class CandidateRankingTest {
+
+    private static final String[] REGIONS = {"NORTH", "WEST", "EAST", FIELD_NOT_SPECIFIED};
+    private static final String[] RISK_LEVELS = {"LOW", "MEDIUM", "HIGH"};
+    private static final LocalDate FIRST_DAY = LocalDate.parse("2023-03-01");
+
+    @Test
+    public void getBestPairs_countNotPositive_returnsEmptyList() {
+        FriendlyLink friendlyLink = new FriendlyLink();
+        Elderly elderly = new ElderlyBuilder().build();
+        friendlyLink.addElderly(elderly);
+        friendlyLink.addVolunteer(new VolunteerBuilder().build());
+        assertEquals(Collections.emptyList(), CandidateRanking.getBestPairs(friendlyLink, elderly, 0));
+    }
+
+    @Test
+    public void getBestPairs_randomPersons_sameAsScoringEveryPerson() {
+        Random random = new Random(2103);
+        FriendlyLink friendlyLink = new FriendlyLink();
+        for (int i = 0; i < 150; i++) {
+            ElderlyBuilder elderly = new ElderlyBuilder().withNric(String.format("T%07dB", i))
+                    .withRegion(REGIONS[random.nextInt(REGIONS.length)])
+                    .withRiskLevel(RISK_LEVELS[random.nextInt(RISK_LEVELS.length)]);
+            VolunteerBuilder volunteer = new VolunteerBuilder().withNric(String.format("S%07dA", i))
+                    .withRegion(REGIONS[random.nextInt(REGIONS.length)]);
+            if (random.nextInt(3) > 0) {
+                LocalDate start = FIRST_DAY.plusDays(random.nextInt(60));
+                elderly.withAvailableDates(start.toString(), start.plusDays(random.nextInt(5)).toString());
+            }
+            if (random.nextInt(3) > 0) {
+                LocalDate start = FIRST_DAY.plusDays(random.nextInt(60));
+                volunteer.withAvailableDates(start.toString(), start.plusDays(random.nextInt(5)).toString());
+            }
+            friendlyLink.addElderly(elderly.build());
+            friendlyLink.addVolunteer(volunteer.build());
+        }
+        for (Pair pair : new GreedyPairing().getPairs(friendlyLink).subList(0, 20)) {
+            friendlyLink.addPair(pair);
+        }
+
+        for (Elderly elderly : friendlyLink.getElderlyList()) {
+            List<Pair> expected = new ArrayList<>();
+            for (Volunteer volunteer : friendlyLink.getUnpairedVolunteers()) {
+                if (volunteer.isSuitableRegion(elderly) && volunteer.hasSuitableAvailableDates(elderly)) {
+                    expected.add(new Pair(elderly, volunteer));
+                }
+            }
+            assertEquals(getRanked(expected, 3), CandidateRanking.getBestPairs(friendlyLink, elderly, 3));
+        }
+        for (Volunteer volunteer : friendlyLink.getVolunteerList()) {
+            List<Pair> expected = new ArrayList<>();
+            for (Elderly elderly : friendlyLink.getUnpairedElderly()) {
+                if (elderly.isSuitableRegion(volunteer) && elderly.hasSuitableAvailableDates(volunteer)) {
+                    expected.add(new Pair(elderly, volunteer));
+                }
+            }
+            assertEquals(getRanked(expected, 3), CandidateRanking.getBestPairs(friendlyLink, volunteer, 3));
+        }
+    }
+
+    private static List<Pair> getRanked(List<Pair> pairs, int count) {
+        pairs.sort(Comparator.<Pair>comparingInt(pair -> -PairScorer.getScore(pair.getVolunteer(), pair.getElderly()))
+                .thenComparing(pair -> pair.getElderly().getNric().value + pair.getVolunteer().getNric().value));
+        return pairs.subList(0, Math.min(count, pairs.size()));
+    }
+}
@@ -0,0 +1,189 @@
+package seedu.address.logic.autopair;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.Parser.FIELD_NOT_SPECIFIED;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.pair.Pair;
+import seedu.address.model.person.Elderly;
+import seedu.address.model.person.Volunteer;
+import seedu.address.model.person.information.Nric;
+import seedu.address.testutil.ElderlyBuilder;
+import seedu.address.testutil.VolunteerBuilder;
+
+public class CapacityPairingTest {
+
+    private static final String[] REGIONS = {"NORTH", "WEST", FIELD_NOT_SPECIFIED};
+    private static final String[] RISK_LEVELS = {"LOW", "HIGH", FIELD_NOT_SPECIFIED};
+
+    @Test
+    public void getPairs_null_throwsNullPointerException() {
+        CapacityPairing capacityPairing = new CapacityPairing(2);
+        assertThrows(NullPointerException.class, () ->
+                capacityPairing.getPairs(null, Collections.emptyList(), Collections.emptyList()));
+        assertThrows(NullPointerException.class, () ->
+                capacityPairing.getPairs(Collections.emptyList(), null, Collections.emptyList()));
+        assertThrows(NullPointerException.class, () ->
+                capacityPairing.getPairs(Collections.emptyList(), Collections.emptyList(), null));
+    }
+
+    @Test
+    public void getPairs_highRiskElderlyWithOneVolunteer_pairedWithAnother() {
+        Volunteer pairedVolunteer = new VolunteerBuilder().withNric("S1234567I").build();
+        Volunteer volunteer = new VolunteerBuilder().withNric("S1111111I").build();
+        Elderly elderly = new ElderlyBuilder().withNric("S7654321I").withRiskLevel("HIGH").build();
+
+        List<Pair> pairs = new CapacityPairing(1).getPairs(Arrays.asList(pairedVolunteer, volunteer),
+                Collections.singletonList(elderly), Collections.singletonList(new Pair(elderly, pairedVolunteer)));
+        assertEquals(Collections.singletonList(new Pair(elderly, volunteer)), pairs);
+    }
+
+    @Test
+    public void getPairs_volunteerAtMaxLoad_notPaired() {
+        Volunteer volunteer = new VolunteerBuilder().withNric("S1234567I").build();
+        Elderly pairedElderly = new ElderlyBuilder().withNric("S7654321I").build();
+        Elderly elderly = new ElderlyBuilder().withNric("S7777777I").build();
+
+        List<Pair> existingPairs = Collections.singletonList(new Pair(pairedElderly, volunteer));
+        assertEquals(Collections.emptyList(), new CapacityPairing(1).getPairs(Collections.singletonList(volunteer),
+                Arrays.asList(pairedElderly, elderly), existingPairs));
+        assertEquals(Collections.singletonList(new Pair(elderly, volunteer)), new CapacityPairing(2).getPairs(
+                Collections.singletonList(volunteer), Arrays.asList(pairedElderly, elderly), existingPairs));
+    }
+
+    @Test
+    public void getPairs_randomRosters_maximumValidPairs() {
+        Random random = new Random(2103);
+        for (int round = 0; round < 100; round++) {
+            List<Volunteer> volunteers = new ArrayList<>();
+            for (int i = 0; i < 1 + random.nextInt(8); i++) {
+                int start = 1 + random.nextInt(20);
+                volunteers.add(new VolunteerBuilder().withNric(String.format("S%07dA", i))
+                        .withRegion(REGIONS[random.nextInt(REGIONS.length)])
+                        .withAvailableDates(getMarchDate(start), getMarchDate(start + random.nextInt(8))).build());
+            }
+            List<Elderly> elderly = new ArrayList<>();
+            for (int i = 0; i < 1 + random.nextInt(8); i++) {
+                int start = 1 + random.nextInt(20);
+                elderly.add(new ElderlyBuilder().withNric(String.format("T%07dB", i))
+                        .withRegion(REGIONS[random.nextInt(REGIONS.length)])
+                        .withRiskLevel(RISK_LEVELS[random.nextInt(RISK_LEVELS.length)])
+                        .withAvailableDates(getMarchDate(start), getMarchDate(start + random.nextInt(8))).build());
+            }
+            List<Pair> existingPairs = new ArrayList<>();
+            for (Volunteer volunteer : volunteers) {
+                Elderly e = elderly.get(random.nextInt(elderly.size()));
+                if (random.nextInt(3) == 0 && isCompatible(volunteer, e)) {
+                    existingPairs.add(new Pair(e, volunteer));
+                }
+            }
+            int maxLoad = 1 + random.nextInt(3);
+
+            List<Pair> pairs = new CapacityPairing(maxLoad).getPairs(volunteers, elderly, existingPairs);
+            assertValid(pairs, existingPairs, maxLoad);
+            assertEquals(getMaximumFlow(volunteers, elderly, existingPairs, maxLoad), pairs.size());
+        }
+    }
+
+    @Test
+    public void equals() {
+        CapacityPairing capacityPairing = new CapacityPairing(2);
+        assertTrue(capacityPairing.equals(capacityPairing));
+        assertTrue(capacityPairing.equals(new CapacityPairing(2)));
+        assertFalse(capacityPairing.equals(new CapacityPairing(3)));
+        assertFalse(capacityPairing.equals(null));
+    }
+
+    private static void assertValid(List<Pair> pairs, List<Pair> existingPairs, int maxLoad) {
+        Set<Pair> allPairs = new HashSet<>(existingPairs);
+        Map<Nric, Integer> loads = new HashMap<>();
+        for (Pair pair : existingPairs) {
+            loads.merge(pair.getVolunteer().getNric(), 1, Integer::sum);
+            loads.merge(pair.getElderly().getNric(), 1, Integer::sum);
+        }
+        for (Pair pair : pairs) {
+            assertTrue(allPairs.add(pair));
+            assertTrue(isCompatible(pair.getVolunteer(), pair.getElderly()));
+            int volunteerLoad = loads.merge(pair.getVolunteer().getNric(), 1, Integer::sum);
+            int elderlyLoad = loads.merge(pair.getElderly().getNric(), 1, Integer::sum);
+            assertTrue(volunteerLoad <= maxLoad);
+            assertTrue(elderlyLoad <= CapacityPairing.getRequiredVolunteerCount(pair.getElderly()));
+        }
+    }
+
+    private static boolean isCompatible(Volunteer volunteer, Elderly elderly) {
+        return volunteer.getRegion().isMatch(elderly.getRegion())
+                && volunteer.getAvailability().isIntersecting(elderly.getAvailability());
+    }
+
+    /**
+     * Returns the maximum number of new pairs, found by augmenting one path at a time on an adjacency matrix.
+     */
+    private static int getMaximumFlow(List<Volunteer> volunteers, List<Elderly> elderly, List<Pair> existingPairs,
+            int maxLoad) {
+        int source = volunteers.size() + elderly.size();
+        int sink = source + 1;
+        int[][] capacities = new int[sink + 1][sink + 1];
+        for (int v = 0; v < volunteers.size(); v++) {
+            capacities[source][v] = maxLoad;
+            for (int e = 0; e < elderly.size(); e++) {
+                if (isCompatible(volunteers.get(v), elderly.get(e))) {
+                    capacities[v][volunteers.size() + e] = 1;
+                }
+            }
+        }
+        for (int e = 0; e < elderly.size(); e++) {
+            capacities[volunteers.size() + e][sink] = CapacityPairing.getRequiredVolunteerCount(elderly.get(e));
+        }
+        for (Pair pair : existingPairs) {
+            int v = volunteers.indexOf(pair.getVolunteer());
+            int e = volunteers.size() + elderly.indexOf(pair.getElderly());
+            capacities[source][v] = Math.max(0, capacities[source][v] - 1);
+            capacities[e][sink] = Math.max(0, capacities[e][sink] - 1);
+            capacities[v][e] = 0;
+        }
+
+        int flow = 0;
+        while (true) {
+            int[] previous = new int[sink + 1];
+            Arrays.fill(previous, -1);
+            previous[source] = source;
+            List<Integer> queue = new ArrayList<>(Collections.singletonList(source));
+            for (int i = 0; i < queue.size(); i++) {
+                int node = queue.get(i);
+                for (int next = 0; next <= sink; next++) {
+                    if (previous[next] == -1 && capacities[node][next] > 0) {
+                        previous[next] = node;
+                        queue.add(next);
+                    }
+                }
+            }
+            if (previous[sink] == -1) {
+                return flow;
+            }
+            for (int node = sink; node != source; node = previous[node]) {
+                capacities[previous[node]][node]--;
+                capacities[node][previous[node]]++;
+            }
+            flow++;
+        }
+    }
+
+    private static String getMarchDate(int day) {
+        return String.format("2023-03-%02d", day);
+    }
+}
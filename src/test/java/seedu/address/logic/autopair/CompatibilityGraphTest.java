@@ -0,0 +1,118 @@
+package seedu.address.logic.autopair;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.logic.parser.Parser.FIELD_NOT_SPECIFIED;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Elderly;
+import seedu.address.model.person.Volunteer;
+import seedu.address.testutil.ElderlyBuilder;
+import seedu.address.testutil.VolunteerBuilder;
+
+public class CompatibilityGraphTest {
+
+    private static final String[] REGIONS = {"NORTH", "WEST", "EAST", FIELD_NOT_SPECIFIED};
+    private static final String[] RISK_LEVELS = {"LOW", "MEDIUM", "HIGH", FIELD_NOT_SPECIFIED};
+
+    @Test
+    public void build_null_throwsNullPointerException() {
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        assertThrows(NullPointerException.class, () ->
+                CompatibilityGraph.build(null, Collections.emptyList(), Long.MAX_VALUE, pool));
+        assertThrows(NullPointerException.class, () ->
+                CompatibilityGraph.build(Collections.emptyList(), null, Long.MAX_VALUE, pool));
+        assertThrows(NullPointerException.class, () ->
+                CompatibilityGraph.build(Collections.emptyList(), Collections.emptyList(), Long.MAX_VALUE, null));
+    }
+
+    @Test
+    public void build_randomRosters_sameAsSequentialScoring() {
+        List<Volunteer> volunteers = new ArrayList<>();
+        List<Elderly> elderly = new ArrayList<>();
+        fillRandomRosters(volunteers, elderly);
+        ElderlyCandidateIndex candidates = new ElderlyCandidateIndex(elderly);
+
+        CompatibilityGraph graph = CompatibilityGraph.build(volunteers, elderly, Long.MAX_VALUE,
+                new ForkJoinPool(4)).get();
+        for (int volunteer = 0; volunteer < volunteers.size(); volunteer++) {
+            List<Elderly> compatible = candidates.findAllCompatible(volunteers.get(volunteer));
+            int[] expectedElderly = new int[compatible.size()];
+            int[] expectedScores = new int[compatible.size()];
+            for (int i = 0; i < compatible.size(); i++) {
+                expectedElderly[i] = elderly.indexOf(compatible.get(i));
+                expectedScores[i] = PairScorer.getScore(volunteers.get(volunteer), compatible.get(i));
+            }
+            assertArrayEquals(expectedElderly, graph.getCompatibleElderly(volunteer));
+            assertArrayEquals(expectedScores, graph.getScores(volunteer));
+        }
+    }
+
+    @Test
+    public void build_differentParallelism_sameGraph() {
+        List<Volunteer> volunteers = new ArrayList<>();
+        List<Elderly> elderly = new ArrayList<>();
+        fillRandomRosters(volunteers, elderly);
+
+        CompatibilityGraph sequentialGraph = CompatibilityGraph.build(volunteers, elderly, Long.MAX_VALUE,
+                new ForkJoinPool(1)).get();
+        CompatibilityGraph parallelGraph = CompatibilityGraph.build(volunteers, elderly, Long.MAX_VALUE,
+                new ForkJoinPool(4)).get();
+        for (int volunteer = 0; volunteer < volunteers.size(); volunteer++) {
+            assertArrayEquals(sequentialGraph.getCompatibleElderly(volunteer),
+                    parallelGraph.getCompatibleElderly(volunteer));
+            assertArrayEquals(sequentialGraph.getScores(volunteer), parallelGraph.getScores(volunteer));
+        }
+    }
+
+    @Test
+    public void build_tooManyPairs_returnsEmpty() {
+        List<Volunteer> volunteers = new ArrayList<>();
+        List<Elderly> elderly = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            volunteers.add(new VolunteerBuilder().withNric(String.format("S%07dA", i))
+                    .withRegion(FIELD_NOT_SPECIFIED).build());
+            elderly.add(new ElderlyBuilder().withNric(String.format("T%07dB", i))
+                    .withRegion(FIELD_NOT_SPECIFIED).build());
+        }
+
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        assertEquals(Optional.empty(), CompatibilityGraph.build(volunteers, elderly, 8, pool));
+        assertFalse(CompatibilityGraph.build(volunteers, elderly, 9, pool).isEmpty());
+    }
+
+    /**
+     * Fills the lists with enough volunteers and elderly in random regions and with random available dates for
+     * the scoring to be split between several tasks.
+     */
+    private static void fillRandomRosters(List<Volunteer> volunteers, List<Elderly> elderly) {
+        Random random = new Random(2103);
+        for (int i = 0; i < 600; i++) {
+            int start = 1 + random.nextInt(20);
+            volunteers.add(new VolunteerBuilder().withNric(String.format("S%07dA", i))
+                    .withRegion(REGIONS[random.nextInt(REGIONS.length)])
+                    .withAvailableDates(getMarchDate(start), getMarchDate(start + random.nextInt(8))).build());
+        }
+        for (int i = 0; i < 300; i++) {
+            int start = 1 + random.nextInt(20);
+            elderly.add(new ElderlyBuilder().withNric(String.format("T%07dB", i))
+                    .withRegion(REGIONS[random.nextInt(REGIONS.length)])
+                    .withRiskLevel(RISK_LEVELS[random.nextInt(RISK_LEVELS.length)])
+                    .withAvailableDates(getMarchDate(start), getMarchDate(start + random.nextInt(8))).build());
+        }
+    }
+
+    private static String getMarchDate(int day) {
+        return String.format("2023-03-%02d", day);
+    }
+}
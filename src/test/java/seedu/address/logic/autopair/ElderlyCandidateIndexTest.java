@@ -0,0 +1,96 @@
+package seedu.address.logic.autopair;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.Parser.FIELD_NOT_SPECIFIED;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Elderly;
+import seedu.address.model.person.Volunteer;
+import seedu.address.testutil.ElderlyBuilder;
+import seedu.address.testutil.VolunteerBuilder;
+
+public class ElderlyCandidateIndexTest {
+
+    private final Elderly northElderly = new ElderlyBuilder().withNric("S1111111A").withRegion("NORTH")
+            .withAvailableDates("2023-03-01", "2023-03-05").build();
+    private final Elderly anyRegionElderly = new ElderlyBuilder().withNric("S2222222B")
+            .withRegion(FIELD_NOT_SPECIFIED).build();
+    private final Elderly westElderly = new ElderlyBuilder().withNric("S3333333C").withRegion("WEST").build();
+    private final Elderly secondNorthElderly = new ElderlyBuilder().withNric("S4444444D").withRegion("NORTH").build();
+
+    private final ElderlyCandidateIndex index = new ElderlyCandidateIndex(
+            Arrays.asList(northElderly, anyRegionElderly, westElderly, secondNorthElderly));
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new ElderlyCandidateIndex(null));
+    }
+
+    @Test
+    public void findFirstCompatible_sameRegion_returnsFirstInListOrder() {
+        Volunteer volunteer = new VolunteerBuilder().withRegion("NORTH").build();
+        assertEquals(Optional.of(northElderly), index.findFirstCompatible(volunteer));
+    }
+
+    @Test
+    public void findFirstCompatible_unspecifiedCandidateRegion_matchesAnyRegion() {
+        Volunteer volunteer = new VolunteerBuilder().withRegion("EAST").build();
+        assertEquals(Optional.of(anyRegionElderly), index.findFirstCompatible(volunteer));
+    }
+
+    @Test
+    public void findFirstCompatible_unspecifiedVolunteerRegion_matchesAllCandidates() {
+        Volunteer volunteer = new VolunteerBuilder().withRegion(FIELD_NOT_SPECIFIED)
+                .withAvailableDates("2023-04-01", "2023-04-05").build();
+        assertEquals(Optional.of(anyRegionElderly), index.findFirstCompatible(volunteer));
+    }
+
+    @Test
+    public void findFirstCompatible_incompatibleDates_skipsCandidate() {
+        Volunteer volunteer = new VolunteerBuilder().withRegion("NORTH")
+                .withAvailableDates("2023-04-01", "2023-04-05").build();
+        assertEquals(Optional.of(anyRegionElderly), index.findFirstCompatible(volunteer));
+    }
+
+    @Test
+    public void findFirstCompatible_noCandidates_returnsEmpty() {
+        ElderlyCandidateIndex emptyIndex = new ElderlyCandidateIndex(Collections.singletonList(westElderly));
+        Volunteer volunteer = new VolunteerBuilder().withRegion("NORTH").build();
+        assertEquals(Optional.empty(), emptyIndex.findFirstCompatible(volunteer));
+    }
+
+    @Test
+    public void removeAllCompatible_compatibleCandidates_removedInListOrder() {
+        Volunteer volunteer = new VolunteerBuilder().withRegion("NORTH")
+                .withAvailableDates("2023-03-04", "2023-03-10").build();
+        assertEquals(Arrays.asList(northElderly, anyRegionElderly, secondNorthElderly),
+                index.removeAllCompatible(volunteer));
+        assertEquals(Optional.empty(), index.findFirstCompatible(volunteer));
+        assertFalse(index.isEmpty());
+    }
+
+    @Test
+    public void remove_candidate_noLongerReturned() {
+        Volunteer volunteer = new VolunteerBuilder().withRegion("NORTH").build();
+        index.remove(northElderly);
+        index.remove(anyRegionElderly);
+        assertEquals(Optional.of(secondNorthElderly), index.findFirstCompatible(volunteer));
+
+        index.remove(secondNorthElderly);
+        index.remove(westElderly);
+        assertTrue(index.isEmpty());
+    }
+
+    @Test
+    public void isEmpty_withCandidates_returnsFalse() {
+        assertFalse(index.isEmpty());
+    }
+}
@@ -0,0 +1,61 @@
+package seedu.address.logic.autopair;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.Parser.FIELD_NOT_SPECIFIED;
+
+import java.time.LocalDate;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.FriendlyLink;
+import seedu.address.model.pair.Pair;
+import seedu.address.model.person.Elderly;
+import seedu.address.model.person.Volunteer;
+import seedu.address.testutil.ElderlyBuilder;
+import seedu.address.testutil.VolunteerBuilder;
+
+public class IncrementalPairingTest {
+
+    private static final String[] REGIONS = {"NORTH", "WEST", FIELD_NOT_SPECIFIED};
+    private static final LocalDate FIRST_DAY = LocalDate.parse("2023-03-01");
+
+    @Test
+    public void getPairs_randomChanges_noUnpairedPersonsLeftCompatible() {
+        Random random = new Random(2103);
+        FriendlyLink friendlyLink = new FriendlyLink();
+        IncrementalPairing incrementalPairing = new IncrementalPairing();
+        int id = 0;
+        for (int round = 0; round < 30; round++) {
+            int changeCount = 1 + random.nextInt(6);
+            for (int i = 0; i < changeCount; i++, id++) {
+                String region = REGIONS[random.nextInt(REGIONS.length)];
+                LocalDate start = FIRST_DAY.plusDays(random.nextInt(60));
+                String end = start.plusDays(random.nextInt(5)).toString();
+                if (random.nextBoolean()) {
+                    friendlyLink.addVolunteer(new VolunteerBuilder().withNric(String.format("S%07dA", id))
+                            .withRegion(region).withAvailableDates(start.toString(), end).build());
+                } else {
+                    friendlyLink.addElderly(new ElderlyBuilder().withNric(String.format("T%07dB", id))
+                            .withRegion(region).withAvailableDates(start.toString(), end).build());
+                }
+            }
+            if (!friendlyLink.getPairList().isEmpty() && random.nextInt(3) == 0) {
+                Pair pair = friendlyLink.getPairList().get(random.nextInt(friendlyLink.getPairList().size()));
+                friendlyLink.removePair(pair);
+            }
+
+            for (Pair pair : incrementalPairing.getPairs(friendlyLink)) {
+                assertTrue(pair.getVolunteer().isSuitableRegion(pair.getElderly()));
+                assertTrue(pair.getVolunteer().hasSuitableAvailableDates(pair.getElderly()));
+                friendlyLink.addPair(pair);
+            }
+            for (Volunteer volunteer : friendlyLink.getUnpairedVolunteers()) {
+                for (Elderly elderly : friendlyLink.getUnpairedElderly()) {
+                    assertFalse(volunteer.isSuitableRegion(elderly) && volunteer.hasSuitableAvailableDates(elderly));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package seedu.address.logic.autopair;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.Parser.FIELD_NOT_SPECIFIED;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.pair.Pair;
+import seedu.address.model.person.Elderly;
+import seedu.address.model.person.Volunteer;
+import seedu.address.model.person.information.Nric;
+import seedu.address.testutil.ElderlyBuilder;
+import seedu.address.testutil.VolunteerBuilder;
+
+public class MaximumPairingTest {
+
+    private static final String[] REGIONS = {"NORTH", "WEST", "EAST", FIELD_NOT_SPECIFIED};
+
+    private final MaximumPairing maximumPairing = new MaximumPairing();
+
+    @Test
+    public void getPairs_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> maximumPairing.getPairs(null, Collections.emptyList()));
+        assertThrows(NullPointerException.class, () -> maximumPairing.getPairs(Collections.emptyList(), null));
+    }
+
+    @Test
+    public void getPairs_greedyNotMaximum_pairsEveryone() {
+        Volunteer anyRegionVolunteer = new VolunteerBuilder().withNric("S1111111A")
+                .withRegion(FIELD_NOT_SPECIFIED).build();
+        Volunteer northVolunteer = new VolunteerBuilder().withNric("S2222222B").withRegion("NORTH").build();
+        Elderly northElderly = new ElderlyBuilder().withNric("S3333333C").withRegion("NORTH").build();
+        Elderly westElderly = new ElderlyBuilder().withNric("S4444444D").withRegion("WEST").build();
+        List<Volunteer> volunteers = Arrays.asList(anyRegionVolunteer, northVolunteer);
+        List<Elderly> elderly = Arrays.asList(northElderly, westElderly);
+
+        assertEquals(1, new GreedyPairing().getPairs(volunteers, elderly).size());
+        assertEquals(Arrays.asList(new Pair(westElderly, anyRegionVolunteer), new Pair(northElderly, northVolunteer)),
+                maximumPairing.getPairs(volunteers, elderly));
+    }
+
+    @Test
+    public void getPairs_randomRosters_sameSizeAsAugmentingPathMatching() {
+        Random random = new Random(2103);
+        for (int round = 0; round < 30; round++) {
+            List<Volunteer> volunteers = new ArrayList<>();
+            List<Elderly> elderly = new ArrayList<>();
+            int size = 1 + random.nextInt(25);
+            for (int i = 0; i < size; i++) {
+                int start = 1 + random.nextInt(20);
+                String startDate = String.format("2023-03-%02d", start);
+                String endDate = String.format("2023-03-%02d", start + random.nextInt(3));
+                volunteers.add(new VolunteerBuilder().withNric(String.format("S%07dA", i))
+                        .withRegion(REGIONS[random.nextInt(REGIONS.length)])
+                        .withAvailableDates(startDate, endDate).build());
+                elderly.add(new ElderlyBuilder().withNric(String.format("T%07dB", i))
+                        .withRegion(REGIONS[random.nextInt(REGIONS.length)])
+                        .withAvailableDates(endDate, endDate).build());
+            }
+
+            List<Pair> pairs = maximumPairing.getPairs(volunteers, elderly);
+            assertValidPairs(pairs);
+            assertEquals(getMaximumPairCount(volunteers, elderly), pairs.size());
+        }
+    }
+
+    private static void assertValidPairs(List<Pair> pairs) {
+        Set<Nric> paired = new HashSet<>();
+        for (Pair pair : pairs) {
+            assertTrue(pair.getVolunteer().isSuitableRegion(pair.getElderly()));
+            assertTrue(pair.getVolunteer().hasSuitableAvailableDates(pair.getElderly()));
+            assertTrue(paired.add(pair.getVolunteer().getNric()));
+            assertTrue(paired.add(pair.getElderly().getNric()));
+        }
+    }
+
+    /**
+     * Returns the size of a maximum matching, found with simple augmenting paths.
+     */
+    private static int getMaximumPairCount(List<Volunteer> volunteers, List<Elderly> elderly) {
+        int[] elderlyMatches = new int[elderly.size()];
+        Arrays.fill(elderlyMatches, -1);
+        int count = 0;
+        for (int volunteer = 0; volunteer < volunteers.size(); volunteer++) {
+            if (augment(volunteer, volunteers, elderly, elderlyMatches, new boolean[elderly.size()])) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static boolean augment(int volunteer, List<Volunteer> volunteers, List<Elderly> elderly,
+            int[] elderlyMatches, boolean[] isVisited) {
+        for (int i = 0; i < elderly.size(); i++) {
+            Volunteer v = volunteers.get(volunteer);
+            if (isVisited[i] || !v.isSuitableRegion(elderly.get(i)) || !v.hasSuitableAvailableDates(elderly.get(i))) {
+                continue;
+            }
+            isVisited[i] = true;
+            if (elderlyMatches[i] == -1 || augment(elderlyMatches[i], volunteers, elderly, elderlyMatches, isVisited)) {
+                elderlyMatches[i] = volunteer;
+                return true;
+            }
+        }
+        return false;
+    }
+}
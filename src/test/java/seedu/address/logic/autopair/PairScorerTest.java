@@ -0,0 +1,50 @@
+package seedu.address.logic.autopair;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.parser.Parser.FIELD_NOT_SPECIFIED;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Elderly;
+import seedu.address.model.person.Volunteer;
+import seedu.address.testutil.ElderlyBuilder;
+import seedu.address.testutil.VolunteerBuilder;
+
+public class PairScorerTest {
+
+    @Test
+    public void getScore_null_throwsNullPointerException() {
+        Volunteer volunteer = new VolunteerBuilder().build();
+        Elderly elderly = new ElderlyBuilder().build();
+        assertThrows(NullPointerException.class, () -> PairScorer.getScore(null, elderly));
+        assertThrows(NullPointerException.class, () -> PairScorer.getScore(volunteer, null));
+    }
+
+    @Test
+    public void getScore_bestPossiblePair_returnsMaxScore() {
+        Volunteer volunteer = new VolunteerBuilder().withRegion("NORTH")
+                .withMedicalTags("CPR,BASIC", "FirstAid,ADVANCED").build();
+        Elderly elderly = new ElderlyBuilder().withRegion("NORTH").withRiskLevel("HIGH").build();
+        assertEquals(PairScorer.MAX_SCORE, PairScorer.getScore(volunteer, elderly));
+    }
+
+    @Test
+    public void getScore_partialOverlap_scoresOverlappingDays() {
+        Volunteer volunteer = new VolunteerBuilder().withRegion(FIELD_NOT_SPECIFIED)
+                .withMedicalTags("CPR,INTERMEDIATE")
+                .withAvailableDates("2023-03-01", "2023-03-05").build();
+        Elderly elderly = new ElderlyBuilder().withRegion("NORTH").withRiskLevel("MEDIUM")
+                .withAvailableDates("2023-03-04", "2023-03-10").build();
+        assertEquals(PairScorer.PAIR_SCORE + 4 * PairScorer.QUALIFICATION_SCORE + 2,
+                PairScorer.getScore(volunteer, elderly));
+    }
+
+    @Test
+    public void getScore_noQualificationsLongAvailability_scoresCappedOverlap() {
+        Volunteer volunteer = new VolunteerBuilder().build();
+        Elderly elderly = new ElderlyBuilder().withAvailableDates("2023-03-01", "2023-06-01").build();
+        assertEquals(PairScorer.PAIR_SCORE + PairScorer.SAME_REGION_SCORE + PairScorer.MAX_OVERLAP_SCORE,
+                PairScorer.getScore(volunteer, elderly));
+    }
+}
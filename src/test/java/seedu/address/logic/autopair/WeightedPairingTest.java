@@ -0,0 +1,184 @@
+package seedu.address.logic.autopair;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.parser.Parser.FIELD_NOT_SPECIFIED;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.pair.Pair;
+import seedu.address.model.person.Elderly;
+import seedu.address.model.person.Volunteer;
+import seedu.address.model.person.information.Nric;
+import seedu.address.testutil.ElderlyBuilder;
+import seedu.address.testutil.VolunteerBuilder;
+
+public class WeightedPairingTest {
+
+    private static final String[] REGIONS = {"NORTH", "WEST", FIELD_NOT_SPECIFIED};
+    private static final String[] RISK_LEVELS = {"LOW", "MEDIUM", "HIGH", FIELD_NOT_SPECIFIED};
+    private static final String[] SKILL_LEVELS = {"BASIC", "INTERMEDIATE", "ADVANCED"};
+    // larger than the total score of any set of pairs in the random rosters
+    private static final long PAIR_COUNT_WEIGHT = 1_000_000;
+
+    private final WeightedPairing weightedPairing = new WeightedPairing();
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WeightedPairing(null));
+    }
+
+    @Test
+    public void getPairs_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> weightedPairing.getPairs(null, Collections.emptyList()));
+        assertThrows(NullPointerException.class, () -> weightedPairing.getPairs(Collections.emptyList(), null));
+    }
+
+    @Test
+    public void getPairs_highRiskElderly_pairedWithQualifiedVolunteer() {
+        Volunteer unqualifiedVolunteer = new VolunteerBuilder().withNric("S1111111A").build();
+        Volunteer qualifiedVolunteer = new VolunteerBuilder().withNric("S2222222B")
+                .withMedicalTags("CPR,ADVANCED").build();
+        Elderly lowRiskElderly = new ElderlyBuilder().withNric("S3333333C").withRiskLevel("LOW").build();
+        Elderly highRiskElderly = new ElderlyBuilder().withNric("S4444444D").withRiskLevel("HIGH").build();
+
+        assertEquals(Arrays.asList(new Pair(lowRiskElderly, unqualifiedVolunteer),
+                new Pair(highRiskElderly, qualifiedVolunteer)),
+                weightedPairing.getPairs(Arrays.asList(unqualifiedVolunteer, qualifiedVolunteer),
+                        Arrays.asList(lowRiskElderly, highRiskElderly)));
+    }
+
+    @Test
+    public void getPairs_randomRosters_optimalTotalScore() {
+        Random random = new Random(2103);
+        for (int round = 0; round < 40; round++) {
+            List<Volunteer> volunteers = new ArrayList<>();
+            List<Elderly> elderly = new ArrayList<>();
+            int volunteerCount = 1 + random.nextInt(7);
+            int elderlyCount = 1 + random.nextInt(7);
+            for (int i = 0; i < volunteerCount; i++) {
+                int start = 1 + random.nextInt(14);
+                volunteers.add(new VolunteerBuilder().withNric(String.format("S%07dA", i))
+                        .withRegion(REGIONS[random.nextInt(REGIONS.length)])
+                        .withMedicalTags("CPR," + SKILL_LEVELS[random.nextInt(SKILL_LEVELS.length)])
+                        .withAvailableDates(getMarchDate(start), getMarchDate(start + random.nextInt(5))).build());
+            }
+            for (int i = 0; i < elderlyCount; i++) {
+                int start = 1 + random.nextInt(14);
+                elderly.add(new ElderlyBuilder().withNric(String.format("T%07dB", i))
+                        .withRegion(REGIONS[random.nextInt(REGIONS.length)])
+                        .withRiskLevel(RISK_LEVELS[random.nextInt(RISK_LEVELS.length)])
+                        .withAvailableDates(getMarchDate(start), getMarchDate(start + random.nextInt(5))).build());
+            }
+
+            List<Pair> pairs = weightedPairing.getPairs(volunteers, elderly);
+            assertValidPairs(pairs);
+            assertEquals(new MaximumPairing().getPairs(volunteers, elderly).size(), pairs.size());
+            assertEquals(getMaximumTotalScore(volunteers, elderly), getTotalScore(pairs));
+        }
+    }
+
+    @Test
+    public void getPairs_fewerBetterPairsScoreHigher_pairsAsManyAsMaximumPairing() {
+        // volunteer i overlaps elderly i for a day, and elderly i - 1 for 41 days; only the latter are well matched
+        int chainLength = 20;
+        LocalDate firstDay = LocalDate.parse("2023-01-01");
+        List<Volunteer> volunteers = new ArrayList<>();
+        List<Elderly> elderly = new ArrayList<>();
+        for (int i = 0; i <= chainLength; i++) {
+            LocalDate start = firstDay.plusDays(60L * i);
+            VolunteerBuilder volunteerBuilder = new VolunteerBuilder().withNric(String.format("S%07dA", i))
+                    .withRegion("NORTH").withAvailableDates(start.toString(), start.plusDays(40).toString());
+            if (i > 0) {
+                volunteerBuilder.withMedicalTags("CPR,ADVANCED");
+            }
+            volunteers.add(volunteerBuilder.build());
+            elderly.add(new ElderlyBuilder().withNric(String.format("T%07dB", i)).withRegion("NORTH")
+                    .withRiskLevel(i == chainLength ? "LOW" : "HIGH")
+                    .withAvailableDates(start.plusDays(40).toString(), start.plusDays(100).toString()).build());
+        }
+
+        List<Pair> pairs = weightedPairing.getPairs(volunteers, elderly);
+        assertValidPairs(pairs);
+        assertEquals(new MaximumPairing().getPairs(volunteers, elderly).size(), pairs.size());
+        assertEquals(chainLength + 1, pairs.size());
+    }
+
+    @Test
+    public void getPairs_noTimeBudget_pairsGreedily() {
+        List<Volunteer> volunteers = Arrays.asList(
+                new VolunteerBuilder().withNric("S1111111A").withRegion(FIELD_NOT_SPECIFIED).build(),
+                new VolunteerBuilder().withNric("S2222222B").withRegion("NORTH").build());
+        List<Elderly> elderly = Arrays.asList(
+                new ElderlyBuilder().withNric("S3333333C").withRegion("NORTH").build(),
+                new ElderlyBuilder().withNric("S4444444D").withRegion("WEST").build());
+
+        assertEquals(new GreedyPairing().getPairs(volunteers, elderly),
+                new WeightedPairing(Duration.ZERO).getPairs(volunteers, elderly));
+    }
+
+    @Test
+    public void equals() {
+        assertTrue(weightedPairing.equals(weightedPairing));
+        assertTrue(weightedPairing.equals(new WeightedPairing(WeightedPairing.DEFAULT_TIME_BUDGET)));
+        assertFalse(weightedPairing.equals(new WeightedPairing(Duration.ZERO)));
+        assertFalse(weightedPairing.equals(new MaximumPairing()));
+        assertFalse(weightedPairing.equals(null));
+    }
+
+    private static String getMarchDate(int day) {
+        return String.format("2023-03-%02d", day);
+    }
+
+    private static void assertValidPairs(List<Pair> pairs) {
+        Set<Nric> paired = new HashSet<>();
+        for (Pair pair : pairs) {
+            assertTrue(pair.getVolunteer().isSuitableRegion(pair.getElderly()));
+            assertTrue(pair.getVolunteer().hasSuitableAvailableDates(pair.getElderly()));
+            assertTrue(paired.add(pair.getVolunteer().getNric()));
+            assertTrue(paired.add(pair.getElderly().getNric()));
+        }
+    }
+
+    private static int getTotalScore(List<Pair> pairs) {
+        return pairs.stream().mapToInt(pair -> PairScorer.getScore(pair.getVolunteer(), pair.getElderly())).sum();
+    }
+
+    /**
+     * Returns the highest total score of the largest sets of pairs, found by trying every assignment of elderly to
+     * volunteers.
+     */
+    private static int getMaximumTotalScore(List<Volunteer> volunteers, List<Elderly> elderly) {
+        // bestScores[i][used]: best pair count and total score of pairing volunteers from i onwards, with the elderly
+        // in used taken, as count * PAIR_COUNT_WEIGHT + score
+        long[][] bestScores = new long[volunteers.size() + 1][1 << elderly.size()];
+        for (int i = volunteers.size() - 1; i >= 0; i--) {
+            Volunteer volunteer = volunteers.get(i);
+            for (int used = 0; used < 1 << elderly.size(); used++) {
+                long best = bestScores[i + 1][used];
+                for (int j = 0; j < elderly.size(); j++) {
+                    Elderly candidate = elderly.get(j);
+                    if ((used & 1 << j) == 0 && volunteer.isSuitableRegion(candidate)
+                            && volunteer.hasSuitableAvailableDates(candidate)) {
+                        best = Math.max(best, PAIR_COUNT_WEIGHT + PairScorer.getScore(volunteer, candidate)
+                                + bestScores[i + 1][used | 1 << j]);
+                    }
+                }
+                bestScores[i][used] = best;
+            }
+        }
+        return (int) (bestScores[0][0] % PAIR_COUNT_WEIGHT);
+    }
+}
@@ -1,12 +1,20 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.parser.Parser.FIELD_NOT_SPECIFIED;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.autopair.CapacityPairing;
+import seedu.address.logic.autopair.IncrementalPairing;
+import seedu.address.logic.autopair.MaximumPairing;
+import seedu.address.logic.autopair.WeightedPairing;
 import seedu.address.model.FriendlyLink;
 import seedu.address.model.Model;
 import seedu.address.model.pair.Pair;
@@ -166,10 +174,161 @@ public class AutoPairCommandTest {
         assertCommandSuccess(new AutoPairCommand(), model, AutoPairCommand.MESSAGE_SUCCESS_NO_PAIRS, model);
     }
 
+    @Test
+    public void execute_maximumPairing_successWithMorePairsThanGreedy() {
+        Volunteer volunteer1 = volunteerBuilder1
+                .withRegion(FIELD_NOT_SPECIFIED)
+                .build();
+        Volunteer volunteer2 = volunteerBuilder2
+                .withRegion("NORTH")
+                .build();
+        Elderly elderly1 = elderlyBuilder1
+                .withRegion("NORTH")
+                .build();
+        Elderly elderly2 = elderlyBuilder2
+                .withRegion("WEST")
+                .build();
+        FriendlyLinkBuilder friendlyLinkBuilder = new FriendlyLinkBuilder()
+                .withVolunteers(Arrays.asList(volunteer1, volunteer2))
+                .withElderly(Arrays.asList(elderly1, elderly2));
+        Model model = new ModelManagerBuilder().withFriendlyLink(friendlyLinkBuilder.build()).build();
+
+        List<Pair> expectedPairList = Arrays.asList(new Pair(elderly2, volunteer1), new Pair(elderly1, volunteer2));
+        FriendlyLink expectedFriendlyLink = friendlyLinkBuilder
+                .withPairs(expectedPairList).build();
+        Model expectedModel = new ModelManagerBuilder().withFriendlyLink(expectedFriendlyLink).build();
+        String expectedMessage = AutoPairCommand.getSuccessMessageFromPairList(expectedPairList)
+                + String.format(AutoPairCommand.MESSAGE_COMPARED_TO_GREEDY, 1);
+
+        assertCommandSuccess(new AutoPairCommand(new MaximumPairing()), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_incremental_onlyPairsChangedPersons() {
+        Volunteer volunteer1 = volunteerBuilder1
+                .withRegion("NORTH")
+                .build();
+        Elderly elderly1 = elderlyBuilder1
+                .withRegion("WEST")
+                .build();
+        Model model = new ModelManagerBuilder().withFriendlyLink(new FriendlyLinkBuilder()
+                .withVolunteers(Collections.singletonList(volunteer1))
+                .withElderly(Collections.singletonList(elderly1)).build()).build();
+        getIncrementalCommand().execute(model);
+        assertTrue(model.getFriendlyLink().getChangedUnpairedVolunteers().isEmpty());
+
+        // new volunteer is compatible with the existing elderly
+        Volunteer volunteer2 = volunteerBuilder2
+                .withRegion("WEST")
+                .build();
+        model.addVolunteer(volunteer2);
+        Model expectedModel = new ModelManagerBuilder().withFriendlyLink(new FriendlyLinkBuilder()
+                .withVolunteers(Arrays.asList(volunteer1, volunteer2))
+                .withElderly(Collections.singletonList(elderly1))
+                .withPairs(Collections.singletonList(new Pair(elderly1, volunteer2))).build()).build();
+        String expectedMessage = AutoPairCommand.getSuccessMessageFromPairList(
+                Collections.singletonList(new Pair(elderly1, volunteer2)));
+        assertCommandSuccess(getIncrementalCommand(), model, expectedMessage, expectedModel);
+
+        // new elderly is compatible with the existing volunteer
+        Elderly elderly2 = elderlyBuilder2
+                .withRegion("NORTH")
+                .build();
+        model.addElderly(elderly2);
+        expectedModel.addElderly(elderly2);
+        expectedModel.addPair(new Pair(elderly2, volunteer1));
+        expectedMessage = AutoPairCommand.getSuccessMessageFromPairList(
+                Collections.singletonList(new Pair(elderly2, volunteer1)));
+        assertCommandSuccess(getIncrementalCommand(), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_incrementalNothingChanged_successNoPairs() {
+        Volunteer volunteer1 = volunteerBuilder1
+                .withRegion("NORTH")
+                .build();
+        Elderly elderly1 = elderlyBuilder1
+                .withRegion("WEST")
+                .build();
+        Model model = new ModelManagerBuilder().withFriendlyLink(new FriendlyLinkBuilder()
+                .withVolunteers(Collections.singletonList(volunteer1))
+                .withElderly(Collections.singletonList(elderly1)).build()).build();
+        getIncrementalCommand().execute(model);
+
+        assertCommandSuccess(getIncrementalCommand(), model, AutoPairCommand.MESSAGE_SUCCESS_NO_PAIRS, model);
+    }
+
+    @Test
+    public void execute_capacity_pairsVolunteerWithSeveralElderly() {
+        Volunteer volunteer1 = volunteerBuilder1
+                .withRegion("NORTH")
+                .build();
+        Elderly elderly1 = elderlyBuilder1
+                .withRegion("NORTH")
+                .build();
+        Elderly elderly2 = elderlyBuilder2
+                .withRegion("NORTH")
+                .build();
+        FriendlyLinkBuilder friendlyLinkBuilder = new FriendlyLinkBuilder()
+                .withVolunteers(Collections.singletonList(volunteer1))
+                .withElderly(Arrays.asList(elderly1, elderly2));
+        Model model = new ModelManagerBuilder().withFriendlyLink(friendlyLinkBuilder.build()).build();
+
+        List<Pair> expectedPairList = Arrays.asList(new Pair(elderly1, volunteer1), new Pair(elderly2, volunteer1));
+        Model expectedModel = new ModelManagerBuilder().withFriendlyLink(friendlyLinkBuilder
+                .withPairs(expectedPairList).build()).build();
+        String expectedMessage = AutoPairCommand.getSuccessMessageFromPairList(expectedPairList);
+
+        assertCommandSuccess(new AutoPairCommand(new CapacityPairing(2)), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        AutoPairCommand greedyCommand = new AutoPairCommand();
+        AutoPairCommand maximumCommand = new AutoPairCommand(new MaximumPairing());
+
+        assertTrue(greedyCommand.equals(greedyCommand));
+        assertTrue(greedyCommand.equals(new AutoPairCommand()));
+        assertTrue(maximumCommand.equals(new AutoPairCommand(new MaximumPairing())));
+        assertFalse(greedyCommand.equals(maximumCommand));
+        assertFalse(maximumCommand.equals(new AutoPairCommand(new WeightedPairing())));
+        assertTrue(getIncrementalCommand().equals(getIncrementalCommand()));
+        assertFalse(greedyCommand.equals(getIncrementalCommand()));
+        assertTrue(new AutoPairCommand(new CapacityPairing(2)).equals(new AutoPairCommand(new CapacityPairing(2))));
+        assertFalse(new AutoPairCommand(new CapacityPairing(2)).equals(new AutoPairCommand(new CapacityPairing(3))));
+        assertFalse(greedyCommand.equals(null));
+        assertFalse(greedyCommand.equals(1));
+    }
+
+    @Test
+    public void execute_weightedPairing_successWithoutComparisonToGreedy() {
+        Volunteer volunteer1 = volunteerBuilder1
+                .withRegion("NORTH")
+                .build();
+        Elderly elderly1 = elderlyBuilder1
+                .withRegion("NORTH")
+                .build();
+        FriendlyLinkBuilder friendlyLinkBuilder = new FriendlyLinkBuilder()
+                .withVolunteers(Collections.singletonList(volunteer1))
+                .withElderly(Collections.singletonList(elderly1));
+        Model model = new ModelManagerBuilder().withFriendlyLink(friendlyLinkBuilder.build()).build();
+
+        List<Pair> expectedPairList = Collections.singletonList(new Pair(elderly1, volunteer1));
+        Model expectedModel = new ModelManagerBuilder().withFriendlyLink(friendlyLinkBuilder
+                .withPairs(expectedPairList).build()).build();
+        String expectedMessage = AutoPairCommand.getSuccessMessageFromPairList(expectedPairList);
+
+        assertCommandSuccess(new AutoPairCommand(new WeightedPairing()), model, expectedMessage, expectedModel);
+    }
+
     @Test
     public void execute_emptyFriendlyLink_successNoPairs() {
         Model model = new ModelManagerBuilder().build();
 
         assertCommandSuccess(new AutoPairCommand(), model, AutoPairCommand.MESSAGE_SUCCESS_NO_PAIRS, model);
     }
+
+    private static AutoPairCommand getIncrementalCommand() {
+        return new AutoPairCommand(new IncrementalPairing());
+    }
 }
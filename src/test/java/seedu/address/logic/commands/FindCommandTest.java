@@ -19,6 +19,7 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TestUtil.getTypicalModelManager;
 import static seedu.address.testutil.TypicalElderly.BOB;
 import static seedu.address.testutil.TypicalVolunteers.ALICE;
+import static seedu.address.testutil.TypicalVolunteers.BENSON;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -28,9 +29,13 @@ import java.util.function.Predicate;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.Model;
+import seedu.address.model.pair.Pair;
 import seedu.address.model.person.Elderly;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Volunteer;
+import seedu.address.model.person.predicates.NameContainsKeywordPredicate;
+import seedu.address.testutil.FriendlyLinkBuilder;
+import seedu.address.testutil.ModelManagerBuilder;
 
 public class FindCommandTest {
     private final Model model = getTypicalModelManager();
@@ -198,4 +203,25 @@ public class FindCommandTest {
 
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
     }
+
+    @Test
+    public void execute_volunteerFound_onlyItsPairsListed() {
+        FriendlyLinkBuilder friendlyLinkBuilder = new FriendlyLinkBuilder()
+                .withElderly(Collections.singletonList(BOB))
+                .withVolunteers(Arrays.asList(ALICE, BENSON))
+                .withPairs(Arrays.asList(new Pair(BOB, ALICE), new Pair(BOB, BENSON)));
+        Model model = new ModelManagerBuilder().withFriendlyLink(friendlyLinkBuilder.build()).build();
+        Model expectedModel = new ModelManagerBuilder().withFriendlyLink(friendlyLinkBuilder.build()).build();
+        String expectedMessage = String.format(MESSAGE_LISTED_OVERVIEW, 1, 0, 1);
+
+        @SuppressWarnings("unchecked")
+        FindCommand command = new FindCommand(Collections.singletonList(new NameContainsKeywordPredicate<>("benson")),
+                (List<Predicate<Elderly>>) emptyList, (List<Predicate<Volunteer>>) emptyList);
+
+        expectedModel.updateFilteredElderlyList(unused -> false);
+        expectedModel.updateFilteredVolunteerList(volunteer -> volunteer.equals(BENSON));
+        expectedModel.updateFilteredPairList(pair -> pair.getVolunteer().equals(BENSON));
+
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
 }
@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.FriendlyLink;
@@ -24,6 +25,31 @@ public class StorageStub implements Storage {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void flush() throws IOException {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void saveElderly(ReadOnlyElderly elderly, Runnable onSaved) throws IOException {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void saveVolunteer(ReadOnlyVolunteer volunteer, Runnable onSaved) throws IOException {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void savePair(ReadOnlyPair pair, Runnable onSaved) throws IOException {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void setWriteFailureHandler(Consumer<IOException> handler) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public Path getUserPrefsFilePath() {
         throw new AssertionError("This method should not be called.");
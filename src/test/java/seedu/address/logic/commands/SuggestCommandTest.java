@@ -0,0 +1,121 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_NRIC_NOT_EXIST;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.parser.Parser.FIELD_NOT_SPECIFIED;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.autopair.PairScorer;
+import seedu.address.model.FriendlyLink;
+import seedu.address.model.Model;
+import seedu.address.model.pair.Pair;
+import seedu.address.model.person.Elderly;
+import seedu.address.model.person.Volunteer;
+import seedu.address.model.person.information.Nric;
+import seedu.address.testutil.ElderlyBuilder;
+import seedu.address.testutil.FriendlyLinkBuilder;
+import seedu.address.testutil.ModelManagerBuilder;
+import seedu.address.testutil.VolunteerBuilder;
+
+public class SuggestCommandTest {
+
+    private final Elderly elderly = new ElderlyBuilder().withName("elderly").withNric("S7654321I")
+            .withRegion("NORTH").withRiskLevel("HIGH").withAvailableDates("2023-03-01", "2023-03-10").build();
+    private final Elderly pairedElderly = new ElderlyBuilder().withName("paired").withNric("S7777777I")
+            .withRegion("NORTH").build();
+    private final Volunteer qualifiedVolunteer = new VolunteerBuilder().withName("qualified").withNric("S1234567I")
+            .withRegion("NORTH").withMedicalTags("cpr,advanced").build();
+    private final Volunteer anywhereVolunteer = new VolunteerBuilder().withName("anywhere").withNric("S1111111I")
+            .withRegion(FIELD_NOT_SPECIFIED).build();
+    private final Volunteer westVolunteer = new VolunteerBuilder().withName("west").withNric("S2222222I")
+            .withRegion("WEST").build();
+    private final Volunteer pairedVolunteer = new VolunteerBuilder().withName("paired").withNric("S3333333I")
+            .withRegion("NORTH").build();
+    private final Volunteer busyVolunteer = new VolunteerBuilder().withName("busy").withNric("S4444444I")
+            .withRegion("NORTH").withAvailableDates("2023-04-01", "2023-04-10").build();
+
+    private Model getModel() {
+        FriendlyLink friendlyLink = new FriendlyLinkBuilder()
+                .withElderly(Arrays.asList(elderly, pairedElderly))
+                .withVolunteers(Arrays.asList(anywhereVolunteer, westVolunteer, pairedVolunteer, busyVolunteer,
+                        qualifiedVolunteer))
+                .withPairs(Collections.singletonList(new Pair(pairedElderly, pairedVolunteer))).build();
+        return new ModelManagerBuilder().withFriendlyLink(friendlyLink).build();
+    }
+
+    @Test
+    public void execute_elderly_compatibleUnpairedVolunteersBestFirst() {
+        Model model = getModel();
+        Model expectedModel = getModel();
+        String expectedMessage = String.format(SuggestCommand.MESSAGE_SUCCESS_HEADER, "elderly", "S7654321I")
+                + String.format(SuggestCommand.MESSAGE_SUCCESS_ITEM_FORMAT, 1, "qualified", "S1234567I",
+                        PairScorer.getScore(qualifiedVolunteer, elderly))
+                + String.format(SuggestCommand.MESSAGE_SUCCESS_ITEM_FORMAT, 2, "anywhere", "S1111111I",
+                        PairScorer.getScore(anywhereVolunteer, elderly));
+
+        assertCommandSuccess(new SuggestCommand(elderly.getNric(), 5), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_countSmallerThanCandidates_onlyBestListed() {
+        Model model = getModel();
+        String expectedMessage = String.format(SuggestCommand.MESSAGE_SUCCESS_HEADER, "elderly", "S7654321I")
+                + String.format(SuggestCommand.MESSAGE_SUCCESS_ITEM_FORMAT, 1, "qualified", "S1234567I",
+                        PairScorer.getScore(qualifiedVolunteer, elderly));
+
+        assertCommandSuccess(new SuggestCommand(elderly.getNric(), 1), model, expectedMessage, getModel());
+    }
+
+    @Test
+    public void execute_volunteer_compatibleUnpairedElderlyListed() {
+        Model model = getModel();
+        String expectedMessage = String.format(SuggestCommand.MESSAGE_SUCCESS_HEADER, "anywhere", "S1111111I")
+                + String.format(SuggestCommand.MESSAGE_SUCCESS_ITEM_FORMAT, 1, "elderly", "S7654321I",
+                        PairScorer.getScore(anywhereVolunteer, elderly));
+
+        assertCommandSuccess(new SuggestCommand(anywhereVolunteer.getNric(), 5), model, expectedMessage,
+                getModel());
+    }
+
+    @Test
+    public void execute_noCandidates_noCandidatesMessage() {
+        Model model = getModel();
+        String expectedMessage = String.format(SuggestCommand.MESSAGE_NO_CANDIDATES, "west", "S2222222I");
+
+        assertCommandSuccess(new SuggestCommand(westVolunteer.getNric(), 5), model, expectedMessage, getModel());
+    }
+
+    @Test
+    public void execute_savedModel_remainsUnmodified() throws Exception {
+        Model model = getModel();
+        model.getFriendlyLink().markAllSaved();
+        new SuggestCommand(elderly.getNric(), 5).execute(model);
+        assertFalse(model.getFriendlyLink().isElderlyModified());
+        assertFalse(model.getFriendlyLink().isVolunteerModified());
+        assertFalse(model.getFriendlyLink().isPairModified());
+    }
+
+    @Test
+    public void execute_nricNotInModel_throwsCommandException() {
+        assertCommandFailure(new SuggestCommand(new Nric("S9999999Z"), 5), getModel(), MESSAGE_NRIC_NOT_EXIST);
+    }
+
+    @Test
+    public void equals() {
+        SuggestCommand command = new SuggestCommand(elderly.getNric(), 5);
+
+        assertTrue(command.equals(command));
+        assertTrue(command.equals(new SuggestCommand(elderly.getNric(), 5)));
+        assertFalse(command.equals(new SuggestCommand(elderly.getNric(), 4)));
+        assertFalse(command.equals(new SuggestCommand(qualifiedVolunteer.getNric(), 5)));
+        assertFalse(command.equals(null));
+        assertFalse(command.equals(1));
+    }
+}
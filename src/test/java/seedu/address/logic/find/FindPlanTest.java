@@ -0,0 +1,160 @@
+package seedu.address.logic.find;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.FriendlyLink;
+import seedu.address.model.person.Elderly;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Volunteer;
+import seedu.address.model.person.information.Nric;
+import seedu.address.model.person.information.Region.Place;
+import seedu.address.model.person.information.RiskLevel.Risk;
+import seedu.address.model.person.predicates.AddressContainsKeywordPredicate;
+import seedu.address.model.person.predicates.AvailableDatesWithinRangePredicate;
+import seedu.address.model.person.predicates.BirthDateEqualPredicate;
+import seedu.address.model.person.predicates.NameContainsKeywordPredicate;
+import seedu.address.model.person.predicates.NricContainsKeywordPredicate;
+import seedu.address.model.person.predicates.PhoneContainsDigitsPredicate;
+import seedu.address.model.person.predicates.RegionIsEqualPredicate;
+import seedu.address.model.person.predicates.RiskLevelIsEqualPredicate;
+import seedu.address.model.person.predicates.SkillLevelIsEqualPredicate;
+import seedu.address.testutil.ElderlyBuilder;
+import seedu.address.testutil.VolunteerBuilder;
+
+public class FindPlanTest {
+
+    private static final String[] NAMES = {"Alice Tan", "Bob Lim", "Carl Tan", "Daniel Ong", "Elle Lim"};
+    private static final String[] REGIONS = {"NORTH", "WEST", "CENTRAL"};
+    private static final String[] RISK_LEVELS = {"LOW", "MEDIUM", "HIGH"};
+    private static final String[] BIRTH_DATES = {"1940-01-01", "1940-06-30", "1945-01-01"};
+
+    @Test
+    public void ofElderly_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> FindPlan.ofElderly(null, Collections.emptyList()));
+        assertThrows(NullPointerException.class, () -> FindPlan.ofElderly(new FriendlyLink(), null));
+    }
+
+    @Test
+    public void ofVolunteers_mostSelectiveIndexFirst() {
+        FriendlyLink friendlyLink = new FriendlyLink();
+        for (int i = 0; i < 10; i++) {
+            friendlyLink.addVolunteer(new VolunteerBuilder().withNric(String.format("S%07dA", i))
+                    .withName(i == 0 ? "Zachary" : "Alice " + i).withRegion("NORTH").build());
+        }
+        Predicate<Person> regionPredicate = new RegionIsEqualPredicate<>(Place.NORTH);
+        Predicate<Person> namePredicate = new NameContainsKeywordPredicate<>("zach");
+        FindPlan<Volunteer> plan = FindPlan.ofVolunteers(friendlyLink, Arrays.asList(regionPredicate, namePredicate));
+        assertEquals(Arrays.asList(namePredicate, regionPredicate), plan.getIndexedPredicates());
+        assertEquals(Collections.singleton(friendlyLink.getVolunteerList().get(0).getNric()), plan.execute());
+    }
+
+    @Test
+    public void execute_residualPredicate_onlyTestedOnCandidates() {
+        FriendlyLink friendlyLink = new FriendlyLink();
+        for (int i = 0; i < 10; i++) {
+            friendlyLink.addElderly(new ElderlyBuilder().withNric(String.format("S%07dA", i))
+                    .withRegion(i < 3 ? "WEST" : "NORTH").build());
+        }
+        AtomicInteger testCount = new AtomicInteger();
+        Predicate<Person> countingPredicate = person -> testCount.incrementAndGet() > 0;
+        FindPlan.ofElderly(friendlyLink, Arrays.asList(countingPredicate, new RegionIsEqualPredicate<>(Place.WEST)))
+                .execute();
+        assertEquals(3, testCount.get());
+    }
+
+    @Test
+    public void ofVolunteers_attributePredicates_answeredTogether() {
+        FriendlyLink friendlyLink = new FriendlyLink();
+        for (int i = 0; i < 10; i++) {
+            friendlyLink.addVolunteer(new VolunteerBuilder().withNric(String.format("S%07dA", i))
+                    .withRegion(i < 5 ? "NORTH" : "WEST").withMedicalTags(i % 2 == 0 ? "cpr,basic" : "cpr,advanced")
+                    .build());
+        }
+        Predicate<Person> regionPredicate = new RegionIsEqualPredicate<>(Place.NORTH);
+        Predicate<Volunteer> skillPredicate = new SkillLevelIsEqualPredicate<>("ADVANCED");
+        FindPlan<Volunteer> plan = FindPlan.ofVolunteers(friendlyLink, Arrays.asList(regionPredicate, skillPredicate));
+        assertEquals(Arrays.asList(regionPredicate, skillPredicate), plan.getIndexedPredicates());
+        assertEquals(Set.of(friendlyLink.getVolunteerList().get(1).getNric(),
+                friendlyLink.getVolunteerList().get(3).getNric()), plan.execute());
+    }
+
+    @Test
+    public void execute_noPredicates_findsEveryone() {
+        FriendlyLink friendlyLink = new FriendlyLink();
+        Elderly elderly = new ElderlyBuilder().build();
+        friendlyLink.addElderly(elderly);
+        assertEquals(Collections.singleton(elderly.getNric()),
+                FindPlan.ofElderly(friendlyLink, Collections.emptyList()).execute());
+    }
+
+    @Test
+    public void execute_randomPredicates_sameAsTestingEveryElderly() {
+        Random random = new Random(2103);
+        FriendlyLink friendlyLink = new FriendlyLink();
+        for (int i = 0; i < 200; i++) {
+            int day = 1 + random.nextInt(20);
+            friendlyLink.addElderly(new ElderlyBuilder().withNric(String.format("S%07dA", i))
+                    .withName(NAMES[random.nextInt(NAMES.length)])
+                    .withAddress("Blk " + random.nextInt(50) + " Street")
+                    .withPhone(String.valueOf(80000000 + random.nextInt(10000)))
+                    .withRegion(REGIONS[random.nextInt(REGIONS.length)])
+                    .withRiskLevel(RISK_LEVELS[random.nextInt(RISK_LEVELS.length)])
+                    .withBirthDate(BIRTH_DATES[random.nextInt(BIRTH_DATES.length)])
+                    .withAvailableDates(getMarchDate(day), getMarchDate(day + random.nextInt(8))).build());
+        }
+        for (int round = 0; round < 200; round++) {
+            List<Predicate<? super Elderly>> predicates = new ArrayList<>();
+            if (random.nextBoolean()) {
+                predicates.add(new NameContainsKeywordPredicate<>(random.nextBoolean() ? "tan" : "l"));
+            }
+            if (random.nextBoolean()) {
+                predicates.add(new AddressContainsKeywordPredicate<>("blk " + random.nextInt(50)));
+            }
+            if (random.nextBoolean()) {
+                predicates.add(new PhoneContainsDigitsPredicate<>(String.valueOf(random.nextInt(10))));
+            }
+            if (random.nextBoolean()) {
+                predicates.add(new NricContainsKeywordPredicate<>("S00" + random.nextInt(10)));
+            }
+            if (random.nextBoolean()) {
+                predicates.add(new RegionIsEqualPredicate<>(Place.values()[random.nextInt(3)]));
+            }
+            if (random.nextBoolean()) {
+                predicates.add(new RiskLevelIsEqualPredicate<>(Risk.values()[random.nextInt(3)]));
+            }
+            if (random.nextBoolean()) {
+                predicates.add(new BirthDateEqualPredicate<>(BIRTH_DATES[random.nextInt(BIRTH_DATES.length)]));
+            }
+            if (random.nextBoolean()) {
+                int day = 1 + random.nextInt(20);
+                predicates.add(new AvailableDatesWithinRangePredicate<>(LocalDate.parse(getMarchDate(day)),
+                        LocalDate.parse(getMarchDate(day + random.nextInt(3)))));
+            }
+            Collections.shuffle(predicates, random);
+
+            Set<Nric> expected = friendlyLink.getElderlyList().stream()
+                    .filter(elderly -> predicates.stream().allMatch(predicate -> predicate.test(elderly)))
+                    .map(Person::getNric)
+                    .collect(Collectors.toSet());
+            assertEquals(expected, FindPlan.ofElderly(friendlyLink, predicates).execute());
+        }
+    }
+
+    private static String getMarchDate(int day) {
+        return String.format("2023-03-%02d", day);
+    }
+}
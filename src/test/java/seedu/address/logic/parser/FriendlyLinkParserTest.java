@@ -9,6 +9,10 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.autopair.CapacityPairing;
+import seedu.address.logic.autopair.IncrementalPairing;
+import seedu.address.logic.autopair.MaximumPairing;
+import seedu.address.logic.autopair.WeightedPairing;
 import seedu.address.logic.commands.AddElderlyCommand;
 import seedu.address.logic.commands.AddPairCommand;
 import seedu.address.logic.commands.AddVolunteerCommand;
@@ -22,6 +26,7 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.commands.SuggestCommand;
 import seedu.address.logic.commands.util.EditDescriptor;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.pair.Pair;
@@ -99,10 +104,29 @@ public class FriendlyLinkParserTest {
                 DeleteVolunteerCommand.COMMAND_WORD + " " + nricStr);
         assertEquals(new DeleteVolunteerCommand(new Nric(nricStr)), command);
     }
+    @Test
+    public void parseCommand_suggest() throws Exception {
+        assertEquals(new SuggestCommand(new Nric("S1234567I"), 2),
+                parser.parseCommand(SuggestCommand.COMMAND_WORD + " S1234567I 2"));
+    }
+
     @Test
     public void parseCommand_autoPair() throws Exception {
         assertTrue(parser.parseCommand(AutoPairCommand.COMMAND_WORD) instanceof AutoPairCommand);
-        assertTrue(parser.parseCommand(AutoPairCommand.COMMAND_WORD + " 3") instanceof AutoPairCommand);
+        assertEquals(new AutoPairCommand(new MaximumPairing()),
+                parser.parseCommand(AutoPairCommand.COMMAND_WORD + " MAX"));
+        assertEquals(new AutoPairCommand(new WeightedPairing()),
+                parser.parseCommand(AutoPairCommand.COMMAND_WORD + " weighted"));
+        assertEquals(new AutoPairCommand(new IncrementalPairing()),
+                parser.parseCommand(AutoPairCommand.COMMAND_WORD + " new"));
+        assertEquals(new AutoPairCommand(new CapacityPairing(CapacityPairing.DEFAULT_MAX_LOAD)),
+                parser.parseCommand(AutoPairCommand.COMMAND_WORD + " capacity"));
+        assertEquals(new AutoPairCommand(new CapacityPairing(3)),
+                parser.parseCommand(AutoPairCommand.COMMAND_WORD + " capacity 3"));
+        assertThrows(ParseException.class, AutoPairCommandParser.MESSAGE_INVALID_MAX_LOAD, () ->
+                parser.parseCommand(AutoPairCommand.COMMAND_WORD + " capacity 0"));
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
+                AutoPairCommand.MESSAGE_USAGE), () -> parser.parseCommand(AutoPairCommand.COMMAND_WORD + " 3"));
     }
 
     @Test
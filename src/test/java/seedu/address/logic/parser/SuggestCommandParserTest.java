@@ -0,0 +1,39 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_NRIC;
+import static seedu.address.logic.commands.CommandTestUtil.PREAMBLE_WHITESPACE;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NRIC_BOB;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.model.person.information.Nric.MESSAGE_CONSTRAINTS;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.SuggestCommand;
+import seedu.address.model.person.information.Nric;
+
+class SuggestCommandParserTest {
+    private SuggestCommandParser parser = new SuggestCommandParser();
+
+    @Test
+    public void parse_nricOnly_returnsSuggestCommandWithDefaultCount() {
+        assertParseSuccess(parser, PREAMBLE_WHITESPACE + VALID_NRIC_BOB,
+                new SuggestCommand(new Nric(VALID_NRIC_BOB), SuggestCommand.DEFAULT_COUNT));
+    }
+
+    @Test
+    public void parse_nricAndCount_returnsSuggestCommand() {
+        assertParseSuccess(parser, VALID_NRIC_BOB + "  3", new SuggestCommand(new Nric(VALID_NRIC_BOB), 3));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        String invalidFormat = String.format(MESSAGE_INVALID_COMMAND_FORMAT, SuggestCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, PREAMBLE_WHITESPACE, invalidFormat);
+        assertParseFailure(parser, VALID_NRIC_BOB + " 3 4", invalidFormat);
+        assertParseFailure(parser, "a", String.format(MESSAGE_INVALID_PERSON_NRIC, "person", MESSAGE_CONSTRAINTS));
+        assertParseFailure(parser, VALID_NRIC_BOB + " 0", SuggestCommandParser.MESSAGE_INVALID_COUNT);
+        assertParseFailure(parser, VALID_NRIC_BOB + " -1", SuggestCommandParser.MESSAGE_INVALID_COUNT);
+    }
+}
@@ -14,10 +14,12 @@ import static seedu.address.testutil.TypicalPairs.PAIR1;
 import static seedu.address.testutil.TypicalVolunteers.BOB;
 import static seedu.address.testutil.TypicalVolunteers.ELLE;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -26,6 +28,7 @@ import javafx.collections.ObservableList;
 import seedu.address.model.pair.Pair;
 import seedu.address.model.pair.exceptions.DuplicatePairException;
 import seedu.address.model.person.Elderly;
+import seedu.address.model.person.TextIndex;
 import seedu.address.model.person.Volunteer;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.information.Nric;
@@ -215,6 +218,159 @@ public class FriendlyLinkTest {
         assertThrows(NullPointerException.class, () -> friendlyLink.setPair(null, PAIR1));
     }
 
+    @Test
+    public void setElderly_pairedElderly_updatesPairs() {
+        friendlyLink.addElderly(ALICE);
+        friendlyLink.addVolunteer(ELLE);
+        friendlyLink.addPair(PAIR1);
+        Elderly editedAlice = new ElderlyBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        friendlyLink.setElderly(ALICE, editedAlice);
+        assertEquals(Collections.singletonList(new Pair(editedAlice, ELLE)), friendlyLink.getPairList());
+    }
+
+    @Test
+    public void setVolunteer_pairedVolunteer_updatesPairs() {
+        friendlyLink.addElderly(ALICE);
+        friendlyLink.addVolunteer(ELLE);
+        friendlyLink.addPair(PAIR1);
+        Volunteer editedElle = new VolunteerBuilder(ELLE).withAddress(VALID_ADDRESS_BOB).build();
+        friendlyLink.setVolunteer(ELLE, editedElle);
+        assertEquals(Collections.singletonList(new Pair(ALICE, editedElle)), friendlyLink.getPairList());
+    }
+
+    @Test
+    public void setElderly_duplicatePairAfterEdit_leavesDataUnchanged() {
+        // The stored pairs may refer to elderly missing from the elderly list, so the edit can clash with them.
+        Elderly otherElderly = new ElderlyBuilder().withNric("S7654321B").withName("Other").build();
+        friendlyLink.addElderly(ALICE);
+        friendlyLink.addVolunteer(ELLE);
+        friendlyLink.setPairs(Arrays.asList(PAIR1, new Pair(otherElderly, ELLE)));
+        Elderly editedAlice = new ElderlyBuilder(ALICE).withNric(otherElderly.getNric().toString()).build();
+        assertThrows(DuplicatePairException.class, () -> friendlyLink.setElderly(ALICE, editedAlice));
+        assertEquals(Collections.singletonList(ALICE), friendlyLink.getElderlyList());
+        assertEquals(Collections.singleton(ALICE.getNric()),
+                friendlyLink.getElderlyContaining(TextIndex.Field.NAME, ALICE.getName().fullName));
+    }
+
+    @Test
+    public void getVolunteersAvailableThroughout_afterEditAndDelete_reflectsChanges() {
+        LocalDate day = LocalDate.parse("2023-03-02");
+        Volunteer volunteer = new VolunteerBuilder(BOB).withAvailableDates("2023-03-01", "2023-03-03").build();
+        friendlyLink.addVolunteer(volunteer);
+        assertEquals(Collections.singleton(BOB.getNric()), friendlyLink.getVolunteersAvailableThroughout(day, day));
+
+        Volunteer editedVolunteer = new VolunteerBuilder().withNric(BOB.getNric().toString())
+                .withAvailableDates("2023-04-01", "2023-04-03").build();
+        friendlyLink.setVolunteer(volunteer, editedVolunteer);
+        assertEquals(Collections.emptySet(), friendlyLink.getVolunteersAvailableThroughout(day, day));
+
+        friendlyLink.removeVolunteer(editedVolunteer);
+        assertEquals(Collections.emptySet(), friendlyLink.getVolunteersAvailableThroughout(
+                LocalDate.parse("2023-04-01"), LocalDate.parse("2023-04-01")));
+    }
+
+    @Test
+    public void getElderlyAvailableThroughout_afterReset_reflectsNewData() {
+        LocalDate day = LocalDate.parse("2023-03-02");
+        friendlyLink.addElderly(new ElderlyBuilder(ALICE).withAvailableDates("2023-03-01", "2023-03-03").build());
+        friendlyLink.resetFriendlyLinkData(new FriendlyLink());
+        assertEquals(Collections.emptySet(), friendlyLink.getElderlyAvailableThroughout(day, day));
+    }
+
+    @Test
+    public void getVolunteersContaining_afterEditAndDelete_reflectsChanges() {
+        friendlyLink.addVolunteer(BOB);
+        assertEquals(Collections.singleton(BOB.getNric()),
+                friendlyLink.getVolunteersContaining(TextIndex.Field.NAME, BOB.getName().fullName.toUpperCase()));
+
+        Volunteer editedBob = new VolunteerBuilder(BOB).withName("Robert").build();
+        friendlyLink.setVolunteer(BOB, editedBob);
+        assertEquals(Collections.emptySet(),
+                friendlyLink.getVolunteersContaining(TextIndex.Field.NAME, BOB.getName().fullName));
+        assertEquals(Collections.singleton(BOB.getNric()),
+                friendlyLink.getVolunteersContaining(TextIndex.Field.NAME, "rob"));
+
+        friendlyLink.removeVolunteer(editedBob);
+        assertEquals(Collections.emptySet(), friendlyLink.getVolunteersContaining(TextIndex.Field.NAME, "rob"));
+    }
+
+    @Test
+    public void getUnpaired_afterPairingAndUnpairing_onlyUnpairedPersons() {
+        friendlyLink.addElderly(ALICE);
+        friendlyLink.addVolunteer(BOB);
+        friendlyLink.addVolunteer(ELLE);
+        friendlyLink.addPair(ALICE.getNric(), BOB.getNric());
+        assertEquals(Collections.emptyList(), friendlyLink.getUnpairedElderly());
+        assertEquals(Collections.singletonList(ELLE), friendlyLink.getUnpairedVolunteers());
+
+        friendlyLink.markUnpairedMatched();
+        friendlyLink.removePair(ALICE.getNric(), BOB.getNric());
+        assertEquals(Collections.singletonList(ALICE), friendlyLink.getChangedUnpairedElderly());
+        assertEquals(Collections.singletonList(BOB), friendlyLink.getChangedUnpairedVolunteers());
+        assertEquals(Optional.of(ELLE), friendlyLink.findUnchangedUnpairedVolunteer(ALICE, Collections.emptySet()));
+
+        friendlyLink.addPair(ALICE.getNric(), ELLE.getNric());
+        friendlyLink.removeElderly(ALICE);
+        assertEquals(Collections.emptyList(), friendlyLink.getUnpairedElderly());
+        assertEquals(Arrays.asList(BOB, ELLE), friendlyLink.getUnpairedVolunteers());
+        assertEquals(Arrays.asList(BOB, ELLE), friendlyLink.getChangedUnpairedVolunteers());
+    }
+
+    @Test
+    public void getUnpaired_afterReset_excludesPairedPersons() {
+        friendlyLink.resetFriendlyLinkData(getTypicalFriendlyLink());
+        for (Pair pair : friendlyLink.getPairList()) {
+            assertFalse(friendlyLink.getUnpairedElderly().contains(pair.getElderly()));
+            assertFalse(friendlyLink.getUnpairedVolunteers().contains(pair.getVolunteer()));
+        }
+        assertEquals(friendlyLink.getUnpairedElderly(), friendlyLink.getChangedUnpairedElderly());
+    }
+
+    @Test
+    public void isModified_newFriendlyLink_returnsTrue() {
+        assertTrue(friendlyLink.isElderlyModified());
+        assertTrue(friendlyLink.isVolunteerModified());
+        assertTrue(friendlyLink.isPairModified());
+    }
+
+    @Test
+    public void isModified_afterMarkAllSaved_returnsFalse() {
+        friendlyLink.markAllSaved();
+        assertFalse(friendlyLink.isElderlyModified());
+        assertFalse(friendlyLink.isVolunteerModified());
+        assertFalse(friendlyLink.isPairModified());
+    }
+
+    @Test
+    public void isModified_changedStore_onlyChangedStoreModified() {
+        friendlyLink.addElderly(ALICE);
+        friendlyLink.addVolunteer(ELLE);
+        friendlyLink.markAllSaved();
+
+        friendlyLink.addPair(PAIR1);
+        assertTrue(friendlyLink.isPairModified());
+        assertFalse(friendlyLink.isElderlyModified());
+        assertFalse(friendlyLink.isVolunteerModified());
+
+        friendlyLink.markPairSaved();
+        friendlyLink.removeElderly(ALICE);
+        assertTrue(friendlyLink.isElderlyModified());
+        assertTrue(friendlyLink.isPairModified());
+        assertFalse(friendlyLink.isVolunteerModified());
+    }
+
+    @Test
+    public void isModified_olderVersionSaved_remainsModified() {
+        long version = friendlyLink.getElderlyVersion();
+        friendlyLink.addElderly(ALICE);
+        friendlyLink.markElderlySaved(version);
+        assertTrue(friendlyLink.isElderlyModified());
+
+        friendlyLink.markElderlySaved(friendlyLink.getElderlyVersion());
+        friendlyLink.markElderlySaved(version);
+        assertFalse(friendlyLink.isElderlyModified());
+    }
+
     @Test
     public void getPairList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> friendlyLink.getPairList().remove(0));
@@ -3,9 +3,17 @@ package seedu.address.model.pair;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NRIC_AMY;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalElderly.ALICE;
+import static seedu.address.testutil.TypicalElderly.BENSON;
+import static seedu.address.testutil.TypicalElderly.CARL;
 import static seedu.address.testutil.TypicalPairs.PAIR1;
 import static seedu.address.testutil.TypicalPairs.PAIR2;
+import static seedu.address.testutil.TypicalPairs.PAIR3;
+import static seedu.address.testutil.TypicalVolunteers.DANIEL;
+import static seedu.address.testutil.TypicalVolunteers.ELLE;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -15,7 +23,11 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.model.pair.exceptions.DuplicatePairException;
 import seedu.address.model.pair.exceptions.PairNotFoundException;
+import seedu.address.model.person.Elderly;
+import seedu.address.model.person.Volunteer;
+import seedu.address.testutil.ElderlyBuilder;
 import seedu.address.testutil.PairBuilder;
+import seedu.address.testutil.VolunteerBuilder;
 
 public class UniquePairListTest {
 
@@ -160,6 +172,132 @@ public class UniquePairListTest {
         assertThrows(DuplicatePairException.class, () -> uniquePairList.setPairs(listWithDuplicatePairs));
     }
 
+    @Test
+    public void setPairs_listWithSameIdentityPairs_throwsDuplicatePairException() {
+        Pair editedPair1 = new PairBuilder(PAIR1).build();
+        List<Pair> listWithDuplicatePairs = Arrays.asList(PAIR1, PAIR2, editedPair1);
+        assertThrows(DuplicatePairException.class, () -> uniquePairList.setPairs(listWithDuplicatePairs));
+    }
+
+    @Test
+    public void addAll_nullList_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePairList.addAll(null));
+    }
+
+    @Test
+    public void addAll_uniquePairs_addsAllPairs() {
+        uniquePairList.add(PAIR1);
+        uniquePairList.addAll(Arrays.asList(PAIR2, PAIR3));
+        UniquePairList expectedUniquePairList = new UniquePairList();
+        expectedUniquePairList.setPairs(Arrays.asList(PAIR1, PAIR2, PAIR3));
+        assertEquals(expectedUniquePairList, uniquePairList);
+        assertTrue(uniquePairList.contains(PAIR3));
+    }
+
+    @Test
+    public void addAll_pairAlreadyInList_throwsDuplicatePairException() {
+        uniquePairList.add(PAIR1);
+        assertThrows(DuplicatePairException.class, () -> uniquePairList.addAll(Arrays.asList(PAIR2, PAIR1)));
+        assertFalse(uniquePairList.contains(PAIR2));
+    }
+
+    @Test
+    public void addAll_listWithDuplicatePairs_throwsDuplicatePairException() {
+        assertThrows(DuplicatePairException.class, () -> uniquePairList.addAll(Arrays.asList(PAIR2, PAIR2)));
+        assertFalse(uniquePairList.contains(PAIR2));
+    }
+
+    @Test
+    public void getPairedVolunteers_pairsInList_returnsVolunteersOfElderly() {
+        uniquePairList.add(PAIR1);
+        uniquePairList.add(PAIR2);
+        assertEquals(Collections.singletonList(ELLE), uniquePairList.getPairedVolunteers(ALICE.getNric()));
+        assertEquals(Collections.singletonList(DANIEL), uniquePairList.getPairedVolunteers(CARL.getNric()));
+    }
+
+    @Test
+    public void getPairedElderly_pairsInList_returnsElderlyOfVolunteer() {
+        uniquePairList.add(PAIR1);
+        uniquePairList.add(PAIR3);
+        assertEquals(Arrays.asList(ALICE, BENSON), uniquePairList.getPairedElderly(ELLE.getNric()));
+    }
+
+    @Test
+    public void getPairedElderly_pairRemoved_excludesRemovedPair() {
+        uniquePairList.add(PAIR1);
+        uniquePairList.add(PAIR3);
+        uniquePairList.remove(PAIR1);
+        assertEquals(Collections.singletonList(BENSON), uniquePairList.getPairedElderly(ELLE.getNric()));
+        assertTrue(uniquePairList.getPairedVolunteers(ALICE.getNric()).isEmpty());
+        assertFalse(uniquePairList.contains(PAIR1));
+    }
+
+    @Test
+    public void getPairedVolunteers_pairReplaced_returnsEditedPair() {
+        uniquePairList.add(PAIR1);
+        uniquePairList.setPair(PAIR1, PAIR2);
+        assertTrue(uniquePairList.getPairedVolunteers(ALICE.getNric()).isEmpty());
+        assertEquals(Collections.singletonList(DANIEL), uniquePairList.getPairedVolunteers(CARL.getNric()));
+        assertTrue(uniquePairList.contains(PAIR2));
+    }
+
+    @Test
+    public void setElderly_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePairList.setElderly(null, ALICE));
+        assertThrows(NullPointerException.class, () -> uniquePairList.setElderly(ALICE.getNric(), null));
+    }
+
+    @Test
+    public void setElderly_elderlyWithPairs_replacesOnlyAffectedPairs() {
+        uniquePairList.setPairs(Arrays.asList(PAIR1, PAIR2, PAIR3));
+        Elderly editedAlice = new ElderlyBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePairList.setElderly(ALICE.getNric(), editedAlice);
+        UniquePairList expectedUniquePairList = new UniquePairList();
+        expectedUniquePairList.setPairs(Arrays.asList(new Pair(editedAlice, ELLE), PAIR2, PAIR3));
+        assertEquals(expectedUniquePairList, uniquePairList);
+    }
+
+    @Test
+    public void setElderly_editedElderlyHasDifferentIdentity_reindexesPairs() {
+        uniquePairList.setPairs(Arrays.asList(PAIR1, PAIR2));
+        Elderly editedAlice = new ElderlyBuilder(ALICE).withNric(VALID_NRIC_AMY).build();
+        uniquePairList.setElderly(ALICE.getNric(), editedAlice);
+        assertTrue(uniquePairList.getPairedVolunteers(ALICE.getNric()).isEmpty());
+        assertEquals(Collections.singletonList(ELLE), uniquePairList.getPairedVolunteers(editedAlice.getNric()));
+        assertEquals(Collections.singletonList(editedAlice), uniquePairList.getPairedElderly(ELLE.getNric()));
+    }
+
+    @Test
+    public void setElderly_elderlyWithoutPairs_listUnchanged() {
+        uniquePairList.add(PAIR2);
+        uniquePairList.setElderly(ALICE.getNric(), ALICE);
+        UniquePairList expectedUniquePairList = new UniquePairList();
+        expectedUniquePairList.add(PAIR2);
+        assertEquals(expectedUniquePairList, uniquePairList);
+    }
+
+    @Test
+    public void setVolunteer_volunteerWithPairs_replacesOnlyAffectedPairs() {
+        uniquePairList.setPairs(Arrays.asList(PAIR1, PAIR2, PAIR3));
+        Volunteer editedElle = new VolunteerBuilder(ELLE).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePairList.setVolunteer(ELLE.getNric(), editedElle);
+        UniquePairList expectedUniquePairList = new UniquePairList();
+        expectedUniquePairList.setPairs(Arrays.asList(
+                new Pair(ALICE, editedElle), PAIR2, new Pair(BENSON, editedElle)));
+        assertEquals(expectedUniquePairList, uniquePairList);
+        assertEquals(Arrays.asList(ALICE, BENSON), uniquePairList.getPairedElderly(ELLE.getNric()));
+    }
+
+    @Test
+    public void setVolunteer_afterEarlierPairRemoved_replacesPairAtShiftedPosition() {
+        uniquePairList.setPairs(Arrays.asList(PAIR1, PAIR2, PAIR3));
+        uniquePairList.remove(PAIR1);
+        Volunteer editedElle = new VolunteerBuilder(ELLE).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePairList.setVolunteer(ELLE.getNric(), editedElle);
+        assertEquals(Arrays.asList(PAIR2, new Pair(BENSON, editedElle)),
+                uniquePairList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -0,0 +1,108 @@
+package seedu.address.model.pair;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static seedu.address.logic.parser.Parser.FIELD_NOT_SPECIFIED;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalVolunteers.BOB;
+import static seedu.address.testutil.TypicalVolunteers.ELLE;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Elderly;
+import seedu.address.model.person.Volunteer;
+import seedu.address.testutil.ElderlyBuilder;
+import seedu.address.testutil.VolunteerBuilder;
+
+public class UnpairedPoolTest {
+
+    private final UnpairedPool<Volunteer> unpairedPool = new UnpairedPool<>();
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> unpairedPool.add(null));
+    }
+
+    @Test
+    public void add_newPerson_changed() {
+        unpairedPool.add(BOB);
+        assertTrue(unpairedPool.contains(BOB.getNric()));
+        assertTrue(unpairedPool.isChanged(BOB.getNric()));
+        assertEquals(Collections.singletonList(BOB), unpairedPool.getChanged());
+        assertEquals(Optional.empty(), unpairedPool.findUnchangedCompatible(BOB, nric -> false));
+    }
+
+    @Test
+    public void markMatched_thenAdd_onlyNewPersonChanged() {
+        unpairedPool.add(BOB);
+        unpairedPool.markMatched();
+        unpairedPool.add(ELLE);
+        assertEquals(Collections.singletonList(ELLE), unpairedPool.getChanged());
+        Volunteer likeBob = new VolunteerBuilder(BOB).withNric("S1111111A").build();
+        assertEquals(Optional.of(BOB), unpairedPool.findUnchangedCompatible(likeBob, nric -> false));
+        assertEquals(Arrays.asList(BOB, ELLE), unpairedPool.getAll());
+    }
+
+    @Test
+    public void findUnchangedCompatible_regionsAndDates_onlyCompatibleFound() {
+        Volunteer north = new VolunteerBuilder().withNric("S1111111A").withRegion("NORTH")
+                .withAvailableDates("2023-03-01", "2023-03-05").build();
+        Volunteer west = new VolunteerBuilder().withNric("S2222222B").withRegion("WEST").build();
+        unpairedPool.add(north);
+        unpairedPool.add(west);
+        unpairedPool.markMatched();
+
+        Elderly northLater = new ElderlyBuilder().withRegion("NORTH")
+                .withAvailableDates("2023-03-06", "2023-03-09").build();
+        Elderly northOverlapping = new ElderlyBuilder().withRegion("NORTH")
+                .withAvailableDates("2023-03-05", "2023-03-09").build();
+        Elderly anywhere = new ElderlyBuilder().withRegion(FIELD_NOT_SPECIFIED)
+                .withAvailableDates("2023-03-06", "2023-03-09").build();
+        assertEquals(Optional.empty(), unpairedPool.findUnchangedCompatible(northLater, nric -> false));
+        assertEquals(Optional.of(north), unpairedPool.findUnchangedCompatible(northOverlapping, nric -> false));
+        assertEquals(Optional.empty(), unpairedPool.findUnchangedCompatible(northOverlapping,
+                nric -> nric.equals(north.getNric())));
+        assertEquals(Optional.of(west), unpairedPool.findUnchangedCompatible(anywhere, nric -> false));
+
+        unpairedPool.remove(west.getNric());
+        assertEquals(Optional.empty(), unpairedPool.findUnchangedCompatible(anywhere, nric -> false));
+    }
+
+    @Test
+    public void set_personInPool_editedPersonChanged() {
+        unpairedPool.add(BOB);
+        unpairedPool.markMatched();
+        Volunteer editedBob = new VolunteerBuilder(BOB).withAddress(VALID_ADDRESS_BOB).build();
+        unpairedPool.set(BOB, editedBob);
+        assertEquals(Collections.singletonList(editedBob), unpairedPool.getChanged());
+    }
+
+    @Test
+    public void set_personNotInPool_notAdded() {
+        unpairedPool.set(BOB, ELLE);
+        assertFalse(unpairedPool.contains(ELLE.getNric()));
+    }
+
+    @Test
+    public void remove_changedPerson_removed() {
+        unpairedPool.add(BOB);
+        unpairedPool.remove(BOB.getNric());
+        assertFalse(unpairedPool.contains(BOB.getNric()));
+        assertFalse(unpairedPool.isChanged(BOB.getNric()));
+        assertEquals(Collections.emptyList(), unpairedPool.getAll());
+    }
+
+    @Test
+    public void setAll_somePaired_onlyUnpairedAdded() {
+        unpairedPool.add(ELLE);
+        unpairedPool.setAll(Arrays.asList(BOB, ELLE), nric -> nric.equals(ELLE.getNric()));
+        assertEquals(Collections.singletonList(BOB), unpairedPool.getAll());
+        assertEquals(Collections.singletonList(BOB), unpairedPool.getChanged());
+    }
+}
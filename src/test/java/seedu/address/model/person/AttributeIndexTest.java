@@ -0,0 +1,139 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.AttributeIndex.Attribute;
+import seedu.address.model.person.information.Nric;
+import seedu.address.model.person.information.Region.Place;
+import seedu.address.model.person.information.RiskLevel.Risk;
+import seedu.address.model.person.predicates.RegionIsEqualPredicate;
+import seedu.address.model.person.predicates.RiskLevelIsEqualPredicate;
+import seedu.address.testutil.ElderlyBuilder;
+import seedu.address.testutil.VolunteerBuilder;
+
+public class AttributeIndexTest {
+
+    private static final String[] REGIONS = {"NORTH", "WEST", "CENTRAL"};
+    private static final String[] RISK_LEVELS = {"LOW", "MEDIUM", "HIGH"};
+
+    private final AttributeIndex<Elderly> elderlyIndex = AttributeIndex.ofElderly();
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> elderlyIndex.add(null));
+    }
+
+    @Test
+    public void findAll_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> elderlyIndex.findAll(null));
+        assertThrows(NullPointerException.class, () -> elderlyIndex.countAll(null));
+    }
+
+    @Test
+    public void findAll_noValues_findsEveryone() {
+        Elderly elderly = new ElderlyBuilder().build();
+        elderlyIndex.add(elderly);
+        assertEquals(Collections.singleton(elderly.getNric()), elderlyIndex.findAll(Collections.emptyMap()));
+    }
+
+    @Test
+    public void findAll_severalValues_intersected() {
+        Elderly alice = new ElderlyBuilder().withNric("S1234567A").withRegion("NORTH").withRiskLevel("HIGH")
+                .withBirthDate("1940-02-03").build();
+        Elderly bob = new ElderlyBuilder().withNric("S7654321B").withRegion("NORTH").withRiskLevel("LOW")
+                .withBirthDate("1940-11-12").build();
+        elderlyIndex.setAll(List.of(alice, bob));
+        Map<Attribute, Object> values = new EnumMap<>(Attribute.class);
+        values.put(Attribute.REGION, Place.NORTH);
+        values.put(Attribute.BIRTH_YEAR, 1940);
+        assertEquals(Set.of(alice.getNric(), bob.getNric()), elderlyIndex.findAll(values));
+        values.put(Attribute.RISK_LEVEL, Risk.HIGH);
+        assertEquals(Collections.singleton(alice.getNric()), elderlyIndex.findAll(values));
+        assertEquals(1, elderlyIndex.countAll(values));
+        values.put(Attribute.REGION, Place.WEST);
+        assertEquals(Collections.emptySet(), elderlyIndex.findAll(values));
+    }
+
+    @Test
+    public void findAll_afterRemove_slotReused() {
+        Elderly alice = new ElderlyBuilder().withNric("S1234567A").withRegion("NORTH").build();
+        Elderly bob = new ElderlyBuilder().withNric("S7654321B").withRegion("WEST").build();
+        elderlyIndex.add(alice);
+        elderlyIndex.remove(alice);
+        elderlyIndex.add(bob);
+        assertEquals(Collections.emptySet(), elderlyIndex.findAll(Map.of(Attribute.REGION, Place.NORTH)));
+        assertEquals(Collections.singleton(bob.getNric()),
+                elderlyIndex.findAll(Map.of(Attribute.REGION, Place.WEST)));
+        assertEquals(1, elderlyIndex.countAll(Collections.emptyMap()));
+    }
+
+    @Test
+    public void findAll_volunteerSkillLevels_everyLevelIndexed() {
+        AttributeIndex<Volunteer> volunteerIndex = AttributeIndex.ofVolunteers();
+        Volunteer volunteer = new VolunteerBuilder().withMedicalTags("cpr,basic", "aed,advanced").build();
+        volunteerIndex.add(volunteer);
+        Set<Nric> expected = Collections.singleton(volunteer.getNric());
+        assertEquals(expected, volunteerIndex.findAll(Map.of(Attribute.SKILL_LEVEL, "basic")));
+        assertEquals(expected, volunteerIndex.findAll(Map.of(Attribute.SKILL_LEVEL, "advanced")));
+        assertEquals(Collections.emptySet(), volunteerIndex.findAll(Map.of(Attribute.SKILL_LEVEL, "intermediate")));
+    }
+
+    @Test
+    public void findAll_randomEditsAndRemovals_sameAsPredicates() {
+        Random random = new Random(2103);
+        List<Elderly> elderly = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            elderly.add(getRandomElderly(random, i));
+            elderlyIndex.add(elderly.get(i));
+        }
+        for (int round = 0; round < 300; round++) {
+            int i = random.nextInt(elderly.size());
+            elderlyIndex.remove(elderly.get(i));
+            if (random.nextBoolean()) {
+                elderly.remove(i);
+            } else {
+                elderly.set(i, getRandomElderly(random, 1000 + round));
+                elderlyIndex.add(elderly.get(i));
+            }
+            Place place = Place.values()[random.nextInt(3)];
+            Risk risk = Risk.values()[random.nextInt(3)];
+            Predicate<Elderly> regionPredicate = new RegionIsEqualPredicate<>(place);
+            Set<Nric> expected = elderly.stream()
+                    .filter(regionPredicate.and(new RiskLevelIsEqualPredicate<>(risk)))
+                    .map(Person::getNric)
+                    .collect(Collectors.toSet());
+            Map<Attribute, Object> values = Map.of(Attribute.REGION, place, Attribute.RISK_LEVEL, risk);
+            assertEquals(expected, elderlyIndex.findAll(values));
+            assertEquals(expected.size(), elderlyIndex.countAll(values));
+        }
+    }
+
+    @Test
+    public void setAll_replacesContents() {
+        Elderly alice = new ElderlyBuilder().withNric("S1234567A").withRegion("NORTH").build();
+        Elderly bob = new ElderlyBuilder().withNric("S7654321B").withRegion("NORTH").build();
+        elderlyIndex.add(alice);
+        elderlyIndex.setAll(Collections.singletonList(bob));
+        assertEquals(Collections.singleton(bob.getNric()),
+                elderlyIndex.findAll(Map.of(Attribute.REGION, Place.NORTH)));
+    }
+
+    private static Elderly getRandomElderly(Random random, int id) {
+        return new ElderlyBuilder().withNric(String.format("S%07dA", id))
+                .withRegion(REGIONS[random.nextInt(REGIONS.length)])
+                .withRiskLevel(RISK_LEVELS[random.nextInt(RISK_LEVELS.length)]).build();
+    }
+}
@@ -0,0 +1,182 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.information.Nric;
+import seedu.address.testutil.VolunteerBuilder;
+
+public class AvailabilityIndexTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.parse("2023-03-01");
+
+    private final AvailabilityIndex<Volunteer> availabilityIndex = new AvailabilityIndex<>();
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> availabilityIndex.add(null));
+    }
+
+    @Test
+    public void findAvailableThroughout_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> availabilityIndex.findAvailableThroughout(null, FIRST_DAY));
+        assertThrows(NullPointerException.class, () -> availabilityIndex.findAvailableThroughout(FIRST_DAY, null));
+    }
+
+    @Test
+    public void findAvailableThroughout_emptyIndex_returnsEmpty() {
+        assertEquals(Collections.emptySet(), availabilityIndex.findAvailableThroughout(FIRST_DAY, FIRST_DAY));
+    }
+
+    @Test
+    public void findAvailableThroughout_noAvailableDates_alwaysFound() {
+        Volunteer volunteer = new VolunteerBuilder().build();
+        availabilityIndex.add(volunteer);
+        assertEquals(Collections.singleton(volunteer.getNric()),
+                availabilityIndex.findAvailableThroughout(FIRST_DAY, FIRST_DAY.plusYears(1)));
+    }
+
+    @Test
+    public void findAvailableThroughout_partiallyCoveredRange_notFound() {
+        Volunteer volunteer = new VolunteerBuilder().withAvailableDates("2023-03-01", "2023-03-05")
+                .withAvailableDates("2023-03-07", "2023-03-10").build();
+        availabilityIndex.add(volunteer);
+        assertEquals(Collections.emptySet(), availabilityIndex.findAvailableThroughout(
+                LocalDate.parse("2023-03-04"), LocalDate.parse("2023-03-08")));
+        assertEquals(Collections.singleton(volunteer.getNric()), availabilityIndex.findAvailableThroughout(
+                LocalDate.parse("2023-03-07"), LocalDate.parse("2023-03-08")));
+    }
+
+    @Test
+    public void findAvailableThroughout_rangeCoveredByAdjacentDates_found() {
+        Volunteer volunteer = new VolunteerBuilder().withAvailableDates("2023-03-01", "2023-03-05")
+                .withAvailableDates("2023-03-06", "2023-03-10").build();
+        availabilityIndex.add(volunteer);
+        assertEquals(Collections.singleton(volunteer.getNric()), availabilityIndex.findAvailableThroughout(
+                LocalDate.parse("2023-03-04"), LocalDate.parse("2023-03-07")));
+    }
+
+    @Test
+    public void remove_addedVolunteer_notFound() {
+        Volunteer volunteer = new VolunteerBuilder().withAvailableDates("2023-03-01", "2023-03-05").build();
+        availabilityIndex.add(volunteer);
+        availabilityIndex.remove(volunteer);
+        assertEquals(Collections.emptySet(), availabilityIndex.findAvailableThroughout(FIRST_DAY, FIRST_DAY));
+    }
+
+    @Test
+    public void find_randomChanges_sameAsCheckingEveryDate() {
+        Random random = new Random(2103);
+        List<Volunteer> indexed = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            if (!indexed.isEmpty() && random.nextInt(4) == 0) {
+                availabilityIndex.remove(indexed.remove(random.nextInt(indexed.size())));
+            }
+            VolunteerBuilder builder = new VolunteerBuilder().withNric(String.format("S%07dA", i));
+            int dateCount = random.nextInt(4);
+            for (int j = 0; j < dateCount; j++) {
+                LocalDate start = FIRST_DAY.plusDays(random.nextInt(60));
+                builder.withAvailableDates(start.toString(), start.plusDays(random.nextInt(10)).toString());
+            }
+            Volunteer volunteer = builder.build();
+            availabilityIndex.add(volunteer);
+            indexed.add(volunteer);
+
+            LocalDate start = FIRST_DAY.plusDays(random.nextInt(70));
+            LocalDate end = start.plusDays(random.nextInt(5));
+            assertEquals(getAvailableThroughout(indexed, start, end),
+                    availabilityIndex.findAvailableThroughout(start, end));
+        }
+    }
+
+    @Test
+    public void findIntersecting_randomChanges_sameAsCheckingEveryPerson() {
+        Random random = new Random(2103);
+        List<Volunteer> indexed = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            if (!indexed.isEmpty() && random.nextInt(4) == 0) {
+                availabilityIndex.remove(indexed.remove(random.nextInt(indexed.size())));
+            }
+            Volunteer volunteer = getRandomVolunteer(random, String.format("S%07dA", i));
+            availabilityIndex.add(volunteer);
+            indexed.add(volunteer);
+
+            Volunteer other = getRandomVolunteer(random, "T0000000B");
+            Set<Nric> expected = new HashSet<>();
+            for (Volunteer candidate : indexed) {
+                if (candidate.hasSuitableAvailableDates(other)) {
+                    expected.add(candidate.getNric());
+                }
+            }
+            assertEquals(expected, availabilityIndex.findIntersecting(other.getAvailability()));
+        }
+    }
+
+    @Test
+    public void findFirstIntersecting_randomChanges_foundOnlyIfSomeoneIntersects() {
+        Random random = new Random(2103);
+        List<Volunteer> indexed = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            if (!indexed.isEmpty() && random.nextInt(4) == 0) {
+                availabilityIndex.remove(indexed.remove(random.nextInt(indexed.size())));
+            }
+            Volunteer volunteer = getRandomVolunteer(random, String.format("S%07dA", i));
+            availabilityIndex.add(volunteer);
+            indexed.add(volunteer);
+
+            Volunteer other = getRandomVolunteer(random, "T0000000B");
+            Nric excluded = indexed.get(random.nextInt(indexed.size())).getNric();
+            Set<Nric> expected = new HashSet<>();
+            for (Volunteer candidate : indexed) {
+                if (!candidate.getNric().equals(excluded) && candidate.hasSuitableAvailableDates(other)) {
+                    expected.add(candidate.getNric());
+                }
+            }
+            Optional<Nric> found = availabilityIndex.findFirstIntersecting(other.getAvailability(),
+                    nric -> !nric.equals(excluded));
+            assertEquals(!expected.isEmpty(), found.isPresent());
+            found.ifPresent(nric -> assertTrue(expected.contains(nric)));
+        }
+    }
+
+    private static Volunteer getRandomVolunteer(Random random, String nric) {
+        VolunteerBuilder builder = new VolunteerBuilder().withNric(nric);
+        int dateCount = random.nextInt(4);
+        for (int j = 0; j < dateCount; j++) {
+            LocalDate start = FIRST_DAY.plusDays(random.nextInt(60));
+            builder.withAvailableDates(start.toString(), start.plusDays(random.nextInt(10)).toString());
+        }
+        return builder.build();
+    }
+
+    private static Set<Nric> getAvailableThroughout(List<Volunteer> volunteers, LocalDate start, LocalDate end) {
+        Set<Nric> available = new HashSet<>();
+        for (Volunteer volunteer : volunteers) {
+            boolean isAvailableEveryDay = true;
+            for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(1)) {
+                isAvailableEveryDay &= isAvailableDuring(volunteer, day, day);
+            }
+            if (isAvailableEveryDay) {
+                available.add(volunteer.getNric());
+            }
+        }
+        return available;
+    }
+
+    private static boolean isAvailableDuring(Volunteer volunteer, LocalDate start, LocalDate end) {
+        return volunteer.getAvailableDates().isEmpty()
+                || volunteer.getAvailableDates().stream().anyMatch(date -> date.isIntersect(start, end));
+    }
+}
@@ -0,0 +1,69 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.AttributeIndex.Attribute;
+import seedu.address.model.person.information.Region.Place;
+import seedu.address.testutil.ElderlyBuilder;
+
+public class PersonIndexTest {
+
+    private static final LocalDate DAY = LocalDate.parse("2023-03-02");
+
+    private final PersonIndex<Elderly> index = PersonIndex.ofElderly();
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+        assertThrows(NullPointerException.class, () -> index.set(null, null));
+    }
+
+    @Test
+    public void set_editedPerson_everyIndexUpdated() {
+        Elderly alice = new ElderlyBuilder().withNric("S1234567A").withName("Alice").withPhone("91234567")
+                .withRegion("NORTH").withAvailableDates("2023-03-01", "2023-03-03").build();
+        Elderly editedAlice = new ElderlyBuilder().withNric("S1234567A").withName("Alicia").withPhone("98765432")
+                .withRegion("WEST").withAvailableDates("2023-04-01", "2023-04-03").build();
+        index.add(alice);
+        index.set(alice, editedAlice);
+
+        assertEquals(Collections.emptySet(), index.getAvailability().findAvailableThroughout(DAY, DAY));
+        assertEquals(Collections.singleton(alice.getNric()), index.getText().findContaining(TextIndex.Field.NAME,
+                "alicia"));
+        assertEquals(Collections.emptySet(), index.getSuffixes().findContaining(SuffixIndex.Field.PHONE, "4567"));
+        assertEquals(Collections.singleton(alice.getNric()),
+                index.getAttributes().findAll(Map.of(Attribute.REGION, Place.WEST)));
+    }
+
+    @Test
+    public void remove_addedPersons_everyIndexEmpty() {
+        Elderly alice = new ElderlyBuilder().withNric("S1234567A").withName("Alice").build();
+        Elderly bob = new ElderlyBuilder().withNric("S7654321B").withName("Bob").build();
+        index.addAll(List.of(alice, bob));
+        index.remove(alice);
+        index.remove(bob);
+
+        assertEquals(Collections.emptySet(), index.getText().findContaining(TextIndex.Field.NAME, "b"));
+        assertEquals(Collections.emptySet(), index.getSuffixes().findContaining(SuffixIndex.Field.NRIC, "s"));
+        assertEquals(0, index.getAttributes().countAll(Collections.emptyMap()));
+    }
+
+    @Test
+    public void setAll_replacesContents() {
+        Elderly alice = new ElderlyBuilder().withNric("S1234567A").withName("Alice").build();
+        Elderly bob = new ElderlyBuilder().withNric("S7654321B").withName("Bob").build();
+        index.add(alice);
+        index.setAll(Collections.singletonList(bob));
+
+        assertEquals(Collections.singleton(bob.getNric()), index.getText().findContaining(TextIndex.Field.NAME, ""));
+        assertEquals(Collections.singleton(bob.getNric()), index.getAttributes().findAll(Collections.emptyMap()));
+    }
+}
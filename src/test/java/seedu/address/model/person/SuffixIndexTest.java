@@ -0,0 +1,115 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.information.Nric;
+import seedu.address.model.person.predicates.NricContainsKeywordPredicate;
+import seedu.address.model.person.predicates.PhoneContainsDigitsPredicate;
+import seedu.address.testutil.ElderlyBuilder;
+
+public class SuffixIndexTest {
+
+    private final SuffixIndex<Elderly> suffixIndex = new SuffixIndex<>();
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> suffixIndex.add(null));
+    }
+
+    @Test
+    public void findContaining_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> suffixIndex.findContaining(null, "1"));
+        assertThrows(NullPointerException.class, () -> suffixIndex.findContaining(SuffixIndex.Field.PHONE, null));
+    }
+
+    @Test
+    public void findContaining_emptyIndex_returnsEmpty() {
+        assertEquals(Collections.emptySet(), suffixIndex.findContaining(SuffixIndex.Field.PHONE, "9"));
+        assertEquals(0, suffixIndex.estimateContaining(SuffixIndex.Field.PHONE, "9"));
+    }
+
+    @Test
+    public void findContaining_prefixAndSubstring_found() {
+        Elderly elderly = new ElderlyBuilder().withNric("S1234567I").withPhone("94351253").build();
+        suffixIndex.add(elderly);
+        Set<Nric> expected = Collections.singleton(elderly.getNric());
+        assertEquals(expected, suffixIndex.findContaining(SuffixIndex.Field.NRIC, "s123"));
+        assertEquals(expected, suffixIndex.findContaining(SuffixIndex.Field.NRIC, "567i"));
+        assertEquals(expected, suffixIndex.findContaining(SuffixIndex.Field.PHONE, "9435"));
+        assertEquals(expected, suffixIndex.findContaining(SuffixIndex.Field.PHONE, "53"));
+        assertEquals(Collections.emptySet(), suffixIndex.findContaining(SuffixIndex.Field.NRIC, "S123"));
+        assertEquals(Collections.emptySet(), suffixIndex.findContaining(SuffixIndex.Field.PHONE, "942"));
+        assertEquals(Collections.emptySet(), suffixIndex.findContaining(SuffixIndex.Field.PHONE, "943512530"));
+    }
+
+    @Test
+    public void findContaining_afterRemove_notFound() {
+        Elderly elderly = new ElderlyBuilder().withNric("S1234567I").withPhone("94351253").build();
+        suffixIndex.add(elderly);
+        suffixIndex.findContaining(SuffixIndex.Field.PHONE, "9");
+        suffixIndex.remove(elderly);
+        assertEquals(Collections.emptySet(), suffixIndex.findContaining(SuffixIndex.Field.PHONE, "9"));
+        assertEquals(Collections.emptySet(), suffixIndex.findContaining(SuffixIndex.Field.NRIC, "s"));
+    }
+
+    @Test
+    public void findContaining_randomEditsAndRemovals_sameAsPredicates() {
+        Random random = new Random(2103);
+        List<Elderly> elderly = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            elderly.add(getRandomElderly(random, i));
+            suffixIndex.add(elderly.get(i));
+        }
+        for (int round = 0; round < 400; round++) {
+            int i = random.nextInt(elderly.size());
+            suffixIndex.remove(elderly.get(i));
+            if (random.nextBoolean()) {
+                elderly.remove(i);
+            } else {
+                elderly.set(i, getRandomElderly(random, 1000 + round));
+                suffixIndex.add(elderly.get(i));
+            }
+            if (random.nextInt(3) > 0) {
+                continue;
+            }
+            String digits = String.valueOf(random.nextInt(1000)).substring(0, 1 + random.nextInt(2));
+            String keyword = random.nextBoolean() ? "s" + digits : digits;
+            Set<Nric> expectedPhones = filter(elderly, new PhoneContainsDigitsPredicate<>(digits));
+            assertEquals(expectedPhones, suffixIndex.findContaining(SuffixIndex.Field.PHONE, digits));
+            assertTrue(suffixIndex.estimateContaining(SuffixIndex.Field.PHONE, digits) >= expectedPhones.size());
+            assertEquals(filter(elderly, new NricContainsKeywordPredicate<>(keyword)),
+                    suffixIndex.findContaining(SuffixIndex.Field.NRIC, keyword));
+        }
+    }
+
+    @Test
+    public void setAll_replacesContents() {
+        Elderly alice = new ElderlyBuilder().withNric("S1234567A").withPhone("91111111").build();
+        Elderly bob = new ElderlyBuilder().withNric("S7654321B").withPhone("92222222").build();
+        suffixIndex.add(alice);
+        suffixIndex.setAll(Collections.singletonList(bob));
+        assertEquals(Collections.emptySet(), suffixIndex.findContaining(SuffixIndex.Field.PHONE, "111"));
+        assertEquals(Collections.singleton(bob.getNric()), suffixIndex.findContaining(SuffixIndex.Field.PHONE, "222"));
+    }
+
+    private static Set<Nric> filter(List<Elderly> elderly, Predicate<Elderly> predicate) {
+        return elderly.stream().filter(predicate).map(Person::getNric).collect(Collectors.toSet());
+    }
+
+    private static Elderly getRandomElderly(Random random, int id) {
+        return new ElderlyBuilder().withNric(String.format("S%07dA", id))
+                .withPhone(String.valueOf(80000 + random.nextInt(20000 * (1 + random.nextInt(100))))).build();
+    }
+}
@@ -0,0 +1,122 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.information.Nric;
+import seedu.address.model.person.predicates.AddressContainsKeywordPredicate;
+import seedu.address.model.person.predicates.EmailContainsKeywordPredicate;
+import seedu.address.model.person.predicates.NameContainsKeywordPredicate;
+import seedu.address.testutil.VolunteerBuilder;
+
+public class TextIndexTest {
+
+    private static final String[] WORDS = {"Alice", "Bob", "Tan", "Ang", "Mo", "Kio", "Jurong", "Street", "Blk"};
+
+    private final TextIndex<Volunteer> textIndex = new TextIndex<>();
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> textIndex.add(null));
+    }
+
+    @Test
+    public void findContaining_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> textIndex.findContaining(null, "a"));
+        assertThrows(NullPointerException.class, () -> textIndex.findContaining(TextIndex.Field.NAME, null));
+    }
+
+    @Test
+    public void findContaining_emptyIndex_returnsEmpty() {
+        assertEquals(Collections.emptySet(), textIndex.findContaining(TextIndex.Field.NAME, "alice"));
+    }
+
+    @Test
+    public void findContaining_differentCase_found() {
+        Volunteer volunteer = new VolunteerBuilder().withName("Alice Pauline").withAddress("123, Jurong West Ave 6")
+                .withEmail("alice@example.com").build();
+        textIndex.add(volunteer);
+        Set<Nric> expected = Collections.singleton(volunteer.getNric());
+        assertEquals(expected, textIndex.findContaining(TextIndex.Field.NAME, "ICE pau"));
+        assertEquals(expected, textIndex.findContaining(TextIndex.Field.ADDRESS, "jURONG"));
+        assertEquals(expected, textIndex.findContaining(TextIndex.Field.EMAIL, "E@EX"));
+        assertEquals(expected, textIndex.findContaining(TextIndex.Field.NAME, "p"));
+        assertEquals(Collections.emptySet(), textIndex.findContaining(TextIndex.Field.NAME, "jurong"));
+        assertEquals(Collections.emptySet(), textIndex.findContaining(TextIndex.Field.NAME, "alicepauline"));
+    }
+
+    @Test
+    public void findContaining_afterRemove_notFound() {
+        Volunteer volunteer = new VolunteerBuilder().withName("Alice Pauline").build();
+        textIndex.add(volunteer);
+        textIndex.remove(volunteer);
+        assertEquals(Collections.emptySet(), textIndex.findContaining(TextIndex.Field.NAME, "alice"));
+        assertEquals(Collections.emptySet(), textIndex.findContaining(TextIndex.Field.NAME, "a"));
+    }
+
+    @Test
+    public void findContaining_randomEditsAndRemovals_sameAsPredicates() {
+        Random random = new Random(2103);
+        List<Volunteer> volunteers = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            Volunteer volunteer = getRandomVolunteer(random, i);
+            volunteers.add(volunteer);
+            textIndex.add(volunteer);
+        }
+        for (int round = 0; round < 400; round++) {
+            int i = random.nextInt(volunteers.size());
+            textIndex.remove(volunteers.get(i));
+            if (random.nextBoolean()) {
+                volunteers.remove(i);
+            } else {
+                volunteers.set(i, getRandomVolunteer(random, 1000 + round));
+                textIndex.add(volunteers.get(i));
+            }
+            String keyword = getRandomKeyword(random);
+            assertEquals(filter(volunteers, new NameContainsKeywordPredicate<>(keyword)),
+                    textIndex.findContaining(TextIndex.Field.NAME, keyword));
+            assertEquals(filter(volunteers, new AddressContainsKeywordPredicate<>(keyword)),
+                    textIndex.findContaining(TextIndex.Field.ADDRESS, keyword));
+            assertEquals(filter(volunteers, new EmailContainsKeywordPredicate<>(keyword)),
+                    textIndex.findContaining(TextIndex.Field.EMAIL, keyword));
+        }
+    }
+
+    @Test
+    public void setAll_replacesContents() {
+        Volunteer alice = new VolunteerBuilder().withNric("S1234567A").withName("Alice").build();
+        Volunteer bob = new VolunteerBuilder().withNric("S7654321B").withName("Bob").build();
+        textIndex.add(alice);
+        textIndex.setAll(Collections.singletonList(bob));
+        assertEquals(Collections.emptySet(), textIndex.findContaining(TextIndex.Field.NAME, "alice"));
+        assertEquals(Collections.singleton(bob.getNric()), textIndex.findContaining(TextIndex.Field.NAME, "bob"));
+    }
+
+    private static Set<Nric> filter(List<Volunteer> volunteers, Predicate<Volunteer> predicate) {
+        return volunteers.stream().filter(predicate).map(Person::getNric).collect(Collectors.toSet());
+    }
+
+    private static Volunteer getRandomVolunteer(Random random, int id) {
+        String name = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)];
+        String address = "Blk " + random.nextInt(30) + " " + WORDS[random.nextInt(WORDS.length)] + " Street";
+        String email = WORDS[random.nextInt(WORDS.length)].toLowerCase() + random.nextInt(10) + "@example.com";
+        return new VolunteerBuilder().withNric(String.format("S%07dA", id)).withName(name).withAddress(address)
+                .withEmail(email).build();
+    }
+
+    private static String getRandomKeyword(Random random) {
+        String word = WORDS[random.nextInt(WORDS.length)] + " " + random.nextInt(30);
+        int start = random.nextInt(word.length());
+        return word.substring(start, start + 1 + random.nextInt(Math.min(5, word.length() - start)));
+    }
+}
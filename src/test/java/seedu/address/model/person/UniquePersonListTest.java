@@ -12,12 +12,15 @@ import static seedu.address.testutil.TypicalVolunteers.BOB;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.person.information.Nric;
+import seedu.address.model.person.information.Region.Place;
 import seedu.address.testutil.ElderlyBuilder;
 
 public class UniquePersonListTest {
@@ -160,6 +163,30 @@ public class UniquePersonListTest {
         assertEquals(ALICE, uniquePersonList.get(ALICE.getNric()));
     }
 
+    @Test
+    public void get_editedPersonHasDifferentIdentity_retrievesEditedPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertEquals(BOB, uniquePersonList.get(BOB.getNric()));
+        assertThrows(PersonNotFoundException.class, () -> uniquePersonList.get(ALICE.getNric()));
+    }
+
+    @Test
+    public void contains_removedPerson_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE.getNric()));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_nricAfterSetPersons_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertTrue(uniquePersonList.contains(BOB.getNric()));
+        assertFalse(uniquePersonList.contains(ALICE.getNric()));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () ->
@@ -196,9 +223,110 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSameIdentityPersons_throwsDuplicatePersonException() {
+        Person editedAlice = new ElderlyBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, BOB, editedAlice);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+    }
+
+    @Test
+    public void addAll_nullList_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.addAll(null));
+    }
+
+    @Test
+    public void addAll_uniquePersons_addsAllPersons() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.addAll(Collections.singletonList(BOB));
+        UniquePersonList<Person> expectedUniquePersonList = new UniquePersonList<>();
+        expectedUniquePersonList.setPersons(Arrays.asList(ALICE, BOB));
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertTrue(uniquePersonList.contains(BOB.getNric()));
+    }
+
+    @Test
+    public void addAll_personAlreadyInList_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BOB, ALICE)));
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void addAll_listWithDuplicatePersons_throwsDuplicatePersonException() {
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(Arrays.asList(BOB, BOB)));
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
             -> uniquePersonList.asUnmodifiableObservableList().remove(0));
     }
+
+    @Test
+    public void asUnmodifiableRegionList_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.asUnmodifiableRegionList(null));
+    }
+
+    @Test
+    public void asUnmodifiableRegionList_afterChanges_inListOrder() {
+        Elderly first = new ElderlyBuilder().withNric("S1234567A").withRegion("NORTH").build();
+        Elderly second = new ElderlyBuilder().withNric("S2345678B").withRegion("WEST").build();
+        Person third = new ElderlyBuilder().withNric("S3456789C").withRegion("NORTH").build();
+        uniquePersonList.setPersons(Arrays.asList(first, second, third));
+        assertEquals(Arrays.asList(first, third), uniquePersonList.asUnmodifiableRegionList(Place.NORTH));
+        assertEquals(Collections.singletonList(second), uniquePersonList.asUnmodifiableRegionList(Place.WEST));
+
+        // moved into the region of other persons -> kept in list order
+        Person editedSecond = new ElderlyBuilder(second).withRegion("NORTH").build();
+        uniquePersonList.setPerson(second, editedSecond);
+        assertEquals(Arrays.asList(first, editedSecond, third),
+                uniquePersonList.asUnmodifiableRegionList(Place.NORTH));
+        assertEquals(Collections.emptyList(), uniquePersonList.asUnmodifiableRegionList(Place.WEST));
+
+        // edited within the same region -> replaced in place
+        Person editedFirst = new ElderlyBuilder(first).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(first, editedFirst);
+        assertEquals(Arrays.asList(editedFirst, editedSecond, third),
+                uniquePersonList.asUnmodifiableRegionList(Place.NORTH));
+
+        uniquePersonList.remove(editedSecond);
+        uniquePersonList.add(second);
+        assertEquals(Arrays.asList(editedFirst, third), uniquePersonList.asUnmodifiableRegionList(Place.NORTH));
+        assertEquals(Collections.singletonList(second), uniquePersonList.asUnmodifiableRegionList(Place.WEST));
+    }
+
+    @Test
+    public void asUnmodifiableRegionList_randomEditsAndRemovals_sameAsFilteredList() {
+        String[] regions = {"NORTH", "WEST", "CENTRAL"};
+        Random random = new Random(2103);
+        for (int i = 0; i < 100; i++) {
+            uniquePersonList.add(new ElderlyBuilder().withNric(String.format("S%07dA", i))
+                    .withRegion(regions[random.nextInt(regions.length)]).build());
+        }
+        for (int round = 0; round < 200; round++) {
+            List<Person> persons = uniquePersonList.asList();
+            Person target = persons.get(random.nextInt(persons.size()));
+            if (random.nextInt(4) == 0) {
+                uniquePersonList.remove(target);
+            } else {
+                uniquePersonList.setPerson(target, new ElderlyBuilder((Elderly) target)
+                        .withRegion(regions[random.nextInt(regions.length)]).build());
+            }
+            for (Place place : Place.values()) {
+                List<Person> expected = uniquePersonList.asList().stream()
+                        .filter(person -> person.getRegion().region == place)
+                        .collect(Collectors.toList());
+                assertEquals(expected, uniquePersonList.asUnmodifiableRegionList(place));
+            }
+        }
+    }
+
+    @Test
+    public void asUnmodifiableRegionList_modifyList_throwsUnsupportedOperationException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(UnsupportedOperationException.class, ()
+            -> uniquePersonList.asUnmodifiableRegionList(Place.NORTH).remove(0));
+    }
 }
@@ -0,0 +1,117 @@
+package seedu.address.model.person.information;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class AvailabilityTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.parse("2023-03-01");
+
+    private final Availability alwaysAvailable = new Availability(Collections.emptySet());
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new Availability(null));
+    }
+
+    @Test
+    public void constructor_overlappingAndAdjacentDates_merged() {
+        Availability availability = new Availability(Arrays.asList(
+                new AvailableDate("2023-03-10", "2023-03-12"),
+                new AvailableDate("2023-03-01", "2023-03-04"),
+                new AvailableDate("2023-03-03", "2023-03-06"),
+                new AvailableDate("2023-03-07", "2023-03-07")));
+        assertEquals(2, availability.getRangeCount());
+        assertEquals(LocalDate.parse("2023-03-01").toEpochDay(), availability.getRangeStart(0));
+        assertEquals(LocalDate.parse("2023-03-07").toEpochDay(), availability.getRangeEnd(0));
+        assertEquals(LocalDate.parse("2023-03-10").toEpochDay(), availability.getRangeStart(1));
+        assertEquals(LocalDate.parse("2023-03-12").toEpochDay(), availability.getRangeEnd(1));
+        assertEquals(new Availability(Arrays.asList(new AvailableDate("2023-03-01", "2023-03-07"),
+                new AvailableDate("2023-03-10", "2023-03-12"))), availability);
+    }
+
+    @Test
+    public void isIntersecting_alwaysAvailable_returnsTrue() {
+        Availability availability = new Availability(Collections.singleton(
+                new AvailableDate("2023-03-01", "2023-03-04")));
+        assertTrue(alwaysAvailable.isIntersecting(availability));
+        assertTrue(availability.isIntersecting(alwaysAvailable));
+        assertTrue(alwaysAvailable.isIntersecting(alwaysAvailable));
+    }
+
+    @Test
+    public void isAvailableThroughout_alwaysAvailable_returnsTrue() {
+        assertTrue(alwaysAvailable.isAvailableThroughout(FIRST_DAY, FIRST_DAY.plusYears(1)));
+    }
+
+    @Test
+    public void isAvailableThroughout_rangeWithGap_returnsFalse() {
+        Availability availability = new Availability(Arrays.asList(
+                new AvailableDate("2023-03-01", "2023-03-04"), new AvailableDate("2023-03-06", "2023-03-08")));
+        assertFalse(availability.isAvailableThroughout(LocalDate.parse("2023-03-03"), LocalDate.parse("2023-03-07")));
+        assertTrue(availability.isAvailableThroughout(LocalDate.parse("2023-03-06"), LocalDate.parse("2023-03-08")));
+        assertFalse(availability.isAvailableThroughout(LocalDate.parse("2023-02-28"), LocalDate.parse("2023-03-01")));
+    }
+
+    @Test
+    public void countCommonDays_alwaysAvailable_returnsDaysOfOther() {
+        Availability availability = new Availability(Collections.singleton(
+                new AvailableDate("2023-03-01", "2023-03-04")));
+        assertEquals(4L, alwaysAvailable.countCommonDays(availability));
+        assertEquals(4L, availability.countCommonDays(alwaysAvailable));
+        assertEquals(Long.MAX_VALUE, alwaysAvailable.countCommonDays(alwaysAvailable));
+    }
+
+    @Test
+    public void randomDates_sameAsCheckingEveryDay() {
+        Random random = new Random(2103);
+        for (int round = 0; round < 200; round++) {
+            List<AvailableDate> dates = getRandomDates(random);
+            List<AvailableDate> otherDates = getRandomDates(random);
+            Availability availability = new Availability(dates);
+            Availability otherAvailability = new Availability(otherDates);
+
+            long commonDays = 0;
+            for (LocalDate day = FIRST_DAY; day.isBefore(FIRST_DAY.plusDays(50)); day = day.plusDays(1)) {
+                if (isAvailableOn(dates, day) && isAvailableOn(otherDates, day)) {
+                    commonDays++;
+                }
+            }
+            assertEquals(commonDays, availability.countCommonDays(otherAvailability));
+            assertEquals(commonDays > 0, availability.isIntersecting(otherAvailability));
+
+            LocalDate start = FIRST_DAY.plusDays(random.nextInt(45));
+            LocalDate end = start.plusDays(random.nextInt(5));
+            boolean isAvailableEveryDay = true;
+            for (LocalDate day = start; !day.isAfter(end); day = day.plusDays(1)) {
+                isAvailableEveryDay &= isAvailableOn(dates, day);
+            }
+            assertEquals(isAvailableEveryDay, availability.isAvailableThroughout(start, end));
+        }
+    }
+
+    private static List<AvailableDate> getRandomDates(Random random) {
+        List<AvailableDate> dates = new ArrayList<>();
+        int dateCount = 1 + random.nextInt(4);
+        for (int i = 0; i < dateCount; i++) {
+            LocalDate start = FIRST_DAY.plusDays(random.nextInt(40));
+            dates.add(new AvailableDate(start.toString(), start.plusDays(random.nextInt(6)).toString()));
+        }
+        return dates;
+    }
+
+    private static boolean isAvailableOn(List<AvailableDate> dates, LocalDate day) {
+        return dates.stream().anyMatch(date -> date.isIntersect(day, day));
+    }
+}
@@ -2,10 +2,13 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TestUtil.getTypicalFriendlyLink;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -13,9 +16,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.FriendlyLink;
 import seedu.address.model.ReadOnlyElderly;
 import seedu.address.storage.elderly.JsonElderlyStorage;
+import seedu.address.testutil.ElderlyBuilder;
 import seedu.address.testutil.TypicalElderly;
 
 public class JsonElderlyStorageTest {
@@ -86,6 +91,93 @@ public class JsonElderlyStorageTest {
 
     }
 
+    @Test
+    public void saveElderly_savedFileModified_appendsChangesToJournal() throws Exception {
+        Path filePath = testFolder.resolve("TempElderly.json");
+        Path journalPath = JsonAppStorage.getJournalFilePath(filePath);
+        FriendlyLink original = getTypicalFriendlyLink();
+        JsonElderlyStorage jsonElderlyStorage = new JsonElderlyStorage(filePath);
+        jsonElderlyStorage.saveElderly(original, filePath);
+        String savedFile = FileUtil.readFromFile(filePath);
+
+        original.setElderly(TypicalElderly.ALICE,
+                new ElderlyBuilder(TypicalElderly.ALICE).withAddress(VALID_ADDRESS_BOB).build());
+        original.removeElderly(TypicalElderly.BENSON);
+        original.addElderly(TypicalElderly.AMY);
+        jsonElderlyStorage.saveElderly(original, filePath);
+
+        assertEquals(savedFile, FileUtil.readFromFile(filePath));
+        // three changes and the line that commits them
+        assertEquals(4, Files.readAllLines(journalPath).size());
+        ReadOnlyElderly readBack = new JsonElderlyStorage(filePath).readElderly(new FriendlyLink()).get();
+        assertEquals(original.getElderlyList(), readBack.getElderlyList());
+    }
+
+    @Test
+    public void saveElderly_orderChanged_rewritesFile() throws Exception {
+        Path filePath = testFolder.resolve("TempElderly.json");
+        FriendlyLink original = getTypicalFriendlyLink();
+        JsonElderlyStorage jsonElderlyStorage = new JsonElderlyStorage(filePath);
+        jsonElderlyStorage.saveElderly(original, filePath);
+        original.addElderly(TypicalElderly.AMY);
+        jsonElderlyStorage.saveElderly(original, filePath);
+        assertTrue(Files.exists(JsonAppStorage.getJournalFilePath(filePath)));
+
+        original.removeElderly(TypicalElderly.ALICE);
+        original.addElderly(TypicalElderly.ALICE);
+        jsonElderlyStorage.saveElderly(original, filePath);
+
+        assertFalse(Files.exists(JsonAppStorage.getJournalFilePath(filePath)));
+        ReadOnlyElderly readBack = new JsonElderlyStorage(filePath).readElderly(new FriendlyLink()).get();
+        assertEquals(original.getElderlyList(), readBack.getElderlyList());
+    }
+
+    @Test
+    public void readElderly_journalWithIncompleteEntry_ignoresEntryAndCompactsOnSave() throws Exception {
+        Path filePath = testFolder.resolve("TempElderly.json");
+        Path journalPath = JsonAppStorage.getJournalFilePath(filePath);
+        FriendlyLink original = getTypicalFriendlyLink();
+        JsonElderlyStorage jsonElderlyStorage = new JsonElderlyStorage(filePath);
+        jsonElderlyStorage.saveElderly(original, filePath);
+        original.removeElderly(TypicalElderly.ALICE);
+        jsonElderlyStorage.saveElderly(original, filePath);
+        FileUtil.appendToFile(journalPath, "{\"put\":{\"name\":\"Amy");
+
+        jsonElderlyStorage = new JsonElderlyStorage(filePath);
+        ReadOnlyElderly readBack = jsonElderlyStorage.readElderly(new FriendlyLink()).get();
+        assertEquals(original.getElderlyList(), readBack.getElderlyList());
+
+        jsonElderlyStorage.saveElderly(readBack, filePath);
+        assertFalse(Files.exists(journalPath));
+        readBack = jsonElderlyStorage.readElderly(new FriendlyLink()).get();
+        assertEquals(original.getElderlyList(), readBack.getElderlyList());
+    }
+
+    @Test
+    public void readElderly_journalWithUncommittedSave_ignoresWholeSave() throws Exception {
+        Path filePath = testFolder.resolve("TempElderly.json");
+        Path journalPath = JsonAppStorage.getJournalFilePath(filePath);
+        FriendlyLink original = getTypicalFriendlyLink();
+        JsonElderlyStorage jsonElderlyStorage = new JsonElderlyStorage(filePath);
+        jsonElderlyStorage.saveElderly(original, filePath);
+        original.removeElderly(TypicalElderly.ALICE);
+        jsonElderlyStorage.saveElderly(original, filePath);
+
+        // a save that removed two elderly, torn by a crash before its commit line was written
+        String committedJournal = FileUtil.readFromFile(journalPath);
+        original.removeElderly(TypicalElderly.BENSON);
+        original.removeElderly(TypicalElderly.CARL);
+        jsonElderlyStorage.saveElderly(original, filePath);
+        String journal = FileUtil.readFromFile(journalPath);
+        String tornSave = journal.substring(committedJournal.length(), journal.lastIndexOf("{\"commit\""));
+        FileUtil.writeToFile(journalPath, committedJournal + tornSave);
+
+        ReadOnlyElderly readBack = new JsonElderlyStorage(filePath).readElderly(new FriendlyLink()).get();
+        assertTrue(readBack.getElderlyList().contains(TypicalElderly.BENSON));
+        assertTrue(readBack.getElderlyList().contains(TypicalElderly.CARL));
+        assertFalse(readBack.getElderlyList().contains(TypicalElderly.ALICE));
+    }
+
     @Test
     public void saveElderly_nullElderly_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveElderly(null, "SomeFile.json"));
@@ -2,13 +2,17 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TestUtil.getNoPairsTypicalFriendlyLink;
 import static seedu.address.testutil.TestUtil.getTypicalFriendlyLink;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collections;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -17,6 +21,8 @@ import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.FriendlyLink;
 import seedu.address.model.ReadOnlyPair;
 import seedu.address.storage.pair.JsonPairStorage;
+import seedu.address.testutil.ElderlyBuilder;
+import seedu.address.testutil.TypicalElderly;
 import seedu.address.testutil.TypicalPairs;
 
 public class JsonPairStorageTest {
@@ -86,6 +92,27 @@ public class JsonPairStorageTest {
         assertEquals(original.getPairList(), readBack.getPairList());
     }
 
+    @Test
+    public void savePair_pairedPersonEdited_journalNotWritten() throws Exception {
+        Path filePath = testFolder.resolve("TempPair.json");
+        FriendlyLink original = getTypicalFriendlyLink();
+        JsonPairStorage jsonPairStorage = new JsonPairStorage(filePath);
+        jsonPairStorage.savePair(original, filePath);
+
+        original.setElderly(TypicalElderly.ALICE,
+                new ElderlyBuilder(TypicalElderly.ALICE).withAddress(VALID_ADDRESS_BOB).build());
+        jsonPairStorage.savePair(original, filePath);
+        assertFalse(Files.exists(JsonAppStorage.getJournalFilePath(filePath)));
+
+        original.addPair(TypicalPairs.PAIR4);
+        jsonPairStorage.savePair(original, filePath);
+        assertTrue(Files.exists(JsonAppStorage.getJournalFilePath(filePath)));
+        FriendlyLink persons = new FriendlyLink(original);
+        persons.setPairs(Collections.emptyList());
+        ReadOnlyPair readBack = new JsonPairStorage(filePath).readPair(persons).get();
+        assertEquals(original.getPairList(), readBack.getPairList());
+    }
+
     @Test
     public void savePair_nullPair_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> savePair(null, "SomeFile.json"));
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TestUtil.getTypicalFriendlyLink;
 
 import java.nio.file.Path;
@@ -11,6 +12,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.FriendlyLink;
 import seedu.address.model.ReadOnlyElderly;
 import seedu.address.model.ReadOnlyFriendlyLink;
@@ -89,6 +92,24 @@ public class StorageManagerTest {
                 new FriendlyLink(retrieved).getPairList());
     }
 
+    @Test
+    public void read_savedData_readsAllData() throws Exception {
+        FriendlyLink original = getTypicalFriendlyLink();
+        storageManager.saveElderly(original);
+        storageManager.saveVolunteer(original);
+        storageManager.savePair(original);
+        FriendlyLink retrieved = storageManager.read();
+        assertEquals(original, retrieved);
+    }
+
+    @Test
+    public void read_invalidVolunteerFile_throwsDataConversionException() throws Exception {
+        FriendlyLink original = getTypicalFriendlyLink();
+        storageManager.saveElderly(original);
+        FileUtil.writeToFile(storageManager.getVolunteerFilePath(), "not json");
+        assertThrows(DataConversionException.class, () -> storageManager.read());
+    }
+
     @Test
     public void getElderlyFilePath() {
         assertNotNull(storageManager.getElderlyFilePath());
@@ -0,0 +1,156 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TestUtil.getTypicalFriendlyLink;
+import static seedu.address.testutil.TypicalElderly.ALICE;
+import static seedu.address.testutil.TypicalVolunteers.AMY;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.FriendlyLink;
+import seedu.address.model.ReadOnlyElderly;
+import seedu.address.storage.elderly.JsonElderlyStorage;
+import seedu.address.storage.pair.JsonPairStorage;
+import seedu.address.storage.volunteer.JsonVolunteerStorage;
+
+public class WriteBehindStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private WriteBehindStorage writeBehindStorage;
+
+    @BeforeEach
+    public void setUp() {
+        writeBehindStorage = new WriteBehindStorage(getStorageManager(
+                new JsonElderlyStorage(getTempFilePath("elderly"))));
+    }
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.resolve(fileName);
+    }
+
+    private StorageManager getStorageManager(JsonElderlyStorage elderlyStorage) {
+        JsonPairStorage pairStorage = new JsonPairStorage(getTempFilePath("pair"));
+        JsonVolunteerStorage volunteerStorage = new JsonVolunteerStorage(getTempFilePath("volunteer"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(getTempFilePath("prefs"));
+        return new StorageManager(pairStorage, elderlyStorage, volunteerStorage, userPrefsStorage);
+    }
+
+    @Test
+    public void constructor_nullStorage_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new WriteBehindStorage(null));
+    }
+
+    @Test
+    public void readSave() throws Exception {
+        FriendlyLink original = getTypicalFriendlyLink();
+        writeBehindStorage.saveElderly(original);
+        writeBehindStorage.saveVolunteer(original);
+        writeBehindStorage.savePair(original);
+        FriendlyLink retrieved = writeBehindStorage.read();
+        assertEquals(original, retrieved);
+    }
+
+    @Test
+    public void saveElderly_dataModifiedAfterSave_writesSnapshot() throws Exception {
+        FriendlyLink original = new FriendlyLink();
+        writeBehindStorage.saveElderly(original);
+        original.addElderly(ALICE);
+        writeBehindStorage.flush();
+        FriendlyLink retrieved = writeBehindStorage.read();
+        assertEquals(new FriendlyLink(), retrieved);
+    }
+
+    @Test
+    public void saveVolunteer_repeatedSaves_latestDataWritten() throws Exception {
+        FriendlyLink original = new FriendlyLink();
+        writeBehindStorage.saveVolunteer(original);
+        original.addVolunteer(AMY);
+        writeBehindStorage.saveVolunteer(original);
+        writeBehindStorage.flush();
+        FriendlyLink retrieved = writeBehindStorage.read();
+        assertEquals(original.getVolunteerList(), retrieved.getVolunteerList());
+    }
+
+    @Test
+    public void flush_writeFailed_throwsIoException() throws Exception {
+        writeBehindStorage = new WriteBehindStorage(getStorageManager(
+                new JsonElderlyIoExceptionThrowingStub(getTempFilePath("elderly"))));
+        writeBehindStorage.saveElderly(getTypicalFriendlyLink());
+        assertThrows(IOException.class, () -> writeBehindStorage.flush());
+
+        // failed write is retried on the next flush
+        assertThrows(IOException.class, () -> writeBehindStorage.flush());
+    }
+
+    @Test
+    public void saveElderly_writeSucceeds_runsOnSaved() throws Exception {
+        AtomicInteger savedCount = new AtomicInteger();
+        writeBehindStorage.saveElderly(getTypicalFriendlyLink(), savedCount::incrementAndGet);
+        writeBehindStorage.flush();
+        assertEquals(1, savedCount.get());
+    }
+
+    @Test
+    public void saveElderly_writeFails_reportsFailureWithoutRunningOnSaved() throws Exception {
+        JsonElderlyIoExceptionThrowingStub elderlyStorage =
+                new JsonElderlyIoExceptionThrowingStub(getTempFilePath("elderly"));
+        writeBehindStorage = new WriteBehindStorage(getStorageManager(elderlyStorage));
+        List<IOException> failures = new CopyOnWriteArrayList<>();
+        writeBehindStorage.setWriteFailureHandler(failures::add);
+        AtomicInteger savedCount = new AtomicInteger();
+
+        writeBehindStorage.saveElderly(getTypicalFriendlyLink(), savedCount::incrementAndGet);
+        assertThrows(IOException.class, () -> writeBehindStorage.flush());
+        assertFalse(failures.isEmpty());
+        assertEquals(0, savedCount.get());
+
+        // a later save does not throw the earlier failure, and the pending write is retried with it
+        elderlyStorage.isFailing = false;
+        writeBehindStorage.saveVolunteer(getTypicalFriendlyLink());
+        writeBehindStorage.flush();
+        assertEquals(1, savedCount.get());
+    }
+
+    @Test
+    public void saveElderly_replacedBeforeWritten_runsEveryOnSaved() throws Exception {
+        AtomicInteger savedCount = new AtomicInteger();
+        FriendlyLink original = new FriendlyLink();
+        writeBehindStorage.saveElderly(original, savedCount::incrementAndGet);
+        original.addElderly(ALICE);
+        writeBehindStorage.saveElderly(original, savedCount::incrementAndGet);
+        writeBehindStorage.flush();
+        assertEquals(2, savedCount.get());
+        assertEquals(original.getElderlyList(), writeBehindStorage.read().getElderlyList());
+    }
+
+    /**
+     * A stub class to throw an {@code IOException} when the save method is called.
+     */
+    private static class JsonElderlyIoExceptionThrowingStub extends JsonElderlyStorage {
+        private volatile boolean isFailing = true;
+
+        private JsonElderlyIoExceptionThrowingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveElderly(ReadOnlyElderly elderly, Path filePath) throws IOException {
+            if (isFailing) {
+                throw new IOException("dummy exception");
+            }
+            super.saveElderly(elderly, filePath);
+        }
+    }
+}